@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.puppycrawl.tools.checkstyle.Checker;
+import com.puppycrawl.tools.checkstyle.ConfigurationLoader;
+import com.puppycrawl.tools.checkstyle.DefaultConfiguration;
+import com.puppycrawl.tools.checkstyle.PropertiesExpander;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.Configuration;
+
+/**
+ * Utilities shared by the benchmarks
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+public final class BenchmarkSupport {
+
+    /**
+     * The seed of the generated inputs, so all benchmark runs process the same files
+     */
+    public static final long SEED = 20251017L;
+
+    /**
+     * The Checkstyle configuration with all custom checks
+     */
+    public static final String CHECKSTYLE_RULESET = "benchmarks/checkstyle.xml";
+
+    private static final String TREE_WALKER = "TreeWalker";
+
+    private BenchmarkSupport() {
+        // Hidden utility class constructor
+    }
+
+    /**
+     * @return the location of the Checkstyle configuration with all custom checks
+     */
+    public static String getRulesetLocation() {
+        URL url = BenchmarkSupport.class.getClassLoader().getResource(CHECKSTYLE_RULESET);
+        if (url == null) {
+            throw new IllegalStateException("Missing resource " + CHECKSTYLE_RULESET);
+        }
+        return url.toExternalForm();
+    }
+
+    /**
+     * Loads the configuration of a single check from the configuration with all custom checks
+     *
+     * @param checkName the simple class name of the check
+     * @return the configuration of the checker with only the check
+     * @throws CheckstyleException if the configuration cannot be loaded or does not contain the check
+     */
+    public static Configuration loadCheckConfiguration(String checkName) throws CheckstyleException {
+        DefaultConfiguration configuration = (DefaultConfiguration) ConfigurationLoader.loadConfiguration(
+                getRulesetLocation(), new PropertiesExpander(System.getProperties()),
+                ConfigurationLoader.IgnoredModulesOptions.OMIT);
+        boolean found = false;
+        for (Configuration child : configuration.getChildren()) {
+            if (TREE_WALKER.equals(child.getName())) {
+                DefaultConfiguration treeWalker = (DefaultConfiguration) child;
+                for (Configuration check : treeWalker.getChildren()) {
+                    if (isCheck(check, checkName)) {
+                        found = true;
+                    } else {
+                        treeWalker.removeChild(check);
+                    }
+                }
+                if (treeWalker.getChildren().length == 0) {
+                    configuration.removeChild(treeWalker);
+                }
+            } else if (isCheck(child, checkName)) {
+                found = true;
+            } else {
+                configuration.removeChild(child);
+            }
+        }
+        if (!found) {
+            throw new CheckstyleException("Unknown check " + checkName);
+        }
+        return configuration;
+    }
+
+    private static boolean isCheck(Configuration configuration, String checkName) {
+        String name = configuration.getName();
+        return checkName.equals(name.substring(name.lastIndexOf('.') + 1));
+    }
+
+    /**
+     * Creates a checker for a configuration
+     */
+    public static Checker createChecker(Configuration configuration)
+            throws CheckstyleException, UnsupportedEncodingException {
+        Checker checker = new Checker();
+        checker.setModuleClassLoader(BenchmarkSupport.class.getClassLoader());
+        checker.setCharset("UTF-8");
+        checker.configure(configuration);
+        return checker;
+    }
+
+    /**
+     * @return all files of a directory, sorted by path
+     */
+    public static List<File> listFiles(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            return paths.filter(Files::isRegularFile).sorted().map(Path::toFile).toList();
+        }
+    }
+
+    /**
+     * Deletes a directory with all files
+     */
+    public static void deleteDirectory(Path directory) throws IOException {
+        if (directory == null || !Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
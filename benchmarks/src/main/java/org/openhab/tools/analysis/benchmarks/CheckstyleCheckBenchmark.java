@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.benchmarks;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.puppycrawl.tools.checkstyle.Checker;
+
+/**
+ * Measures each custom Checkstyle check on its own, processing the files of a generated reactor like the
+ * <code>checkstyle</code> goal processes the files of a module.
+ * <p>
+ * The checker is created once per trial, so the measured time contains <code>beginProcessing</code>, the processing
+ * of every file and <code>finishProcessing</code>, but not the loading of the configuration.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CheckstyleCheckBenchmark {
+
+    @Param({ "AuthorContributionDescriptionCheck", "AuthorTagCheck", "AvoidScheduleAtFixedRateCheck",
+            "DeclarativeServicesDependencyInjectionCheck", "ForbiddenPackageUsageCheck", "InheritDocCheck",
+            "JavadocMethodStyleCheck", "KarafAddonFeatureCheck", "KarafFeatureCheck", "MarkdownCheck",
+            "MissingJavadocFilterCheck", "NoEmptyLineSeparatorCheck", "NullAnnotationsCheck", "OhInfXmlLabelCheck",
+            "OhInfXmlUsageCheck", "OhInfXmlValidationCheck", "OnlyTabIndentationCheck", "OptionalFieldCheck",
+            "OverridingParentPomConfigurationCheck", "ParameterizedRegexpHeaderCheck", "PomXmlCheck",
+            "RequiredFilesCheck" })
+    public String check;
+
+    /**
+     * The number of generated bundles
+     */
+    @Param({ "10", "100" })
+    public int bundles;
+
+    private Path directory;
+    private List<File> files;
+    private Checker checker;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("sat-checkstyle-benchmark");
+        ReactorCorpusGenerator generator = new ReactorCorpusGenerator(BenchmarkSupport.SEED);
+        generator.setBundles(bundles);
+        generator.generate(directory);
+        files = BenchmarkSupport.listFiles(directory);
+        checker = BenchmarkSupport.createChecker(BenchmarkSupport.loadCheckConfiguration(check));
+    }
+
+    @Benchmark
+    public int process() throws Exception {
+        return checker.process(files);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        checker.destroy();
+        BenchmarkSupport.deleteDirectory(directory);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.benchmarks;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.openhab.tools.analysis.tools.internal.ParallelCheckstyleExecutor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the native Checkstyle execution of a module in a fresh JVM with the execution in a long-lived JVM, like
+ * the Maven Daemon.
+ * <p>
+ * The cold benchmark runs a single execution in each fork, so it contains the class loading, the JIT compilation and
+ * the parsing of the configuration. The warm benchmark runs many executions in the same JVM, so the configuration
+ * comes from the cache and the checks are compiled.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CheckstyleStartupBenchmark {
+
+    /**
+     * The number of generated bundles of the module
+     */
+    @Param({ "10" })
+    public int bundles;
+
+    @Param({ "1", "4" })
+    public int threads;
+
+    private Path directory;
+    private List<File> files;
+    private File outputFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("sat-startup-benchmark");
+        ReactorCorpusGenerator generator = new ReactorCorpusGenerator(BenchmarkSupport.SEED);
+        generator.setBundles(bundles);
+        generator.generate(directory);
+        files = BenchmarkSupport.listFiles(directory);
+        outputFile = directory.resolve("target/checkstyle-result.xml").toFile();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(10)
+    public int cold() throws Exception {
+        return execute();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    @Fork(1)
+    public int warm() throws Exception {
+        return execute();
+    }
+
+    private int execute() throws Exception {
+        ParallelCheckstyleExecutor executor = new ParallelCheckstyleExecutor(threads,
+                CheckstyleStartupBenchmark.class.getClassLoader());
+        Properties properties = new Properties();
+        properties.putAll(System.getProperties());
+        return executor.execute(BenchmarkSupport.getRulesetLocation(), null, properties, files, "UTF-8", outputFile)
+                .size();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        BenchmarkSupport.deleteDirectory(directory);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.benchmarks;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.sourceforge.pmd.PMDConfiguration;
+import net.sourceforge.pmd.PmdAnalysis;
+import net.sourceforge.pmd.lang.java.JavaLanguageModule;
+import net.sourceforge.pmd.lang.rule.Rule;
+import net.sourceforge.pmd.lang.rule.RuleSet;
+import net.sourceforge.pmd.lang.rule.RuleSetLoader;
+
+/**
+ * Measures each custom PMD rule on its own, analyzing the Java files of the generated bundles.
+ * <p>
+ * The analysis runs on the benchmark thread and the analysis cache is disabled, so every invocation parses and
+ * analyzes all files.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PmdRuleBenchmark {
+
+    /**
+     * The ruleset of the sat-plugin with the custom rules
+     */
+    private static final String CUSTOM_RULESET = "rulesets/pmd/customrules.xml";
+
+    @Param({ "UseSLF4J", "ImplicitDefaultLocale", "ImplicitDefaultTimeZone", "SetDefaultLocale",
+            "SetDefaultTimeZone" })
+    public String rule;
+
+    /**
+     * The number of generated bundles
+     */
+    @Param({ "10", "100" })
+    public int bundles;
+
+    private Path directory;
+    private List<Path> javaFiles;
+    private PMDConfiguration configuration;
+    private RuleSet ruleSet;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("sat-pmd-benchmark");
+        ReactorCorpusGenerator generator = new ReactorCorpusGenerator(BenchmarkSupport.SEED);
+        generator.setBundles(bundles);
+        javaFiles = generator.generate(directory).stream().filter(file -> file.toString().endsWith(".java"))
+                .toList();
+
+        configuration = new PMDConfiguration();
+        configuration.setDefaultLanguageVersion(JavaLanguageModule.getInstance().getVersion("21"));
+        configuration.setThreads(0);
+        configuration.setIgnoreIncrementalAnalysis(true);
+
+        Rule customRule = RuleSetLoader.fromPmdConfig(configuration).loadFromResource(CUSTOM_RULESET)
+                .getRuleByName(rule);
+        if (customRule == null) {
+            throw new IllegalArgumentException("Unknown rule " + rule);
+        }
+        ruleSet = RuleSet.forSingleRule(customRule);
+    }
+
+    @Benchmark
+    public int analyze() {
+        try (PmdAnalysis analysis = PmdAnalysis.create(configuration)) {
+            analysis.addRuleSet(ruleSet);
+            javaFiles.forEach(analysis.files()::addFile);
+            return analysis.performAnalysisAndCollectReport().getViolations().size();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        BenchmarkSupport.deleteDirectory(directory);
+    }
+}
@@ -0,0 +1,350 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.benchmarks;
+
+import static org.openhab.tools.analysis.benchmarks.SyntheticInputGenerator.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates a reactor in the layout of the openHAB add-ons repository:
+ *
+ * <ul>
+ * <li>the reactor <code>pom.xml</code> with the <code>bundles</code> and <code>features</code> modules, so the
+ * <code>pom.xml</code> of every bundle has a chain of parents in the parent directories</li>
+ * <li>the bundles with Java sources, OH-INF XML files, a <code>feature.xml</code> and a README. Some bundles define
+ * bridge types in a <code>bridge.xml</code>, which are referenced by the thing types of the bundle.</li>
+ * <li>the aggregate features <code>openhab-addons</code> and <code>openhab-addons-external</code>, which contain the
+ * bundles</li>
+ * <li>optionally the result files of SpotBugs, Checkstyle and PMD in <code>target/code-analysis</code> of every
+ * bundle, as input of the report</li>
+ * </ul>
+ *
+ * The generated files violate the checks like real add-ons do, for example with wrong parents, bundles missing in the
+ * aggregate features and references to unknown bridges. The same seed and parameters always generate the same
+ * reactor.
+ * <p>
+ * The generator can be run from the command line with the target directory and the parameters as
+ * <code>name=value</code> arguments, for example:
+ *
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar org.openhab.tools.analysis.benchmarks.ReactorCorpusGenerator \
+ *     target/corpus bundles=500 javaFiles=20
+ * </pre>
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+public class ReactorCorpusGenerator {
+
+    public static final String BUNDLES_DIRECTORY = "bundles";
+    public static final String CODE_ANALYSIS_DIRECTORY = "target/code-analysis";
+
+    /**
+     * The feature files of the <code>KarafFeatureCheck</code>, separated by colons
+     */
+    public static final String FEATURE_XML_PATHS = "features/karaf/openhab-addons/src/main/feature/feature.xml:"
+            + "features/karaf/openhab-addons-external/src/main/feature/feature.xml";
+
+    private static final String FEATURES_ARTIFACT_ID = REACTOR_ARTIFACT_ID + ".features";
+    private static final String KARAF_GROUP_ID = ADDONS_GROUP_ID + ".features.karaf";
+    private static final String KARAF_ARTIFACT_ID = REACTOR_ARTIFACT_ID + ".features.karaf";
+    private static final List<String> AGGREGATE_FEATURES = List.of("openhab-addons", "openhab-addons-external");
+    private static final Path FEATURE_XML = Path.of("src", "main", "feature", "feature.xml");
+    private static final Path JAVA_SOURCES = Path.of("src", "main", "java");
+
+    private final SyntheticInputGenerator content;
+
+    private int bundles = 10;
+    private int javaFiles = 10;
+    private int thingTypes = 5;
+    private int configParameters = 3;
+    private int featureDependencies = 2;
+    private int readmeSections = 8;
+    private int violationsPerFile;
+
+    /**
+     * @param seed the seed of the random number generator
+     */
+    public ReactorCorpusGenerator(long seed) {
+        this.content = new SyntheticInputGenerator(seed);
+    }
+
+    /**
+     * @param bundles the number of bundles, 10 by default
+     */
+    public void setBundles(int bundles) {
+        this.bundles = bundles;
+    }
+
+    /**
+     * @param javaFiles the number of Java files of each bundle, 10 by default
+     */
+    public void setJavaFiles(int javaFiles) {
+        this.javaFiles = javaFiles;
+    }
+
+    /**
+     * @param thingTypes the number of thing types of each bundle, 5 by default
+     */
+    public void setThingTypes(int thingTypes) {
+        this.thingTypes = thingTypes;
+    }
+
+    /**
+     * @param configParameters the number of parameters of each config description, 3 by default
+     */
+    public void setConfigParameters(int configParameters) {
+        this.configParameters = configParameters;
+    }
+
+    /**
+     * @param featureDependencies the number of dependencies in the <code>feature.xml</code> of each bundle, 2 by
+     *            default
+     */
+    public void setFeatureDependencies(int featureDependencies) {
+        this.featureDependencies = featureDependencies;
+    }
+
+    /**
+     * @param readmeSections the number of sections of the README of each bundle, 8 by default
+     */
+    public void setReadmeSections(int readmeSections) {
+        this.readmeSections = readmeSections;
+    }
+
+    /**
+     * @param violationsPerFile the maximal number of violations of a file in the tool result files, 0 by default to
+     *            generate no result files
+     */
+    public void setViolationsPerFile(int violationsPerFile) {
+        this.violationsPerFile = violationsPerFile;
+    }
+
+    /**
+     * Generates the reactor
+     *
+     * @param root the root directory of the reactor
+     * @return the generated source files, without the tool result files
+     * @throws IOException if a file cannot be written
+     */
+    public List<Path> generate(Path root) throws IOException {
+        List<String> bindingIds = new ArrayList<>();
+        for (int i = 0; i < bundles; i++) {
+            bindingIds.add(content.identifier(i));
+        }
+        List<String> artifactIds = bindingIds.stream().map(bindingId -> BINDING_PREFIX + bindingId).toList();
+
+        List<Path> files = new ArrayList<>();
+        files.add(write(root.resolve("pom.xml"), content.pomXml("org.openhab", "openhab-super-pom", ADDONS_GROUP_ID,
+                REACTOR_ARTIFACT_ID, "pom", List.of(BUNDLES_DIRECTORY, "features"))));
+        files.add(write(root.resolve(Path.of(BUNDLES_DIRECTORY, "pom.xml")), content.pomXml(ADDONS_GROUP_ID,
+                REACTOR_ARTIFACT_ID, BUNDLES_GROUP_ID, BUNDLES_PARENT_ARTIFACT_ID, "pom", artifactIds)));
+        for (String bindingId : bindingIds) {
+            files.addAll(writeBundle(root.resolve(BUNDLES_DIRECTORY), bindingId));
+        }
+        files.addAll(writeFeatures(root.resolve("features"), artifactIds));
+        return files;
+    }
+
+    /**
+     * Writes the features modules with the aggregate features. Most bundles are added to the first aggregate feature,
+     * some to the second one and some to none.
+     */
+    private List<Path> writeFeatures(Path featuresDirectory, List<String> artifactIds) throws IOException {
+        List<List<String>> aggregatedArtifactIds = new ArrayList<>();
+        for (int i = 0; i < AGGREGATE_FEATURES.size(); i++) {
+            aggregatedArtifactIds.add(new ArrayList<>());
+        }
+        for (String artifactId : artifactIds) {
+            // A bundle that is in none of the aggregate features is reported by the KarafFeatureCheck
+            if (!content.violation()) {
+                aggregatedArtifactIds.get(content.nextInt(4) == 0 ? 1 : 0).add(artifactId);
+            }
+        }
+
+        List<Path> files = new ArrayList<>();
+        files.add(write(featuresDirectory.resolve("pom.xml"), content.pomXml(ADDONS_GROUP_ID, REACTOR_ARTIFACT_ID,
+                ADDONS_GROUP_ID + ".features", FEATURES_ARTIFACT_ID, "pom", List.of("karaf"))));
+        Path karafDirectory = featuresDirectory.resolve("karaf");
+        files.add(write(karafDirectory.resolve("pom.xml"), content.pomXml(ADDONS_GROUP_ID + ".features",
+                FEATURES_ARTIFACT_ID, KARAF_GROUP_ID, KARAF_ARTIFACT_ID, "pom", AGGREGATE_FEATURES)));
+        for (int i = 0; i < AGGREGATE_FEATURES.size(); i++) {
+            String featureName = AGGREGATE_FEATURES.get(i);
+            Path featureDirectory = karafDirectory.resolve(featureName);
+            files.add(write(featureDirectory.resolve("pom.xml"), content.pomXml(KARAF_GROUP_ID, KARAF_ARTIFACT_ID,
+                    null, KARAF_GROUP_ID + "." + featureName, "feature", List.of())));
+            files.add(write(featureDirectory.resolve(FEATURE_XML),
+                    content.aggregateFeatureXml(featureName, aggregatedArtifactIds.get(i))));
+        }
+        return files;
+    }
+
+    /**
+     * Writes an add-on bundle in the layout of the openHAB add-ons repository
+     */
+    private List<Path> writeBundle(Path bundlesDirectory, String bindingId) throws IOException {
+        String artifactId = BINDING_PREFIX + bindingId;
+        Path bundle = bundlesDirectory.resolve(artifactId);
+        List<Path> files = new ArrayList<>();
+
+        files.add(write(bundle.resolve("pom.xml"),
+                content.pomXml(BUNDLES_GROUP_ID, BUNDLES_PARENT_ARTIFACT_ID, null, artifactId, "jar", List.of())));
+        files.add(write(bundle.resolve("README.md"),
+                content.readme(capitalize(bindingId) + " Binding", readmeSections)));
+        files.add(write(bundle.resolve(FEATURE_XML), content.featureXml(artifactId, featureDependencies)));
+
+        String packageName = artifactId + ".internal";
+        Path sources = bundle.resolve(JAVA_SOURCES).resolve(packageName.replace('.', '/'));
+        List<Path> javaSources = new ArrayList<>();
+        for (int i = 0; i < javaFiles; i++) {
+            String className = content.className(i, "Handler");
+            javaSources.add(write(sources.resolve(className + ".java"),
+                    content.javaClass(packageName, className, 3 + content.nextInt(10))));
+        }
+        files.addAll(javaSources);
+
+        Path ohInf = bundle.resolve(Path.of("src", "main", "resources", "OH-INF"));
+        files.add(write(ohInf.resolve(Path.of("addon", "addon.xml")), content.addonXml(bindingId)));
+        List<String> configUris = new ArrayList<>();
+        List<String> bridgeIds = new ArrayList<>();
+        if (content.nextInt(2) == 0) {
+            bridgeIds.add("bridge");
+            // A bridge that is not referenced by a thing type is reported by the OhInfXmlUsageCheck
+            List<String> definedBridgeIds = content.violation() ? List.of("bridge", "unused") : bridgeIds;
+            String bridgeTypesXml = content.bridgeTypesXml(bindingId, definedBridgeIds);
+            files.add(write(ohInf.resolve(Path.of("thing", "bridge.xml")), bridgeTypesXml));
+            configUris.addAll(configUris(bridgeTypesXml));
+        }
+        String thingTypesXml = content.thingTypesXml(bindingId, thingTypes, bridgeIds);
+        files.add(write(ohInf.resolve(Path.of("thing", "thing-types.xml")), thingTypesXml));
+        configUris.addAll(configUris(thingTypesXml));
+        if (content.violation()) {
+            // An unused config description is reported by the OhInfXmlUsageCheck
+            configUris.add("thing-type:" + bindingId + ":unused");
+        }
+        files.add(write(ohInf.resolve(Path.of("config", "config.xml")),
+                content.configDescriptionsXml(configUris, configParameters)));
+
+        if (violationsPerFile > 0) {
+            writeToolResults(bundle, files, javaSources);
+        }
+        return files;
+    }
+
+    /**
+     * @return the referenced config description URIs of a thing descriptions file, without some of them, so the
+     *         OhInfXmlUsageCheck reports missing config descriptions
+     */
+    private List<String> configUris(String thingDescriptionsXml) {
+        List<String> uris = new ArrayList<>();
+        String prefix = "config-description-ref uri=\"";
+        for (int index = thingDescriptionsXml.indexOf(prefix); index >= 0; index = thingDescriptionsXml
+                .indexOf(prefix, index + 1)) {
+            int start = index + prefix.length();
+            if (!content.violation()) {
+                uris.add(thingDescriptionsXml.substring(start, thingDescriptionsXml.indexOf('"', start)));
+            }
+        }
+        return uris;
+    }
+
+    /**
+     * Writes the result files of the analysis tools like the <code>sat-plugin</code> does before the report
+     */
+    private void writeToolResults(Path bundle, List<Path> files, List<Path> javaSources) throws IOException {
+        Path codeAnalysis = bundle.resolve(CODE_ANALYSIS_DIRECTORY);
+        List<String> fileNames = files.stream().map(file -> file.toAbsolutePath().toString()).toList();
+        List<String> javaFileNames = javaSources.stream().map(file -> file.toAbsolutePath().toString()).toList();
+        List<String> classNames = javaSources.stream().map(file -> {
+            String path = bundle.resolve(JAVA_SOURCES).relativize(file).toString();
+            return path.substring(0, path.length() - ".java".length()).replace(file.getFileSystem().getSeparator(),
+                    ".");
+        }).toList();
+        write(codeAnalysis.resolve("checkstyle-result.xml"), content.checkstyleResult(fileNames, violationsPerFile));
+        write(codeAnalysis.resolve("pmd.xml"), content.pmdResult(javaFileNames, violationsPerFile));
+        write(codeAnalysis.resolve("spotbugsXml.xml"), content.spotbugsResult(classNames, violationsPerFile));
+    }
+
+    /**
+     * Writes a file and creates its parent directories
+     *
+     * @return the file
+     */
+    private static Path write(Path file, String text) throws IOException {
+        Files.createDirectories(file.getParent());
+        return Files.writeString(file, text);
+    }
+
+    /**
+     * Generates a reactor
+     *
+     * @param args the root directory of the reactor, followed by parameters as <code>name=value</code>: seed,
+     *            bundles, javaFiles, thingTypes, configParameters, featureDependencies, readmeSections and
+     *            violationsPerFile
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: ReactorCorpusGenerator <directory> [name=value...]");
+            System.exit(1);
+        }
+        long seed = BenchmarkSupport.SEED;
+        List<String[]> parameters = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            String[] parameter = args[i].split("=", 2);
+            if (parameter.length != 2) {
+                throw new IllegalArgumentException("Invalid parameter " + args[i] + ", expected name=value");
+            }
+            if ("seed".equals(parameter[0])) {
+                seed = Long.parseLong(parameter[1]);
+            } else {
+                parameters.add(parameter);
+            }
+        }
+
+        ReactorCorpusGenerator generator = new ReactorCorpusGenerator(seed);
+        for (String[] parameter : parameters) {
+            int value = Integer.parseInt(parameter[1]);
+            switch (parameter[0]) {
+                case "bundles":
+                    generator.setBundles(value);
+                    break;
+                case "javaFiles":
+                    generator.setJavaFiles(value);
+                    break;
+                case "thingTypes":
+                    generator.setThingTypes(value);
+                    break;
+                case "configParameters":
+                    generator.setConfigParameters(value);
+                    break;
+                case "featureDependencies":
+                    generator.setFeatureDependencies(value);
+                    break;
+                case "readmeSections":
+                    generator.setReadmeSections(value);
+                    break;
+                case "violationsPerFile":
+                    generator.setViolationsPerFile(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown parameter " + parameter[0]);
+            }
+        }
+        List<Path> files = generator.generate(Path.of(args[0]));
+        System.out.println("Generated " + files.size() + " files in " + args[0]);
+    }
+}
@@ -0,0 +1,552 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Generates the content of the files of openHAB add-ons - Java sources, OH-INF XML files, <code>pom.xml</code> and
+ * <code>feature.xml</code> files and READMEs - and the result files of the analysis tools.
+ * <p>
+ * The content is derived from a seeded {@link Random}, so the same seed always generates the same files. About one
+ * in four generated constructs violates a check, so the checks report violations as they do for real add-ons.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+public class SyntheticInputGenerator {
+
+    public static final String VERSION = "5.1.0-SNAPSHOT";
+    public static final String ADDONS_GROUP_ID = "org.openhab.addons";
+    public static final String BUNDLES_GROUP_ID = "org.openhab.addons.bundles";
+    public static final String REACTOR_ARTIFACT_ID = "org.openhab.addons.reactor";
+    public static final String BUNDLES_PARENT_ARTIFACT_ID = "org.openhab.addons.reactor.bundles";
+    public static final String BINDING_PREFIX = "org.openhab.binding.";
+
+    private static final String HEADER = """
+            /*
+             * Copyright (c) 2010-2025 Contributors to the openHAB project
+             *
+             * See the NOTICE file(s) distributed with this work for additional
+             * information.
+             *
+             * This program and the accompanying materials are made available under the
+             * terms of the Eclipse Public License 2.0 which is available at
+             * http://www.eclipse.org/legal/epl-2.0
+             *
+             * SPDX-License-Identifier: EPL-2.0
+             */
+            """;
+
+    private static final String[] WORDS = { "temperature", "humidity", "power", "energy", "switch", "dimmer",
+            "color", "status", "signal", "battery", "door", "window", "motion", "pressure", "level", "mode", "scene",
+            "volume", "channel", "update" };
+
+    private final Random random;
+
+    /**
+     * @param seed the seed of the random number generator
+     */
+    public SyntheticInputGenerator(long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * @return <code>true</code> with a probability of one in four, used to place violations
+     */
+    public boolean violation() {
+        return random.nextInt(4) == 0;
+    }
+
+    /**
+     * @return a random number between 0 (inclusive) and the bound (exclusive)
+     */
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    /**
+     * Generates an identifier like a binding ID, which is unique for different indexes
+     */
+    public String identifier(int index) {
+        return word() + index;
+    }
+
+    /**
+     * Generates a class name, which is unique for different indexes
+     */
+    public String className(int index, String suffix) {
+        return capitalize(word()) + index + suffix;
+    }
+
+    private String word() {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+    static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+
+    /**
+     * Generates the source of a thing handler like class
+     *
+     * @param packageName the package of the class
+     * @param className the simple name of the class
+     * @param methods the number of methods of the class
+     * @return the Java source
+     */
+    public String javaClass(String packageName, String className, int methods) {
+        StringBuilder source = new StringBuilder(HEADER);
+        source.append("package ").append(packageName).append(";\n\n");
+        source.append("import java.util.Optional;\n");
+        source.append("import java.util.TimeZone;\n");
+        source.append("import java.util.concurrent.ScheduledExecutorService;\n");
+        source.append("import java.util.concurrent.TimeUnit;\n\n");
+        if (violation()) {
+            source.append("import com.google.common.collect.ImmutableList;\n");
+        }
+        source.append("import org.eclipse.jdt.annotation.NonNullByDefault;\n");
+        source.append("import org.osgi.service.component.annotations.Reference;\n");
+        boolean julLogger = violation();
+        source.append(julLogger ? "import java.util.logging.Logger;\n\n" : "import org.slf4j.Logger;\n"
+                + "import org.slf4j.LoggerFactory;\n\n");
+
+        source.append("/**\n * The {@link ").append(className).append("} handles the ").append(word())
+                .append(" commands of the device.\n *\n");
+        if (!violation()) {
+            source.append(" * @author Jane Doe - Initial contribution\n");
+        }
+        source.append(" */\n");
+        if (!violation()) {
+            source.append("@NonNullByDefault\n");
+        }
+        source.append("public class ").append(className).append(" {\n\n");
+        source.append(julLogger ? "    private final Logger logger = Logger.getLogger(\"" + className + "\");\n"
+                : "    private final Logger logger = LoggerFactory.getLogger(" + className + ".class);\n");
+        if (violation()) {
+            source.append("    private Optional<String> lastState = Optional.empty();\n");
+        }
+        if (violation()) {
+            source.append("\n    @Reference\n    protected Object ").append(word()).append("Service;\n");
+        }
+        source.append("    private final ScheduledExecutorService scheduler;\n\n");
+        source.append("    public ").append(className).append("(ScheduledExecutorService scheduler) {\n");
+        source.append("        this.scheduler = scheduler;\n    }\n");
+
+        for (int i = 0; i < methods; i++) {
+            appendMethod(source, i);
+        }
+        source.append("}\n");
+        return source.toString();
+    }
+
+    private void appendMethod(StringBuilder source, int index) {
+        String name = word() + index;
+        source.append("\n    /**\n");
+        if (violation()) {
+            source.append("     * {@inheritDoc}\n");
+        } else {
+            source.append("     * Handles the ").append(word()).append(" value.\n");
+        }
+        source.append("     *\n     * @param value the new value\n");
+        source.append(violation() ? "     * @return\n" : "     * @return the formatted value\n");
+        source.append("     */\n");
+        source.append("    public String ").append(name).append("(String value) {\n");
+        if (violation()) {
+            source.append("\n");
+        }
+        switch (random.nextInt(5)) {
+            case 0:
+                source.append("        String result = value.toLowerCase();\n");
+                break;
+            case 1:
+                source.append("        String result = value + TimeZone.getDefault().getID();\n");
+                break;
+            case 2:
+                source.append("        scheduler.scheduleAtFixedRate(() -> logger.info(value), 0, ")
+                        .append(random.nextInt(60) + 1).append(", TimeUnit.SECONDS);\n");
+                source.append("        String result = value;\n");
+                break;
+            default:
+                source.append("        String result = value.strip();\n");
+                break;
+        }
+        source.append("        if (result.isEmpty()) {\n            return \"").append(word())
+                .append("\";\n        }\n");
+        source.append("        return result;\n    }\n");
+    }
+
+    /**
+     * Generates a <code>bridge.xml</code>
+     *
+     * @param bindingId the ID of the binding
+     * @param bridgeIds the IDs of the bridge types
+     * @return the XML content
+     */
+    public String bridgeTypesXml(String bindingId, List<String> bridgeIds) {
+        StringBuilder xml = new StringBuilder();
+        appendThingDescriptionsStart(xml, bindingId);
+        for (String bridgeId : bridgeIds) {
+            xml.append("\t<bridge-type id=\"").append(bridgeId).append("\">\n");
+            xml.append("\t\t<label>").append(label()).append("</label>\n");
+            xml.append("\t\t<config-description-ref uri=\"bridge-type:").append(bindingId).append(':')
+                    .append(bridgeId).append("\"/>\n");
+            xml.append("\t</bridge-type>\n\n");
+        }
+        xml.append("</thing:thing-descriptions>\n");
+        return xml.toString();
+    }
+
+    /**
+     * Generates a <code>thing-types.xml</code>
+     *
+     * @param bindingId the ID of the binding
+     * @param thingTypes the number of thing types
+     * @param bridgeIds the IDs of the bridge types the thing types reference, they are defined in another file
+     * @return the XML content
+     */
+    public String thingTypesXml(String bindingId, int thingTypes, List<String> bridgeIds) {
+        StringBuilder xml = new StringBuilder();
+        appendThingDescriptionsStart(xml, bindingId);
+        for (int i = 0; i < thingTypes; i++) {
+            String thingId = word() + i;
+            xml.append("\t<thing-type id=\"").append(thingId).append("\">\n");
+            if (!bridgeIds.isEmpty()) {
+                xml.append("\t\t<supported-bridge-type-refs>\n");
+                // A reference to an unknown bridge is reported by the OhInfXmlUsageCheck
+                String bridgeId = violation() ? "unknown" + i : bridgeIds.get(random.nextInt(bridgeIds.size()));
+                xml.append("\t\t\t<bridge-type-ref id=\"").append(bridgeId).append("\"/>\n");
+                xml.append("\t\t</supported-bridge-type-refs>\n");
+            }
+            xml.append("\t\t<label>").append(label()).append("</label>\n");
+            xml.append("\t\t<description>").append(sentence()).append("</description>\n");
+            xml.append("\t\t<channels>\n");
+            int channels = 2 + random.nextInt(7);
+            for (int j = 0; j < channels; j++) {
+                String channel = word();
+                xml.append("\t\t\t<channel id=\"").append(channel).append(j).append("\" typeId=\"").append(channel)
+                        .append("\"/>\n");
+            }
+            xml.append("\t\t</channels>\n");
+            xml.append("\t\t<config-description-ref uri=\"thing-type:").append(bindingId).append(':')
+                    .append(thingId).append("\"/>\n");
+            xml.append("\t</thing-type>\n\n");
+        }
+        xml.append("</thing:thing-descriptions>\n");
+        return xml.toString();
+    }
+
+    private void appendThingDescriptionsStart(StringBuilder xml, String bindingId) {
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        xml.append("<thing:thing-descriptions bindingId=\"").append(bindingId).append("\"\n");
+        xml.append("\txmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"\n");
+        xml.append("\txmlns:thing=\"https://openhab.org/schemas/thing-description/v1.0.0\"\n");
+        xml.append("\txsi:schemaLocation=\"https://openhab.org/schemas/thing-description/v1.0.0 ")
+                .append("https://openhab.org/schemas/thing-description-1.0.0.xsd\">\n\n");
+    }
+
+    /**
+     * Generates a config description XML that describes the given URIs
+     *
+     * @param uris the URIs of the config descriptions
+     * @param parameters the number of parameters of each config description
+     * @return the XML content
+     */
+    public String configDescriptionsXml(List<String> uris, int parameters) {
+        StringBuilder xml = new StringBuilder();
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        xml.append("<config-description:config-descriptions\n");
+        xml.append("\txmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"\n");
+        xml.append("\txmlns:config-description=\"https://openhab.org/schemas/config-description/v1.0.0\"\n");
+        xml.append("\txsi:schemaLocation=\"https://openhab.org/schemas/config-description/v1.0.0 ")
+                .append("https://openhab.org/schemas/config-description-1.0.0.xsd\">\n\n");
+        for (String uri : uris) {
+            xml.append("\t<config-description uri=\"").append(uri).append("\">\n");
+            for (int i = 0; i < parameters; i++) {
+                xml.append("\t\t<parameter name=\"").append(word()).append(i).append("\" type=\"text\">\n");
+                xml.append("\t\t\t<label>").append(label()).append("</label>\n");
+                xml.append("\t\t\t<description>").append(sentence()).append("</description>\n");
+                xml.append("\t\t</parameter>\n");
+            }
+            xml.append("\t</config-description>\n\n");
+        }
+        xml.append("</config-description:config-descriptions>\n");
+        return xml.toString();
+    }
+
+    /**
+     * Generates an <code>addon.xml</code>
+     */
+    public String addonXml(String bindingId) {
+        return """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <addon:addon id="%1$s" xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance"
+                \txmlns:addon="https://openhab.org/schemas/addon/v1.0.0"
+                \txsi:schemaLocation="https://openhab.org/schemas/addon/v1.0.0 \
+                https://openhab.org/schemas/addon-1.0.0.xsd">
+
+                \t<type>binding</type>
+                \t<name>%2$s Binding</name>
+                \t<description>%3$s</description>
+                \t<connection>local</connection>
+
+                </addon:addon>
+                """.formatted(bindingId, capitalize(bindingId), sentence());
+    }
+
+    /**
+     * Generates a <code>pom.xml</code>
+     *
+     * @param parentGroupId the group ID of the parent
+     * @param parentArtifactId the artifact ID of the parent
+     * @param groupId the group ID of the project or <code>null</code> to inherit the group ID of the parent
+     * @param artifactId the artifact ID of the project
+     * @param packaging the packaging of the project
+     * @param modules the modules of the project
+     * @return the XML content
+     */
+    public String pomXml(String parentGroupId, String parentArtifactId, String groupId, String artifactId,
+            String packaging, List<String> modules) {
+        StringBuilder xml = new StringBuilder();
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n");
+        xml.append("<project xmlns=\"http://maven.apache.org/POM/4.0.0\" ")
+                .append("xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"\n");
+        xml.append("  xsi:schemaLocation=\"http://maven.apache.org/POM/4.0.0 ")
+                .append("https://maven.apache.org/xsd/maven-4.0.0.xsd\">\n\n");
+        xml.append("  <modelVersion>4.0.0</modelVersion>\n\n");
+        xml.append("  <parent>\n");
+        xml.append("    <groupId>").append(parentGroupId).append("</groupId>\n");
+        // A parent that is not the pom.xml of the parent directory is reported by the PomXmlCheck
+        xml.append("    <artifactId>").append(violation() ? parentArtifactId + ".wrong" : parentArtifactId)
+                .append("</artifactId>\n");
+        xml.append("    <version>").append(VERSION).append("</version>\n");
+        xml.append("  </parent>\n\n");
+        if (groupId != null) {
+            xml.append("  <groupId>").append(groupId).append("</groupId>\n");
+        }
+        xml.append("  <artifactId>").append(artifactId).append("</artifactId>\n");
+        if (violation()) {
+            // A version different from the parent version is reported by the PomXmlCheck
+            xml.append("  <version>").append(VERSION.replace("SNAPSHOT", "RC1")).append("</version>\n");
+        }
+        xml.append("  <packaging>").append(packaging).append("</packaging>\n\n");
+        xml.append("  <name>openHAB Add-ons :: ").append(capitalize(artifactId)).append("</name>\n");
+        if (!modules.isEmpty()) {
+            xml.append("\n  <modules>\n");
+            for (String module : modules) {
+                xml.append("    <module>").append(module).append("</module>\n");
+            }
+            xml.append("  </modules>\n");
+        }
+        xml.append("\n</project>\n");
+        return xml.toString();
+    }
+
+    /**
+     * Generates the <code>feature.xml</code> of a bundle
+     *
+     * @param artifactId the artifact ID of the bundle
+     * @param dependencies the number of additional feature and bundle dependencies
+     * @return the XML content
+     */
+    public String featureXml(String artifactId, int dependencies) {
+        String featureName = "openhab-" + artifactId.substring("org.openhab.".length()).replace('.', '-');
+        StringBuilder xml = new StringBuilder();
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n");
+        xml.append("<features name=\"").append(artifactId).append("-${project.version}\" ")
+                .append("xmlns=\"http://karaf.apache.org/xmlns/features/v1.4.0\">\n");
+        xml.append("\t<repository>mvn:org.openhab.core.features.karaf/org.openhab.core.features.karaf.openhab-core/")
+                .append("${ohc.version}/xml/features</repository>\n\n");
+        xml.append("\t<feature name=\"").append(violation() ? featureName + "-invalid" : featureName)
+                .append("\" description=\"").append(capitalize(word())).append(" Binding\" version=\"")
+                .append("${project.version}\">\n");
+        xml.append("\t\t<feature>openhab-runtime-base</feature>\n");
+        for (int i = 0; i < dependencies; i++) {
+            if (random.nextBoolean()) {
+                xml.append("\t\t<feature dependency=\"true\">openhab-transport-").append(word()).append("</feature>\n");
+            } else {
+                xml.append("\t\t<bundle dependency=\"true\">mvn:org.openhab.osgiify/").append(word()).append('/')
+                        .append(random.nextInt(10)).append(".0</bundle>\n");
+            }
+        }
+        xml.append("\t\t<bundle start-level=\"80\">mvn:").append(BUNDLES_GROUP_ID).append('/').append(artifactId)
+                .append("/${project.version}</bundle>\n");
+        xml.append("\t</feature>\n</features>\n");
+        return xml.toString();
+    }
+
+    /**
+     * Generates an aggregate <code>feature.xml</code>, which contains the bundles of many add-ons
+     *
+     * @param featureName the name of the aggregate feature
+     * @param bundleArtifactIds the artifact IDs of the contained bundles
+     * @return the XML content
+     */
+    public String aggregateFeatureXml(String featureName, List<String> bundleArtifactIds) {
+        StringBuilder xml = new StringBuilder();
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n");
+        xml.append("<features name=\"").append(ADDONS_GROUP_ID).append("-${project.version}\" ")
+                .append("xmlns=\"http://karaf.apache.org/xmlns/features/v1.4.0\">\n\n");
+        xml.append("\t<feature name=\"").append(featureName).append("\" description=\"openHAB Add-ons\" version=\"")
+                .append("${project.version}\">\n");
+        for (String artifactId : bundleArtifactIds) {
+            xml.append("\t\t<bundle start-level=\"80\">mvn:").append(BUNDLES_GROUP_ID).append('/').append(artifactId)
+                    .append("/${project.version}</bundle>\n");
+        }
+        xml.append("\t</feature>\n</features>\n");
+        return xml.toString();
+    }
+
+    /**
+     * Generates a README with sections of text, tables and code blocks
+     *
+     * @param title the title of the README
+     * @param sections the number of sections
+     * @return the Markdown content
+     */
+    public String readme(String title, int sections) {
+        StringBuilder markdown = new StringBuilder();
+        markdown.append("# ").append(title).append("\n\n").append(sentence()).append("\n");
+        for (int i = 0; i < sections; i++) {
+            markdown.append("\n## ").append(capitalize(word())).append(' ').append(i).append("\n\n");
+            markdown.append(sentence()).append(' ').append(sentence()).append("\n\n");
+            switch (random.nextInt(3)) {
+                case 0:
+                    markdown.append("| Channel | Type | Description |\n|---------|------|-------------|\n");
+                    for (int j = 0; j < 4; j++) {
+                        markdown.append("| ").append(word()).append(" | Number | ").append(sentence())
+                                .append(" |\n");
+                    }
+                    break;
+                case 1:
+                    markdown.append(violation() ? "```\n" : "```java\n");
+                    markdown.append("Thing ").append(word()).append(":device:1 [ host=\"192.168.0.")
+                            .append(random.nextInt(255)).append("\" ]\n```\n");
+                    break;
+                default:
+                    markdown.append("- [").append(word()).append("](https://www.openhab.org/docs/)\n");
+                    markdown.append("- ").append(sentence()).append('\n');
+                    break;
+            }
+        }
+        return markdown.toString();
+    }
+
+    /**
+     * Generates a Checkstyle result file
+     *
+     * @param files the checked files
+     * @param violationsPerFile the maximal number of violations of a file
+     * @return the XML content
+     */
+    public String checkstyleResult(List<String> files, int violationsPerFile) {
+        StringBuilder xml = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        xml.append("<checkstyle version=\"12.3.0\">\n");
+        String[] severities = { "error", "warning", "info" };
+        for (String file : files) {
+            xml.append("<file name=\"").append(file).append("\">\n");
+            for (int i = random.nextInt(violationsPerFile + 1); i > 0; i--) {
+                xml.append("<error line=\"").append(1 + random.nextInt(500)).append("\" column=\"")
+                        .append(1 + random.nextInt(80)).append("\" severity=\"")
+                        .append(severities[random.nextInt(severities.length)]).append("\" message=\"")
+                        .append(sentence()).append("\" source=\"org.openhab.tools.analysis.checkstyle.")
+                        .append(capitalize(word())).append("Check\"/>\n");
+            }
+            xml.append("</file>\n");
+        }
+        xml.append("</checkstyle>\n");
+        return xml.toString();
+    }
+
+    /**
+     * Generates a PMD result file
+     *
+     * @param files the checked files
+     * @param violationsPerFile the maximal number of violations of a file
+     * @return the XML content
+     */
+    public String pmdResult(List<String> files, int violationsPerFile) {
+        StringBuilder xml = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        xml.append("<pmd xmlns=\"http://pmd.sourceforge.net/report/2.0.0\" version=\"7.19.0\">\n");
+        for (String file : files) {
+            int violations = random.nextInt(violationsPerFile + 1);
+            if (violations == 0) {
+                continue;
+            }
+            xml.append("<file name=\"").append(file).append("\">\n");
+            for (int i = 0; i < violations; i++) {
+                int line = 1 + random.nextInt(500);
+                xml.append("<violation beginline=\"").append(line).append("\" endline=\"").append(line)
+                        .append("\" begincolumn=\"1\" endcolumn=\"40\" rule=\"").append(capitalize(word()))
+                        .append("\" ruleset=\"Custom Rules\" package=\"org.openhab.binding\" class=\"")
+                        .append(capitalize(word())).append("\" externalInfoUrl=\"\" priority=\"")
+                        .append(1 + random.nextInt(5)).append("\">\n").append(sentence()).append("\n</violation>\n");
+            }
+            xml.append("</file>\n");
+        }
+        xml.append("</pmd>\n");
+        return xml.toString();
+    }
+
+    /**
+     * Generates a SpotBugs result file
+     *
+     * @param classNames the analyzed classes
+     * @param bugsPerClass the maximal number of bugs of a class
+     * @return the XML content
+     */
+    public String spotbugsResult(List<String> classNames, int bugsPerClass) {
+        StringBuilder xml = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        xml.append("<BugCollection version=\"4.9.8\" sequence=\"0\" timestamp=\"0\" analysisTimestamp=\"0\" ")
+                .append("release=\"\">\n");
+        String[] categories = { "BAD_PRACTICE", "CORRECTNESS", "PERFORMANCE", "STYLE" };
+        for (String className : classNames) {
+            for (int i = random.nextInt(bugsPerClass + 1); i > 0; i--) {
+                int line = 1 + random.nextInt(500);
+                xml.append("  <BugInstance type=\"").append(word().toUpperCase(Locale.ROOT))
+                        .append("_BUG\" priority=\"").append(1 + random.nextInt(3)).append("\" category=\"")
+                        .append(categories[random.nextInt(categories.length)]).append("\">\n");
+                xml.append("    <ShortMessage>").append(sentence()).append("</ShortMessage>\n");
+                xml.append("    <LongMessage>").append(sentence()).append("</LongMessage>\n");
+                xml.append("    <Class classname=\"").append(className).append("\" primary=\"true\"/>\n");
+                xml.append("    <SourceLine classname=\"").append(className).append("\" start=\"").append(line)
+                        .append("\" end=\"").append(line).append("\" sourcepath=\"")
+                        .append(className.replace('.', '/')).append(".java\" primary=\"true\"/>\n");
+                xml.append("  </BugInstance>\n");
+            }
+        }
+        xml.append("</BugCollection>\n");
+        return xml.toString();
+    }
+
+    private String label() {
+        StringBuilder label = new StringBuilder(capitalize(word()));
+        // Long labels are reported by the OhInfXmlLabelCheck
+        int words = violation() ? 3 + random.nextInt(3) : 1 + random.nextInt(2);
+        for (int i = 1; i < words; i++) {
+            label.append(' ').append(capitalize(word()));
+        }
+        return label.toString();
+    }
+
+    private String sentence() {
+        StringBuilder sentence = new StringBuilder(capitalize(word()));
+        int words = 4 + random.nextInt(10);
+        for (int i = 1; i < words; i++) {
+            sentence.append(' ').append(word());
+        }
+        return sentence.append('.').toString();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.report;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openhab.tools.analysis.benchmarks.BenchmarkSupport;
+import org.openhab.tools.analysis.benchmarks.ReactorCorpusGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the reports of a whole generated reactor: the {@link ReportMojo} of every bundle appends its report to the
+ * summary, and the summary extension creates the HTML summary at the end of the build. The time per bundle shows how
+ * the report scales with the size of the reactor.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ReactorReportBenchmark {
+
+    @Param({ "XSLT", "STREAMING" })
+    public ReportEngine engine;
+
+    /**
+     * The number of generated bundles
+     */
+    @Param({ "10", "100", "500" })
+    public int bundles;
+
+    private Path directory;
+    private List<File> codeAnalysisDirectories;
+    private File summaryReportDirectory;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("sat-reactor-benchmark");
+        ReactorCorpusGenerator generator = new ReactorCorpusGenerator(BenchmarkSupport.SEED);
+        generator.setBundles(bundles);
+        generator.setViolationsPerFile(4);
+        generator.generate(directory);
+        try (Stream<Path> bundleDirectories = Files.list(directory.resolve(ReactorCorpusGenerator.BUNDLES_DIRECTORY))) {
+            codeAnalysisDirectories = bundleDirectories.filter(Files::isDirectory).sorted()
+                    .map(bundle -> bundle.resolve(ReactorCorpusGenerator.CODE_ANALYSIS_DIRECTORY).toFile()).toList();
+        }
+        summaryReportDirectory = directory.resolve(Path.of("target", "summary_report")).toFile();
+    }
+
+    /**
+     * Every build starts without a summary, like a clean build
+     */
+    @Setup(Level.Iteration)
+    public void deleteSummary() throws Exception {
+        BenchmarkSupport.deleteDirectory(summaryReportDirectory.toPath());
+    }
+
+    @Benchmark
+    public File build() throws Exception {
+        for (File codeAnalysisDirectory : codeAnalysisDirectories) {
+            ReportMojo mojo = new ReportMojo();
+            mojo.setLog(new QuietLog());
+            mojo.setTargetDirectory(codeAnalysisDirectory);
+            mojo.setSummaryReport(summaryReportDirectory);
+            mojo.setFailOnError(false);
+            mojo.setReportInMaven(false);
+            mojo.setReportEngine(engine);
+            mojo.execute();
+        }
+        SummaryReportHtmlGenerator summaryGenerator = new SummaryReportHtmlGenerator();
+        summaryGenerator.initialize();
+        return summaryGenerator.generateHtmlSummaryByRules(summaryReportDirectory.getPath(), engine);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        BenchmarkSupport.deleteDirectory(directory);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.report;
+
+import static org.openhab.tools.analysis.report.ReportUtil.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.plugin.MojoFailureException;
+import org.openhab.tools.analysis.benchmarks.BenchmarkSupport;
+import org.openhab.tools.analysis.benchmarks.SyntheticInputGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@link ReportMojo} with both report engines: the merge of the result files of SpotBugs, Checkstyle and
+ * PMD and the creation of the HTML report.
+ * <p>
+ * The benchmark is in the package of the {@link ReportMojo}, so it can select the engine like the tests do.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReportBenchmark {
+
+    @Param({ "XSLT", "STREAMING" })
+    public ReportEngine engine;
+
+    /**
+     * The number of files in the result files of each tool. Larger reports take minutes with the XSLT engine.
+     */
+    @Param({ "100", "1000" })
+    public int files;
+
+    private Path directory;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("sat-report-benchmark");
+        SyntheticInputGenerator generator = new SyntheticInputGenerator(BenchmarkSupport.SEED);
+        List<String> fileNames = new ArrayList<>();
+        List<String> classNames = new ArrayList<>();
+        for (int i = 0; i < files; i++) {
+            String className = "org.openhab.binding.bundle" + i / 20 + ".internal.Handler" + i;
+            classNames.add(className);
+            fileNames.add(directory.resolve(className.replace('.', '/') + ".java").toString());
+        }
+        Files.writeString(directory.resolve(CHECKSTYLE_INPUT_FILE_NAME), generator.checkstyleResult(fileNames, 4));
+        Files.writeString(directory.resolve(PMD_INPUT_FILE_NAME), generator.pmdResult(fileNames, 2));
+        Files.writeString(directory.resolve(FINDBUGS_INPUT_FILE_NAME), generator.spotbugsResult(classNames, 1));
+    }
+
+    @Benchmark
+    public void report() throws MojoFailureException {
+        ReportMojo mojo = new ReportMojo();
+        mojo.setLog(new QuietLog());
+        mojo.setTargetDirectory(directory.toFile());
+        mojo.setSummaryReport(null);
+        mojo.setFailOnError(false);
+        mojo.setReportInMaven(false);
+        mojo.setReportEngine(engine);
+        mojo.execute();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        BenchmarkSupport.deleteDirectory(directory);
+    }
+}
@@ -15,11 +15,10 @@ package org.openhab.tools.analysis.checkstyle;
 import static org.openhab.tools.analysis.checkstyle.api.CheckConstants.*;
 
 import java.io.File;
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -34,6 +33,9 @@ import javax.xml.xpath.XPathExpressionException;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.tools.analysis.checkstyle.api.AbstractStaticCheck;
+import org.openhab.tools.analysis.checkstyle.api.PomModel;
+import org.openhab.tools.analysis.checkstyle.api.PomModel.Coordinates;
+import org.openhab.tools.analysis.checkstyle.api.XmlLocation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.w3c.dom.Document;
@@ -47,6 +49,8 @@ import com.puppycrawl.tools.checkstyle.api.FileText;
  * Checks if an add-on has a valid feature.xml file.
  *
  * @author Hilbrand Bouwkamp - Initial contribution
+ * @author openHAB Contributors - Read the pom.xml files from the shared {@link PomModel}, report the lines of the
+ *         names from the parsed locations
  */
 @NonNullByDefault
 public class KarafAddonFeatureCheck extends AbstractStaticCheck {
@@ -60,15 +64,11 @@ public class KarafAddonFeatureCheck extends AbstractStaticCheck {
     public static final String MSG_BUNDLE_INVALID = "Invalid or missing bundle entry. Expected <bundle start-level=\"80\">{0}</bundle>";
 
     private static final String FEATURES_NAME_EXPRESSION = "//features[@name]/@name";
-    private static final String FEATURES_SEARCH = "<features";
     private static final String FEATURE_NAME_EXPRESSION = "//features/feature[@name]/@name";
-    private static final String FEATURE_SEARCH = "<feature ";
     private static final String BUNDLE_EXPRESSION = "//features/feature/bundle/text()";
     private static final String BUNDLE_SEARCH = "mvn:org.openhab.addons.bundles";
 
-    private static final String POM_ARTIFACT_ID_XPATH_EXPRESSION = "//project/artifactId/text()";
     private static final String POM_PARENT_ARTIFACT_ID = "org.openhab.addons.reactor.bundles";
-    private static final String POM_PARENT_ARTIFACT_ID_XPATH_EXPRESSION = "//project/parent/artifactId/text()";
 
     private final Logger logger = LoggerFactory.getLogger(KarafAddonFeatureCheck.class);
 
@@ -118,6 +118,12 @@ public class KarafAddonFeatureCheck extends AbstractStaticCheck {
         }
     }
 
+    @Override
+    @NonNullByDefault({})
+    protected Collection<String> getXPathExpressions() {
+        return List.of(FEATURES_NAME_EXPRESSION, FEATURE_NAME_EXPRESSION, BUNDLE_EXPRESSION);
+    }
+
     @Override
     protected void processFiltered(@Nullable File file, @Nullable FileText fileText) throws CheckstyleException {
         if (file == null || fileText == null) {
@@ -134,7 +140,7 @@ public class KarafAddonFeatureCheck extends AbstractStaticCheck {
     }
 
     private void checkMissingFeatureFile(File file, FileText fileText) throws CheckstyleException {
-        final String artifactId = getArtifactId(fileText);
+        final String artifactId = getArtifactId(readPomModel(fileText));
 
         if (artifactId == null) {
             logger.debug("{} will be skipped. Could not find Maven group ID (parent group ID) or artifact ID in {}",
@@ -155,29 +161,28 @@ public class KarafAddonFeatureCheck extends AbstractStaticCheck {
     }
 
     private void checkFeatureFile(File featureFile, FileText fileText) throws CheckstyleException {
-        try {
-            final String featureFileString = featureFile.getAbsoluteFile().toString();
-            String addonPath = featureFileString.replace(FEATURE_XML_PATH.toString(), "");
+        final String featureFileString = featureFile.getAbsoluteFile().toString();
+        String addonPath = featureFileString.replace(FEATURE_XML_PATH.toString(), "");
 
-            if (isExcludedAddon(new File(addonPath).getName())) {
-                logger.debug("Ignore check on excluded addon with feature name {}", featureFile);
-                return;
-            }
-            final FileText pomFile = new FileText(new File(addonPath, POM_XML_FILE_NAME),
-                    StandardCharsets.UTF_8.name());
-            final String artifactId = getArtifactId(pomFile);
+        if (isExcludedAddon(new File(addonPath).getName())) {
+            logger.debug("Ignore check on excluded addon with feature name {}", featureFile);
+            return;
+        }
+        final File pomFile = new File(addonPath, POM_XML_FILE_NAME);
+        if (!pomFile.isFile()) {
+            logger.error("Could not read {}", FEATURE_XML_PATH);
+            return;
+        }
+        final String artifactId = getArtifactId(readPomModel(pomFile));
 
-            if (artifactId == null) {
-                logger.debug("Ignore check on feature.xml with no bundle specific pom.xml: {}", featureFileString);
-            } else {
-                final Document featureXML = parseDomDocumentFromFile(fileText);
+        if (artifactId == null) {
+            logger.debug("Ignore check on feature.xml with no bundle specific pom.xml: {}", featureFileString);
+        } else {
+            final Document featureXML = parseDomDocumentWithLocations(fileText);
 
-                checkFeatures(featureFile, artifactId, fileText, featureXML);
-                checkFeature(featureFile, artifactId, fileText, featureXML);
-                checkBundle(featureFile, artifactId, fileText, featureXML);
-            }
-        } catch (IOException e) {
-            logger.error("Could not read {}", FEATURE_XML_PATH);
+            checkFeatures(featureFile, artifactId, featureXML);
+            checkFeature(featureFile, artifactId, featureXML);
+            checkBundle(featureFile, artifactId, fileText, featureXML);
         }
     }
 
@@ -185,17 +190,16 @@ public class KarafAddonFeatureCheck extends AbstractStaticCheck {
         return excludeAddonsList.stream().anyMatch(p -> p.matcher(parent).find());
     }
 
-    private void checkFeatures(File featureFile, String artifactId, FileText fileText, Document featureXML) {
-        checkName(featureFile, artifactId, fileText, featureXML, FEATURES_NAME_EXPRESSION,
-                name -> !artifactId.equals(name.substring(0, name.indexOf('-'))), MSG_FEATURES_NAME_INVALID,
-                FEATURES_SEARCH);
+    private void checkFeatures(File featureFile, String artifactId, Document featureXML) {
+        checkName(featureFile, artifactId, featureXML, FEATURES_NAME_EXPRESSION,
+                name -> !artifactId.equals(name.substring(0, name.indexOf('-'))), MSG_FEATURES_NAME_INVALID);
     }
 
-    private void checkFeature(File featureFile, String artifactId, FileText fileText, Document featureXML) {
+    private void checkFeature(File featureFile, String artifactId, Document featureXML) {
         final String featureName = adaptedFeatureName(artifactId);
 
-        checkName(featureFile, featureName, fileText, featureXML, FEATURE_NAME_EXPRESSION,
-                name -> !featureName.equals(name), MSG_FEATURE_NAME_INVALID, FEATURE_SEARCH);
+        checkName(featureFile, featureName, featureXML, FEATURE_NAME_EXPRESSION, name -> !featureName.equals(name),
+                MSG_FEATURE_NAME_INVALID);
     }
 
     private String adaptedFeatureName(String artifactId) {
@@ -208,8 +212,8 @@ public class KarafAddonFeatureCheck extends AbstractStaticCheck {
         return featureName;
     }
 
-    private void checkName(File featureFile, String expectedName, FileText fileText, Document featureXML,
-            String expression, Function<String, Boolean> checkFunction, String message, String lineSearchString) {
+    private void checkName(File featureFile, String expectedName, Document featureXML, String expression,
+            Function<String, Boolean> checkFunction, String message) {
         final Node featuresName = getFirstNode(featureXML, expression);
         final String errorMessage = MessageFormat.format(message, expectedName);
 
@@ -219,9 +223,8 @@ public class KarafAddonFeatureCheck extends AbstractStaticCheck {
             String name = featuresName.getNodeValue();
 
             if (name == null || checkFunction.apply(name)) {
-                logMessage(featureFile.getAbsolutePath(),
-                        findLineNumberSafe(fileText, lineSearchString, 0, errorMessage), featureFile.getName(),
-                        errorMessage);
+                logMessage(featureFile.getAbsolutePath(), XmlLocation.getLineNumber(featuresName),
+                        featureFile.getName(), errorMessage);
             }
         }
     }
@@ -251,13 +254,11 @@ public class KarafAddonFeatureCheck extends AbstractStaticCheck {
         }
     }
 
-    private @Nullable String getArtifactId(FileText fileText) throws CheckstyleException {
-        final Document documentXML = parseDomDocumentFromFile(fileText);
-        final Node artifactId = getFirstNode(documentXML, POM_ARTIFACT_ID_XPATH_EXPRESSION);
-        final Node parentArtifactId = getFirstNode(documentXML, POM_PARENT_ARTIFACT_ID_XPATH_EXPRESSION);
+    private @Nullable String getArtifactId(PomModel pom) {
+        final Coordinates parent = pom.getParent();
 
-        return artifactId == null || parentArtifactId == null
-                || !POM_PARENT_ARTIFACT_ID.equals(parentArtifactId.getNodeValue()) ? null : artifactId.getNodeValue();
+        return parent == null || !POM_PARENT_ARTIFACT_ID.equals(parent.getArtifactId()) ? null
+                : pom.getProject().getArtifactId();
     }
 
     private @Nullable Node getFirstNode(Document document, String xpathExpression) {
@@ -16,39 +16,60 @@ import static org.openhab.tools.analysis.checkstyle.api.CheckConstants.*;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.text.MessageFormat;
-
-import javax.xml.xpath.XPathConstants;
-import javax.xml.xpath.XPathExpression;
-import javax.xml.xpath.XPathExpressionException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.openhab.tools.analysis.checkstyle.api.AbstractStaticCheck;
+import org.openhab.tools.analysis.checkstyle.api.PomModel;
+import org.openhab.tools.analysis.checkstyle.api.XmlSubscriptions;
+import org.openhab.tools.analysis.utils.FileFingerprint;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.w3c.dom.Document;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 
 import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
 import com.puppycrawl.tools.checkstyle.api.FileText;
 
 /**
  * Checks if a bundle is added in a Karaf feature.xml file
+ * <p>
+ * The bundles of each feature file are read once into an index that is shared by all instances of the check in the
+ * JVM, so checking a pom.xml file is a lookup in the index. An index entry is read again when the contents of the
+ * feature file change, see {@link FileFingerprint}. The feature files found in the parent directories of the checked
+ * files are remembered until the end of the audit, so feature files that are added or removed later are found in the
+ * next audit.
  *
  * @author Svilen Valkanov - Initial contribution
+ * @author openHAB Contributors - Read the feature files as XML stream
+ * @author openHAB Contributors - Share an index of the feature file bundles, remember the resolved feature files,
+ *         read the pom.xml files from the shared {@link PomModel}
  */
 public class KarafFeatureCheck extends AbstractStaticCheck {
 
     private static final String MSG_MISSING_BUNDLE_IN_FEATURE_XML = "Bundle with ID '{0}' must be added in one of {1}";
     private static final String BINDING_ID_PATTERN = "mvn:{0}/{1}/{2}";
-    private static final String BINDING_FEATURE_EXPRESSION = "//features/feature/bundle[text()=\"{0}\"]";
-    private static final String POM_ARTIFACT_ID_XPATH_EXPRESSION = "//project/artifactId/text()";
-    private static final String POM_GROUP_ID_XPATH_EXPRESSION = "//project/groupId/text()";
-    private static final String POM_PARENT_GROUP_ID_XPATH_EXPRESSION = "//project/parent/groupId/text()";
+    private static final String FEATURE_BUNDLE_PATH = "//features/feature/bundle";
+
+    /**
+     * The bundles of the feature files by the absolute path of the feature file
+     */
+    private static final ConcurrentMap<Path, FeatureBundles> FEATURE_BUNDLES = new ConcurrentHashMap<>();
+
+    /**
+     * The resolved feature files of the current audit by the searched directory and the relative path of the feature
+     * file
+     */
+    private final Map<String, Path> resolvedFeaturePaths = new HashMap<>();
 
     private final Logger logger = LoggerFactory.getLogger(KarafFeatureCheck.class);
 
@@ -65,6 +86,12 @@ public class KarafFeatureCheck extends AbstractStaticCheck {
         this.featureXmlPath = featureXmlPath;
     }
 
+    @Override
+    public void finishProcessing() {
+        resolvedFeaturePaths.clear();
+        super.finishProcessing();
+    }
+
     @Override
     protected void processFiltered(File file, FileText fileText) throws CheckstyleException {
         if (POM_XML_FILE_NAME.equals(file.getName())) {
@@ -75,8 +102,6 @@ public class KarafFeatureCheck extends AbstractStaticCheck {
                 return;
             }
 
-            String expression = MessageFormat.format(BINDING_FEATURE_EXPRESSION, bundleId);
-
             String[] individualPaths = featureXmlPath.split(":");
 
             boolean isFound = false;
@@ -90,12 +115,7 @@ public class KarafFeatureCheck extends AbstractStaticCheck {
                 }
 
                 try {
-                    FileText featureFileText = new FileText(featurePath.toFile(), StandardCharsets.UTF_8.name());
-                    Document featureXML = parseDomDocumentFromFile(featureFileText);
-
-                    Node result = getFirstNode(featureXML, expression);
-
-                    if (result != null) {
+                    if (getFeatureBundles(featurePath).contains(bundleId)) {
                         isFound = true;
                         break;
                     }
@@ -110,43 +130,110 @@ public class KarafFeatureCheck extends AbstractStaticCheck {
         }
     }
 
-    private String getBundleId(FileText fileText) throws CheckstyleException {
-        Document featureXML = parseDomDocumentFromFile(fileText);
+    /**
+     * Returns the bundles of a feature file from the index, the feature file is read only if it is not indexed or its
+     * contents changed
+     */
+    private Set<String> getFeatureBundles(Path featurePath) throws IOException, CheckstyleException {
+        FeatureBundles featureBundles = FEATURE_BUNDLES.get(featurePath);
+        if (featureBundles != null && featureBundles.fingerprint.isUpToDate(featurePath)) {
+            return featureBundles.bundles;
+        }
+
+        FileFingerprint fingerprint = FileFingerprint.of(featurePath);
+        try {
+            // Concurrent checks of the same feature file wait until it is read once
+            return Objects.requireNonNull(FEATURE_BUNDLES.compute(featurePath, (path, current) -> {
+                if (current != null && current != featureBundles) {
+                    // Indexed again by a concurrent check
+                    return current;
+                }
+                try {
+                    return new FeatureBundles(readFeatureBundles(path), fingerprint);
+                } catch (CheckstyleException e) {
+                    throw new UncheckedCheckstyleException(e);
+                }
+            })).bundles;
+        } catch (UncheckedCheckstyleException e) {
+            throw e.getCheckstyleException();
+        }
+    }
+
+    private Set<String> readFeatureBundles(Path featurePath) throws CheckstyleException {
+        logger.debug("Indexing the bundles of {}", featurePath);
+        Set<String> bundles = new HashSet<>();
+        streamXml(featurePath.toFile(), new XmlSubscriptions().onElement(FEATURE_BUNDLE_PATH, bundle -> {
+            if (bundle.getText() != null) {
+                bundles.add(bundle.getText());
+            }
+        }));
+        return Set.copyOf(bundles);
+    }
 
-        Node artifactId = getFirstNode(featureXML, POM_ARTIFACT_ID_XPATH_EXPRESSION);
-        Node groupId = getFirstNode(featureXML, POM_GROUP_ID_XPATH_EXPRESSION);
-        Node parentGroupId = getFirstNode(featureXML, POM_PARENT_GROUP_ID_XPATH_EXPRESSION);
+    private String getBundleId(FileText fileText) throws CheckstyleException {
+        PomModel pom = readPomModel(fileText);
 
         // Maven allows us to skip adding the group ID if the parent element has group ID
+        String artifactId = pom.getProject().getArtifactId();
+        String groupId = pom.getEffectiveGroupId();
         if (artifactId != null && groupId != null) {
-            return MessageFormat.format(BINDING_ID_PATTERN, groupId.getNodeValue(), artifactId.getNodeValue(),
-                    "${project.version}");
-        } else if (artifactId != null && parentGroupId != null) {
-            return MessageFormat.format(BINDING_ID_PATTERN, parentGroupId.getNodeValue(), artifactId.getNodeValue(),
-                    "${project.version}");
+            return MessageFormat.format(BINDING_ID_PATTERN, groupId, artifactId, "${project.version}");
         } else {
             return null;
         }
     }
 
-    private Node getFirstNode(Document document, String xpathExpression) {
-        try {
-            XPathExpression artifactIdExpression = compileXPathExpression(xpathExpression);
-            return ((NodeList) artifactIdExpression.evaluate(document, XPathConstants.NODESET)).item(0);
-        } catch (CheckstyleException | XPathExpressionException e) {
-            logger.error("Could not evaluate XPath expression {}", xpathExpression, e);
-            return null;
-        }
-    }
-
+    /**
+     * Searches the relative path in the parent directories of a file. The feature files are found in the same parent
+     * directory for all bundles of a repository, so the result is remembered for each searched directory until the end
+     * of the audit.
+     */
     private Path resolveRecursively(Path absolute, Path relativePath) {
-        while (absolute.getNameCount() > 0) {
+        List<String> searchedDirectories = new ArrayList<>();
+        Path resolved = null;
+        while (resolved == null && absolute.getNameCount() > 0) {
             absolute = absolute.getParent();
-            Path resolved = absolute.resolve(relativePath);
-            if (Files.exists(resolved)) {
-                return resolved;
+            String key = absolute + File.pathSeparator + relativePath;
+            resolved = resolvedFeaturePaths.get(key);
+            if (resolved == null) {
+                searchedDirectories.add(key);
+                Path candidate = absolute.resolve(relativePath);
+                if (Files.exists(candidate)) {
+                    resolved = candidate;
+                }
             }
         }
-        return null;
+
+        if (resolved != null) {
+            for (String key : searchedDirectories) {
+                resolvedFeaturePaths.put(key, resolved);
+            }
+        }
+        return resolved;
+    }
+
+    private static class FeatureBundles {
+        private final Set<String> bundles;
+        private final FileFingerprint fingerprint;
+
+        FeatureBundles(Set<String> bundles, FileFingerprint fingerprint) {
+            this.bundles = bundles;
+            this.fingerprint = fingerprint;
+        }
+    }
+
+    private static class UncheckedCheckstyleException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private final CheckstyleException checkstyleException;
+
+        UncheckedCheckstyleException(CheckstyleException cause) {
+            super(cause);
+            this.checkstyleException = cause;
+        }
+
+        CheckstyleException getCheckstyleException() {
+            return checkstyleException;
+        }
     }
 }
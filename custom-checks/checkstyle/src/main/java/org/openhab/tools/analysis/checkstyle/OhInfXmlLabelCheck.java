@@ -15,10 +15,9 @@ package org.openhab.tools.analysis.checkstyle;
 import java.io.File;
 import java.text.MessageFormat;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -26,6 +25,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.openhab.tools.analysis.checkstyle.api.AbstractOhInfXmlCheck;
+import org.openhab.tools.analysis.checkstyle.api.XmlLocation;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
@@ -37,6 +37,7 @@ import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
  * Checks if all words in a label start with an uppercase character and if labels are not to long.
  *
  * @author Hilbrand Bouwkamp - Initial contribution
+ * @author openHAB Contributors - Report the lines of the labels from the parsed locations
  */
 public class OhInfXmlLabelCheck extends AbstractOhInfXmlCheck {
 
@@ -70,7 +71,6 @@ public class OhInfXmlLabelCheck extends AbstractOhInfXmlCheck {
             .singletonList(PARAMETER_LABEL_EXPRESSION);
 
     private static final Pattern TYPE_PATTERN = Pattern.compile("//([^\\/]+)");
-    private static final Pattern LABEL_PATTERN = Pattern.compile("<label>([^<]+)</label>");
 
     public static final String MESSAGE_LABEL_UPPERCASE = "Label of {0} with {1} ''''{2}'''' does not have uppercase first character for each word: ''''{3}''''";
     public static final String MESSAGE_MAX_LABEL_LENGTH = "Label of {0} with {1} ''''{2}'''' exceeds maximum length of %d characters with length {4}: ''''{3}''''";
@@ -110,6 +110,12 @@ public class OhInfXmlLabelCheck extends AbstractOhInfXmlCheck {
         this.doCheckWordCasing = Boolean.parseBoolean(check);
     }
 
+    @Override
+    protected Collection<String> getXPathExpressions() {
+        return Stream.of(ALL_CONFIG_EXPRESSIONS, ALL_THING_EXPRESSIONS, ALL_THING_CONFIG_EXPRESSIONS)
+                .flatMap(List::stream).collect(Collectors.toSet());
+    }
+
     @Override
     protected void checkConfigFile(final FileText xmlFileText) throws CheckstyleException {
         for (final String expression : ALL_CONFIG_EXPRESSIONS) {
@@ -135,7 +141,6 @@ public class OhInfXmlLabelCheck extends AbstractOhInfXmlCheck {
     private void evaluateExpressionOnFile(final FileText xmlFileText, final String xPathExpression, final String key)
             throws CheckstyleException {
         final String type = filterType(xPathExpression);
-        final Map<String, Integer> lineNumberMap = new HashMap<>();
         final NodeList nodes = getNodes(xmlFileText, xPathExpression);
         final File file = xmlFileText.getFile();
 
@@ -143,8 +148,8 @@ public class OhInfXmlLabelCheck extends AbstractOhInfXmlCheck {
             for (int i = 0; i < nodes.getLength(); i++) {
                 final String labelText = nodes.item(i).getNodeValue();
                 if (noI18NLabel(labelText)) {
-                    checkWordCasing(xmlFileText, lineNumberMap, key, type, nodes.item(i), file, labelText);
-                    checkLabelLength(xmlFileText, lineNumberMap, key, type, nodes.item(i), file, labelText);
+                    checkWordCasing(key, type, nodes.item(i), file, labelText);
+                    checkLabelLength(key, type, nodes.item(i), file, labelText);
                 }
             }
         }
@@ -160,8 +165,8 @@ public class OhInfXmlLabelCheck extends AbstractOhInfXmlCheck {
         return !labelText.startsWith(I18N_PREFIX);
     }
 
-    private void checkWordCasing(final FileText xmlFileText, final Map<String, Integer> lineNumberMap, final String key,
-            final String type, final Node node, final File file, final String labelText) {
+    private void checkWordCasing(final String key, final String type, final Node node, final File file,
+            final String labelText) {
         if (!doCheckWordCasing) {
             return;
         }
@@ -184,46 +189,30 @@ public class OhInfXmlLabelCheck extends AbstractOhInfXmlCheck {
                 log = true;
             }
             if (log) {
-                log(xmlFileText, lineNumberMap, MESSAGE_LABEL_UPPERCASE, key, type, node, file, labelText);
+                log(MESSAGE_LABEL_UPPERCASE, key, type, node, file, labelText);
                 return;
             }
         }
     }
 
-    private void checkLabelLength(final FileText xmlFileText, final Map<String, Integer> lineNumberMap,
-            final String key, final String type, final Node node, final File file, final String labelText) {
+    private void checkLabelLength(final String key, final String type, final Node node, final File file,
+            final String labelText) {
         if (labelText.length() > maxLabelLengthError) {
             final SeverityLevel configuredSeverityLevel = getSeverityLevel();
             setSeverity(SeverityLevel.ERROR.name());
-            log(xmlFileText, lineNumberMap, dynamicMessageMaxLabelLengthError, key, type, node, file, labelText);
+            log(dynamicMessageMaxLabelLengthError, key, type, node, file, labelText);
             setSeverity(configuredSeverityLevel.name());
         } else if (labelText.length() > maxLabelLength) {
-            log(xmlFileText, lineNumberMap, dynamicMessageMaxLabelLength, key, type, node, file, labelText);
+            log(dynamicMessageMaxLabelLength, key, type, node, file, labelText);
         }
     }
 
-    private void log(final FileText xmlFileText, final Map<String, Integer> lineNumberMap, final String message,
-            final String key, final String type, final Node node, final File file, final String labelText) {
-        lazyLoadMap(xmlFileText, lineNumberMap);
-        final Integer lineNr = lineNumberMap.get(labelText);
-
-        logMessage(file.getPath(), lineNr == null ? 0 : lineNr, file.getName(),
+    private void log(final String message, final String key, final String type, final Node node, final File file,
+            final String labelText) {
+        logMessage(file.getPath(), XmlLocation.getLineNumber(node), file.getName(),
                 MessageFormat.format(message, type, key, getReferenceId(key, node), labelText, labelText.length()));
     }
 
-    private void lazyLoadMap(final FileText xmlFileText, final Map<String, Integer> lineNumberMap) {
-        if (lineNumberMap.isEmpty()) {
-            final String[] lines = xmlFileText.getFullText().toString().split(System.lineSeparator());
-            for (int i = 0; i < lines.length; i++) {
-                final Matcher matcher = LABEL_PATTERN.matcher(lines[i]);
-
-                if (matcher.find()) {
-                    lineNumberMap.put(matcher.group(1), i + 1);
-                }
-            }
-        }
-    }
-
     private String getReferenceId(final String key, final Node node) {
         return node.getParentNode().getParentNode().getAttributes().getNamedItem(key).getNodeValue();
     }
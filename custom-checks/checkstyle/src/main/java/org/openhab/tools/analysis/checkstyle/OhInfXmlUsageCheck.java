@@ -18,7 +18,9 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.text.MessageFormat;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.stream.Stream;
@@ -54,6 +56,12 @@ public class OhInfXmlUsageCheck extends AbstractOhInfXmlCheck {
     private final Map<String, File> allSupportedBridges = new HashMap<>();
     private final Map<String, File> allBridgeTypes = new HashMap<>();
 
+    @Override
+    protected Collection<String> getXPathExpressions() {
+        return List.of(CONFIG_DESCRIPTION_EXPRESSION, CONFIG_DESCRIPTION_REF_EXPRESSION, BRIDGE_TYPE_EXPRESSION,
+                SUPPORTED_BRIDGE_TYPE_REF_EXPRESSION, CONFIGURABLE_SERVICE_REF_EXPRESSION);
+    }
+
     @Override
     public void finishProcessing() {
         // Check for missing supported bridge-type-refs.
@@ -79,6 +87,7 @@ public class OhInfXmlUsageCheck extends AbstractOhInfXmlCheck {
         }
 
         logMissingEntries(unusedConfigDescriptions, MESSAGE_UNUSED_URI_CONFIGURATION);
+        super.finishProcessing();
     }
 
     @Override
@@ -14,25 +14,26 @@ package org.openhab.tools.analysis.checkstyle;
 
 import static org.openhab.tools.analysis.checkstyle.api.CheckConstants.*;
 
-import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
-import java.net.URI;
-import java.net.URL;
+import java.io.StringReader;
 import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
-import javax.xml.XMLConstants;
 import javax.xml.transform.stream.StreamSource;
-import javax.xml.validation.Schema;
-import javax.xml.validation.SchemaFactory;
-import javax.xml.validation.Validator;
 
 import org.openhab.tools.analysis.checkstyle.api.AbstractOhInfXmlCheck;
 import org.openhab.tools.analysis.utils.CachingHttpClient;
-import org.openhab.tools.analysis.utils.ContentReceivedCallback;
+import org.openhab.tools.analysis.utils.SchemaStore;
+import org.openhab.tools.analysis.utils.ValidatorPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.xml.sax.SAXException;
@@ -48,8 +49,20 @@ import com.puppycrawl.tools.checkstyle.api.FileText;
  * @author Svilen Valkanov - Some code refactoring and cleanup,
  *         added check for the build.properties file,
  *         download schema files only once
+ * @author openHAB Contributors - Load schemas from a persistent schema store, validate files in parallel
  */
 public class OhInfXmlValidationCheck extends AbstractOhInfXmlCheck {
+    /**
+     * Seconds after which an idle validation thread is stopped
+     */
+    private static final long VALIDATION_THREAD_KEEP_ALIVE = 30;
+
+    /**
+     * Shared by the checks of concurrent Checkers. The threads are stopped when they are idle, so they do not keep the
+     * class loader of the checks alive in a long-lived JVM (e.g. the Maven Daemon) after the build.
+     */
+    private static final ExecutorService VALIDATION_EXECUTOR = createValidationExecutor();
+
     private final Logger logger = LoggerFactory.getLogger(OhInfXmlValidationCheck.class);
 
     private Map<Path, File> ohInfFiles = new HashMap<>();
@@ -57,15 +70,22 @@ public class OhInfXmlValidationCheck extends AbstractOhInfXmlCheck {
     private String thingSchema;
     private String addonSchema;
     private String configSchema;
+    private String schemaStoreDirectory;
 
-    private static Schema thingSchemaFile;
-    private static Schema addonSchemaFile;
-    private static Schema configSchemaFile;
+    private ValidatorPool thingValidators;
+    private ValidatorPool addonValidators;
+    private ValidatorPool configValidators;
+
+    /**
+     * The validations of the processed files in processing order
+     */
+    private final Map<File, Future<?>> validations = new LinkedHashMap<>();
 
     /**
      * Sets the configuration property for the thing schema file.
      *
-     * @param thingSchema URL of the thing schema file
+     * @param thingSchema URL of the thing schema file or a class path resource prefixed with
+     *            {@value SchemaStore#CLASSPATH_PREFIX}
      */
     public void setThingSchema(String thingSchema) {
         this.thingSchema = thingSchema;
@@ -74,7 +94,8 @@ public class OhInfXmlValidationCheck extends AbstractOhInfXmlCheck {
     /**
      * Sets the configuration property for the binding schema file.
      *
-     * @param addonSchema URL of the binding schema file
+     * @param addonSchema URL of the binding schema file or a class path resource prefixed with
+     *            {@value SchemaStore#CLASSPATH_PREFIX}
      */
     public void setAddonSchema(String addonSchema) {
         this.addonSchema = addonSchema;
@@ -83,7 +104,8 @@ public class OhInfXmlValidationCheck extends AbstractOhInfXmlCheck {
     /**
      * Sets the configuration property for the config schema file.
      *
-     * @param configSchema URL of the config schema file
+     * @param configSchema URL of the config schema file or a class path resource prefixed with
+     *            {@value SchemaStore#CLASSPATH_PREFIX}
      */
     public void setConfigSchema(String configSchema) {
         this.configSchema = configSchema;
@@ -93,70 +115,97 @@ public class OhInfXmlValidationCheck extends AbstractOhInfXmlCheck {
         setFileExtensions(XML_EXTENSION, PROPERTIES_EXTENSION);
     }
 
+    /**
+     * Sets the configuration property for the directory, in which downloaded schema files are stored.
+     *
+     * @param schemaStoreDirectory path of the directory, defaults to {@link SchemaStore#getDefaultDirectory()}
+     */
+    public void setSchemaStoreDirectory(String schemaStoreDirectory) {
+        this.schemaStoreDirectory = schemaStoreDirectory;
+    }
+
     @Override
     public void beginProcessing(String charset) {
-        ContentReceivedCallback<Schema> callback = new ContentReceivedCallback<>() {
-            SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-
-            @Override
-            public Schema transform(byte[] content) {
-                try {
-                    InputStream is = new ByteArrayInputStream(content);
-                    return schemaFactory.newSchema(new StreamSource(is));
-                } catch (SAXException e) {
-                    logger.error("Unable to parse schema", e);
-                    return null;
-                }
-            }
-        };
+        SchemaStore schemaStore = new SchemaStore(
+                schemaStoreDirectory != null ? Path.of(schemaStoreDirectory) : SchemaStore.getDefaultDirectory());
 
-        CachingHttpClient<Schema> cachingClient = new CachingHttpClient<>(callback);
-
-        addonSchemaFile = getXSD(addonSchema, cachingClient);
-        thingSchemaFile = getXSD(thingSchema, cachingClient);
-        configSchemaFile = getXSD(configSchema, cachingClient);
+        addonValidators = getXSD(addonSchema, schemaStore);
+        thingValidators = getXSD(thingSchema, schemaStore);
+        configValidators = getXSD(configSchema, schemaStore);
 
         super.beginProcessing(charset);
     }
 
+    @Override
+    public void finishProcessing() {
+        reportValidationResults();
+        logger.debug("HTTP client statistics: {}", CachingHttpClient.getStatistics());
+        super.finishProcessing();
+    }
+
     @Override
     protected void checkConfigFile(FileText xmlFileText) throws CheckstyleException {
-        File xmlFile = xmlFileText.getFile();
-        addToOhFiles(xmlFile);
-        validateXmlAgainstSchema(xmlFile, configSchemaFile);
+        addToOhFiles(xmlFileText.getFile());
+        validateXmlAgainstSchema(xmlFileText, configValidators);
     }
 
     @Override
     protected void checkAddonFile(FileText xmlFileText) throws CheckstyleException {
-        File xmlFile = xmlFileText.getFile();
-        addToOhFiles(xmlFile);
-        validateXmlAgainstSchema(xmlFile, addonSchemaFile);
+        addToOhFiles(xmlFileText.getFile());
+        validateXmlAgainstSchema(xmlFileText, addonValidators);
     }
 
     @Override
     protected void checkThingTypeFile(FileText xmlFileText) throws CheckstyleException {
-        File xmlFile = xmlFileText.getFile();
-        addToOhFiles(xmlFile);
-        validateXmlAgainstSchema(xmlFile, thingSchemaFile);
+        addToOhFiles(xmlFileText.getFile());
+        validateXmlAgainstSchema(xmlFileText, thingValidators);
+    }
+
+    /**
+     * Starts the validation of a file in the background. The file is validated from its content in memory, the
+     * results are reported in {@link #finishProcessing()}.
+     */
+    private void validateXmlAgainstSchema(FileText xmlFileText, ValidatorPool validatorPool) {
+        if (validatorPool != null) {
+            File xmlFile = xmlFileText.getFile();
+            String content = xmlFileText.getFullText().toString();
+            validations.put(xmlFile, VALIDATION_EXECUTOR.submit(() -> {
+                validatorPool.validate(new StreamSource(new StringReader(content), xmlFile.toURI().toString()));
+                return null;
+            }));
+        } else {
+            logger.warn("XML validation will be skipped as the schema file could not be loaded.");
+        }
     }
 
-    private void validateXmlAgainstSchema(File xmlFile, Schema schema) {
-        if (schema != null) {
+    /**
+     * Waits for the validations and reports their results in the order the files were processed, so the results do
+     * not depend on the order the validations complete.
+     */
+    private void reportValidationResults() {
+        for (Map.Entry<File, Future<?>> validation : validations.entrySet()) {
+            File xmlFile = validation.getKey();
             try {
-                Validator validator = schema.newValidator();
-                validator.validate(new StreamSource(xmlFile));
-            } catch (SAXParseException exception) {
-                String message = exception.getMessage();
-                // Removing the type of the logged message (For example - "cvc-complex-type.2.4.b: ...").
-                message = message.substring(message.indexOf(":") + 2);
-                int lineNumber = exception.getLineNumber();
-                logMessage(xmlFile.getAbsolutePath(), lineNumber, xmlFile.getName(), message);
-            } catch (IOException | SAXException e) {
-                logger.error("Problem occurred while parsing the file {}", xmlFile.getName(), e);
+                validation.getValue().get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.warn("Interrupted while validating the file {}", xmlFile.getName());
+                break;
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof SAXParseException exception) {
+                    String message = exception.getMessage();
+                    // Removing the type of the logged message (For example - "cvc-complex-type.2.4.b: ...").
+                    if (message != null) {
+                        message = message.substring(message.indexOf(":") + 2);
+                    }
+                    int lineNumber = exception.getLineNumber();
+                    logMessage(xmlFile.getAbsolutePath(), lineNumber, xmlFile.getName(), message);
+                } else {
+                    logger.error("Problem occurred while parsing the file {}", xmlFile.getName(), e.getCause());
+                }
             }
-        } else {
-            logger.warn("XML validation will be skipped as the schema file download failed.");
         }
+        validations.clear();
     }
 
     private void addToOhFiles(File xmlFile) {
@@ -166,13 +215,24 @@ public class OhInfXmlValidationCheck extends AbstractOhInfXmlCheck {
         ohInfFiles.put(relativePath, xmlFile);
     }
 
-    private Schema getXSD(String schemaUrlString, CachingHttpClient<Schema> client) {
+    private ValidatorPool getXSD(String schemaUrlString, SchemaStore schemaStore) {
         try {
-            URL schemaUrl = URI.create(schemaUrlString).toURL();
-            return client.get(schemaUrl);
-        } catch (IllegalArgumentException | IOException e) {
+            return schemaStore.getValidatorPool(schemaUrlString);
+        } catch (IOException | SAXException e) {
             logger.error("Unable to get XSD file {} : {}", schemaUrlString, e.getMessage(), e);
             return null;
         }
     }
+
+    private static ExecutorService createValidationExecutor() {
+        int threads = Runtime.getRuntime().availableProcessors();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, VALIDATION_THREAD_KEEP_ALIVE,
+                TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, OhInfXmlValidationCheck.class.getSimpleName());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
 }
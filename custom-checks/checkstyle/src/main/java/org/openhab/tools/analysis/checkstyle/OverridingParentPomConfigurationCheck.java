@@ -16,15 +16,8 @@ import static org.openhab.tools.analysis.checkstyle.api.CheckConstants.*;
 
 import java.io.File;
 
-import javax.xml.xpath.XPathConstants;
-import javax.xml.xpath.XPathExpression;
-import javax.xml.xpath.XPathExpressionException;
-
 import org.openhab.tools.analysis.checkstyle.api.AbstractStaticCheck;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.w3c.dom.Document;
-import org.w3c.dom.NodeList;
+import org.openhab.tools.analysis.checkstyle.api.XmlSubscriptions;
 
 import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
 import com.puppycrawl.tools.checkstyle.api.FileText;
@@ -33,11 +26,12 @@ import com.puppycrawl.tools.checkstyle.api.FileText;
  * Checks if a pom file overrides a configuration inherited by the parent pom.
  *
  * @author Aleksandar Kovachev - Initial contribution
+ * @author openHAB Contributors - Read the pom.xml as XML stream
  */
 public class OverridingParentPomConfigurationCheck extends AbstractStaticCheck {
-    private static final String POM_CONFIGURATION_EXPRESSION = "/project//*[@combine.self='override']/@combine.self";
-
-    private final Logger logger = LoggerFactory.getLogger(OverridingParentPomConfigurationCheck.class);
+    private static final String POM_CONFIGURATION_PATH = "/project//*";
+    private static final String COMBINE_SELF_ATTRIBUTE = "combine.self";
+    private static final String OVERRIDE = "override";
 
     public OverridingParentPomConfigurationCheck() {
         setFileExtensions(XML_EXTENSION);
@@ -49,27 +43,14 @@ public class OverridingParentPomConfigurationCheck extends AbstractStaticCheck {
             if (isEmpty(fileText)) {
                 log(0, "The pom.xml file should not be empty.");
             } else {
-                Document document = parseDomDocumentFromFile(fileText);
-
-                XPathExpression xpathExpression = compileXPathExpression(POM_CONFIGURATION_EXPRESSION);
-
-                NodeList nodes = null;
-                try {
-                    nodes = (NodeList) xpathExpression.evaluate(document, XPathConstants.NODESET);
-                } catch (XPathExpressionException e) {
-                    logger.error("An error has occurred while parsing the pom.xml. Check if the file is valid.", e);
-                }
-
-                if (nodes != null) {
-                    int lineNumber = 0;
-
-                    for (int i = 0; i < nodes.getLength(); i++) {
-                        String nodeValue = nodes.item(i).getNodeValue();
-                        lineNumber = findLineNumberSafe(fileText, nodeValue, lineNumber,
-                                "XML node line number not found.");
-                        log(lineNumber, "Avoid overriding a configuration inherited by the parent pom.");
-                    }
-                }
+                XmlSubscriptions subscriptions = new XmlSubscriptions().onAttribute(POM_CONFIGURATION_PATH,
+                        COMBINE_SELF_ATTRIBUTE, element -> {
+                            if (OVERRIDE.equals(element.getAttribute(COMBINE_SELF_ATTRIBUTE))) {
+                                log(element.getLineNumber(),
+                                        "Avoid overriding a configuration inherited by the parent pom.");
+                            }
+                        });
+                streamXml(fileText, subscriptions);
             }
         }
     }
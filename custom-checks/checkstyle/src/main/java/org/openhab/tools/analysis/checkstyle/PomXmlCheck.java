@@ -15,19 +15,11 @@ package org.openhab.tools.analysis.checkstyle;
 import static org.openhab.tools.analysis.checkstyle.api.CheckConstants.*;
 
 import java.io.File;
-import java.io.IOException;
 import java.text.MessageFormat;
-import java.util.Optional;
-
-import javax.xml.xpath.XPathConstants;
-import javax.xml.xpath.XPathExpression;
-import javax.xml.xpath.XPathExpressionException;
 
 import org.openhab.tools.analysis.checkstyle.api.AbstractStaticCheck;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.w3c.dom.Document;
-import org.w3c.dom.NodeList;
+import org.openhab.tools.analysis.checkstyle.api.PomModel;
+import org.openhab.tools.analysis.checkstyle.api.PomModel.Coordinates;
 
 import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
 import com.puppycrawl.tools.checkstyle.api.FileText;
@@ -41,6 +33,7 @@ import com.puppycrawl.tools.checkstyle.api.FileText;
  * @author Velin Yordanov - The check can now verify that the pom version is the
  *         same as the parent pom version if checkPomVersion property is set to
  *         true and also removed the version regex property.
+ * @author openHAB Contributors - Read the pom.xml files from the shared {@link PomModel}
  */
 public class PomXmlCheck extends AbstractStaticCheck {
     private static final String MISSING_VERSION_MSG = "Missing /project/version in the pom.xml file.";
@@ -48,14 +41,8 @@ public class PomXmlCheck extends AbstractStaticCheck {
     private static final String MISSING_PARENT_ARTIFACT_ID_MSG = "Missing /project/parent/artifactId of the parent pom";
     private static final String WRONG_PARENT_ARTIFACT_ID_MSG = "Wrong /project/parent/artifactId. Expected {0} but was {1}";
 
-    private static final String POM_ARTIFACT_ID_XPATH_EXPRESSION = "/project/artifactId/text()";
-    private static final String POM_PARENT_ARTIFACT_ID_XPATH_EXPRESSION = "/project/parent/artifactId/text()";
-    private static final String POM_PARENT_VERSION_XPATH_EXPRESSION = "/project/parent/version/text()";
-    private static final String POM_VERSION_XPATH_EXPRESSION = "/project/version/text()";
     private static final String DIFFERENT_POM_VERSION = "The pom version is different from the parent pom version";
 
-    private final Logger logger = LoggerFactory.getLogger(PomXmlCheck.class);
-
     private String pomDirectoryPath;
 
     private String pomVersion;
@@ -63,8 +50,7 @@ public class PomXmlCheck extends AbstractStaticCheck {
 
     private String pomArtifactId;
     private int pomArtifactIdLine;
-    private Document parentPomXmlDocument;
-    private String parentPomPath;
+    private PomModel parentPomModel;
     private String pomPath;
     private boolean checkPomVersion;
 
@@ -88,59 +74,40 @@ public class PomXmlCheck extends AbstractStaticCheck {
         File file = fileText.getFile();
         pomPath = file.getPath();
         File pomDirectory = file.getParentFile();
-        Document pomXmlDocument = parseDomDocumentFromFile(fileText);
-        String pomXmlPath = fileText.getFile().getPath();
+        PomModel pom = readPomModel(fileText);
 
         // the pom directory path will be used in the finalization
         pomDirectoryPath = pomDirectory.getPath();
         File parentPom = new File(pomDirectory.getParentFile(), POM_XML_FILE_NAME);
 
-        // get the version from the pom.xml
-        getPomVersion(pomXmlDocument, pomXmlPath).ifPresent(value -> {
-            pomVersion = value;
-            // the version line will be preserved for finalization of the processing
-            String versionTagName = "version";
-            String versionLine = String.format("<%s>%s</%s>", versionTagName, value, versionTagName);
-            pomVersionLine = findLineNumberSafe(fileText, versionLine, 0, "Pom version line number not found");
-        });
-
-        // get the artifactId from the pom.xml
-        getNodeValue(pomXmlDocument, POM_ARTIFACT_ID_XPATH_EXPRESSION, pomXmlPath).ifPresent(value -> {
-            pomArtifactId = value;
-            // the artifact ID line will be used in the finalization as well
-            String artifactIdTagName = "artifactId";
-            String artifactIdLine = String.format("<%s>%s</%s>", artifactIdTagName, value, artifactIdTagName);
-            pomArtifactIdLine = findLineNumberSafe(fileText, artifactIdLine, 0,
-                    "Pom artifact ID line number not found");
-        });
+        // get the version from the pom.xml, the version line will be preserved for finalization of the processing
+        String version = pom.getEffectiveVersion();
+        if (version != null) {
+            pomVersion = version;
+            pomVersionLine = pom.getProject().getVersion() != null ? pom.getProject().getVersionLineNumber()
+                    : pom.getParent().getVersionLineNumber();
+        }
+
+        // get the artifactId from the pom.xml, the artifact ID line will be used in the finalization as well
+        String artifactId = pom.getProject().getArtifactId();
+        if (artifactId != null) {
+            pomArtifactId = artifactId;
+            pomArtifactIdLine = pom.getProject().getArtifactIdLineNumber();
+        }
 
         // The pom.xml must reference the correct parent pom (which is usually in the
         // parent folder)
         if (parentPom.exists()) {
-            Optional<Document> maybeDocument = getParsedPom(parentPom);
-            if (maybeDocument.isEmpty()) {
-                return;
-            }
+            parentPomModel = readPomModel(parentPom);
+            Coordinates parent = pom.getParent();
+            String parentArtifactIdValue = parentPomModel.getProject().getArtifactId();
 
-            parentPomXmlDocument = maybeDocument.get();
-            parentPomPath = parentPom.getPath();
-            Optional<String> maybeParentArtifactIdValue = getNodeValue(pomXmlDocument,
-                    POM_PARENT_ARTIFACT_ID_XPATH_EXPRESSION, pomXmlPath);
-            Optional<String> maybeParentPomArtifactIdValue = getNodeValue(parentPomXmlDocument,
-                    POM_ARTIFACT_ID_XPATH_EXPRESSION, parentPomPath);
-
-            if (maybeParentArtifactIdValue.isPresent() && maybeParentPomArtifactIdValue.isPresent()) {
-                String parentPomArtifactIdValue = maybeParentArtifactIdValue.get();
-                String parentArtifactIdValue = maybeParentPomArtifactIdValue.get();
+            if (parent != null && parent.getArtifactId() != null && parentArtifactIdValue != null) {
+                String parentPomArtifactIdValue = parent.getArtifactId();
                 if (!parentPomArtifactIdValue.equals(parentArtifactIdValue)) {
-                    int parentArtifactTagLine = findLineNumberSafe(fileText, "parent", 0,
-                            "Parent line number not found.");
-                    int parentArtifactIdLine = findLineNumberSafe(fileText, "artifactId", parentArtifactTagLine,
-                            "Parent artifact ID line number not found.");
-
                     String formattedMessage = MessageFormat.format(WRONG_PARENT_ARTIFACT_ID_MSG, parentArtifactIdValue,
                             parentPomArtifactIdValue);
-                    log(parentArtifactIdLine, formattedMessage, file.getPath());
+                    log(parent.getArtifactIdLineNumber(), formattedMessage, file.getPath());
                 }
             } else {
                 log(0, MISSING_PARENT_ARTIFACT_ID_MSG, file.getPath());
@@ -153,30 +120,17 @@ public class PomXmlCheck extends AbstractStaticCheck {
         checkMissingProperty(pomVersion, pomVersionLine, MISSING_VERSION_MSG);
         checkMissingProperty(pomArtifactId, pomArtifactIdLine, MISSING_ARTIFACT_ID_MSG);
         if (checkPomVersion) {
-            try {
-                checkVersions();
-            } catch (CheckstyleException e) {
-                logger.error("An error occurred while processing poms", e);
-            }
-        }
-    }
-
-    private Optional<String> getPomVersion(Document pomXmlDocument, String filePath) throws CheckstyleException {
-        Optional<String> maybeVersionNodeValue = getNodeValue(pomXmlDocument, POM_VERSION_XPATH_EXPRESSION, filePath);
-        if (maybeVersionNodeValue.isEmpty()) {
-            return getNodeValue(pomXmlDocument, POM_PARENT_VERSION_XPATH_EXPRESSION, filePath);
+            checkVersions();
         }
-
-        return maybeVersionNodeValue;
+        super.finishProcessing();
     }
 
-    private void checkVersions() throws CheckstyleException {
-        if (parentPomXmlDocument != null) {
-            getPomVersion(parentPomXmlDocument, parentPomPath).ifPresent(value -> {
-                if (!value.equals(pomVersion)) {
-                    logMessage(pomPath, 0, POM_XML_FILE_NAME, DIFFERENT_POM_VERSION);
-                }
-            });
+    private void checkVersions() {
+        if (parentPomModel != null) {
+            String parentPomVersion = parentPomModel.getEffectiveVersion();
+            if (parentPomVersion != null && !parentPomVersion.equals(pomVersion)) {
+                logMessage(pomPath, 0, POM_XML_FILE_NAME, DIFFERENT_POM_VERSION);
+            }
         }
     }
 
@@ -186,28 +140,4 @@ public class PomXmlCheck extends AbstractStaticCheck {
                     missingPropertyMessage);
         }
     }
-
-    private Optional<String> getNodeValue(Document xmlDocument, String versionExpression, String filePath)
-            throws CheckstyleException {
-        XPathExpression xPathExpression = compileXPathExpression(versionExpression);
-        try {
-            Object result = xPathExpression.evaluate(xmlDocument, XPathConstants.NODESET);
-            NodeList nodes = (NodeList) result;
-            return nodes.getLength() > 0 ? Optional.of(nodes.item(0).getTextContent()) : Optional.empty();
-        } catch (XPathExpressionException e) {
-            logger.error("An exception was thrown, while trying to parse the file: {}", filePath, e);
-            return Optional.empty();
-        }
-    }
-
-    private Optional<Document> getParsedPom(File pom) throws CheckstyleException {
-        FileText parentPomFileText = null;
-        try {
-            parentPomFileText = new FileText(pom, "UTF-8");
-        } catch (IOException e) {
-            logger.error("Error in reading the file", e);
-        }
-
-        return Optional.ofNullable(parseDomDocumentFromFile(parentPomFileText));
-    }
 }
@@ -35,6 +35,7 @@ import com.puppycrawl.tools.checkstyle.api.FileText;
  *
  * @author Aleksandar Kovachev - Initial contribution
  * @author Svilen Valkanov - Some code refactoring and cleanup, added check for the build.properties file
+ * @author openHAB Contributors - Parse each file only once
  */
 public abstract class AbstractOhInfXmlCheck extends AbstractStaticCheck {
     public static final String THING_DIRECTORY = "thing";
@@ -45,6 +46,12 @@ public abstract class AbstractOhInfXmlCheck extends AbstractStaticCheck {
 
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
+    /**
+     * The document parsed from {@link #documentFileText}, shared by all expressions evaluated on the same file
+     */
+    private Document document;
+    private FileText documentFileText;
+
     public AbstractOhInfXmlCheck() {
         setFileExtensions(XML_EXTENSION);
     }
@@ -52,6 +59,7 @@ public abstract class AbstractOhInfXmlCheck extends AbstractStaticCheck {
     @Override
     public void beginProcessing(final String charset) {
         logger.debug("Executing the {}", getClass().getSimpleName());
+        super.beginProcessing(charset);
     }
 
     @Override
@@ -59,7 +67,12 @@ public abstract class AbstractOhInfXmlCheck extends AbstractStaticCheck {
         final String fileName = file.getName();
 
         if (FilenameUtils.getExtension(fileName).equals(XML_EXTENSION)) {
-            processXmlFile(fileText);
+            try {
+                processXmlFile(fileText);
+            } finally {
+                document = null;
+                documentFileText = null;
+            }
         }
     }
 
@@ -118,8 +131,21 @@ public abstract class AbstractOhInfXmlCheck extends AbstractStaticCheck {
      */
     protected abstract void checkThingTypeFile(FileText xmlFileText) throws CheckstyleException;
 
+    /**
+     * Evaluates an XPath expression on a .xml file. The file is parsed only once for all expressions evaluated on it
+     * while it is processed. The location of the matching nodes is returned by
+     * {@link XmlLocation#of(org.w3c.dom.Node)}.
+     *
+     * @param xmlFileText Represents the text contents of the xml file
+     * @param expression the XPath expression
+     * @return the matching nodes or <code>null</code> if the expression could not be evaluated
+     * @throws CheckstyleException when exception occurred during XML processing
+     */
     protected NodeList getNodes(final FileText xmlFileText, final String expression) throws CheckstyleException {
-        final Document document = parseDomDocumentFromFile(xmlFileText);
+        if (xmlFileText != documentFileText) {
+            document = parseDomDocumentWithLocations(xmlFileText);
+            documentFileText = xmlFileText;
+        }
 
         final XPathExpression xpathExpression = compileXPathExpression(expression);
 
@@ -12,27 +12,38 @@
  */
 package org.openhab.tools.analysis.checkstyle.api;
 
-import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
+import java.io.BufferedInputStream;
+import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.file.Files;
 import java.text.MessageFormat;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathExpression;
 import javax.xml.xpath.XPathExpressionException;
 import javax.xml.xpath.XPathFactory;
 
+import org.apache.commons.io.input.CharSequenceReader;
 import org.jsoup.Jsoup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 
 import com.puppycrawl.tools.checkstyle.api.AbstractFileSetCheck;
@@ -49,11 +60,24 @@ import com.vladsch.flexmark.util.data.MutableDataSet;
  * @author Svilen Valkanov - Initial contribution, add Exception to findLineNumber method
  * @author Mihaela Memova - Simplify findLineNumber method
  * @author Velin Yordanov - Used FileText instead of File to avoid unnecessary IO
+ * @author openHAB Contributors - Added streaming XML parsing, XPath expression cache and parsed file cache
+ * @author openHAB Contributors - Find line numbers with a shared line index, parse XML with locations, read the
+ *         text contents without copies
  */
 public abstract class AbstractStaticCheck extends AbstractFileSetCheck {
 
+    private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
     private final Logger logger = LoggerFactory.getLogger(AbstractStaticCheck.class);
 
+    private final Map<String, XPathExpression> xpathExpressions = new HashMap<>();
+    private XPath xpath;
+    private DocumentBuilder documentBuilder;
+    private LocatingDocumentBuilder locatingDocumentBuilder;
+    private long xpathCacheHits;
+    private long xpathCompileNanos;
+
     /**
      * Finds the first occurrence of a text in a list of text lines representing the file content and
      * returns the line number, where the text was found
@@ -69,12 +93,9 @@ public abstract class AbstractStaticCheck extends AbstractFileSetCheck {
      */
     protected int findLineNumber(FileText fileContent, String searchedText, int startLineNumber)
             throws NoResultException {
-        for (int lineNumber = startLineNumber; lineNumber < fileContent.size(); lineNumber++) {
-            String line = fileContent.get(lineNumber);
-            if (line.contains(searchedText)) {
-                // The +1 is to compensate the 0-based list and the 1-based text file
-                return lineNumber + 1;
-            }
+        int lineNumber = getLineIndex(fileContent).findLine(searchedText, startLineNumber);
+        if (lineNumber > 0) {
+            return lineNumber;
         }
         String message = MessageFormat.format(
                 "`{0}` was not found in the file {1} starting from line `{2}`."
@@ -106,18 +127,46 @@ public abstract class AbstractStaticCheck extends AbstractFileSetCheck {
     }
 
     /**
-     * Parses the content of the given file as an XML document.
+     * Returns the line index of a file, which finds the lines containing a text without scanning all lines for each
+     * search. The index is built once and is shared with the other checks.
+     *
+     * @param fileText Represents the text contents of a file
+     * @return the line index of the file
+     */
+    protected LineIndex getLineIndex(FileText fileText) {
+        return ParsedFileCache.getInstance().get(fileText, LineIndex.class, null, LineIndex::new);
+    }
+
+    /**
+     * Parses the content of the given file as an XML document. The document is shared with the other checks that
+     * parse the same file (see {@link ParsedFileCache}), so it must not be modified.
      *
      * @param fileText Represents the text contents of a file
      * @return DOM Document object
      * @throws CheckstyleException if an error occurred while trying to parse the file
      */
     protected Document parseDomDocumentFromFile(FileText fileText) throws CheckstyleException {
+        return ParsedFileCache.getInstance().get(fileText, Document.class, null, this::parseDomDocument);
+    }
+
+    /**
+     * Parses the content of the given file as an XML document like {@link #parseDomDocumentFromFile(FileText)} and
+     * records the line and column of each element and attribute during the parse. The location of a node is returned
+     * by {@link XmlLocation#of(org.w3c.dom.Node)}, so the line of a node can be reported without searching it in the
+     * text.
+     *
+     * @param fileText Represents the text contents of a file
+     * @return DOM Document object with locations
+     * @throws CheckstyleException if an error occurred while trying to parse the file
+     */
+    protected Document parseDomDocumentWithLocations(FileText fileText) throws CheckstyleException {
+        return ParsedFileCache.getInstance().get(fileText, Document.class, XmlLocation.USER_DATA_KEY,
+                this::parseDomDocumentWithLocation);
+    }
+
+    private Document parseDomDocument(FileText fileText) throws CheckstyleException {
         try {
-            DocumentBuilderFactory domFactory = DocumentBuilderFactory.newInstance();
-            DocumentBuilder builder = domFactory.newDocumentBuilder();
-            Document document = builder.parse(getInputStream(fileText));
-            return document;
+            return getDocumentBuilder().parse(new InputSource(getReader(fileText)));
         } catch (ParserConfigurationException e) {
             throw new CheckstyleException("Serious configuration error occurred while creating a DocumentBuilder.", e);
         } catch (SAXException e) {
@@ -127,6 +176,114 @@ public abstract class AbstractStaticCheck extends AbstractFileSetCheck {
         }
     }
 
+    private Document parseDomDocumentWithLocation(FileText fileText) throws CheckstyleException {
+        try {
+            if (locatingDocumentBuilder == null) {
+                locatingDocumentBuilder = new LocatingDocumentBuilder(getDocumentBuilder());
+            }
+            return locatingDocumentBuilder.parse(new InputSource(getReader(fileText)), getLineIndex(fileText));
+        } catch (ParserConfigurationException e) {
+            throw new CheckstyleException("Serious configuration error occurred while creating a SAXParser.", e);
+        } catch (SAXException e) {
+            throw new CheckstyleException("Unable to read from file: " + fileText.getFile().getAbsolutePath(), e);
+        } catch (IOException e) {
+            throw new CheckstyleException("Unable to open file: " + fileText.getFile().getAbsolutePath(), e);
+        }
+    }
+
+    private DocumentBuilder getDocumentBuilder() throws ParserConfigurationException {
+        if (documentBuilder == null) {
+            documentBuilder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
+        } else {
+            documentBuilder.reset();
+        }
+        return documentBuilder;
+    }
+
+    /**
+     * Reads the text contents of the given file as a stream of XML events and notifies the subscribed listeners.
+     * Unlike {@link #parseDomDocumentFromFile(FileText)} no document tree is built, so the memory needed does not
+     * depend on the size of the file.
+     *
+     * @param fileText Represents the text contents of a file
+     * @param subscriptions the XML elements the check is interested in
+     * @throws CheckstyleException if an error occurred while trying to parse the file or a listener aborted the
+     *             processing
+     */
+    protected void streamXml(FileText fileText, XmlSubscriptions subscriptions) throws CheckstyleException {
+        // The text contents are already decoded with the charset of Checkstyle and are the ones that are checked
+        streamXml(fileText.getFile(), fileText.getFullText(), subscriptions);
+    }
+
+    /**
+     * Reads the content of the given file from disk as a stream of XML events and notifies the subscribed listeners.
+     * This allows to read files other than the processed file, without loading their text contents.
+     *
+     * @param file the file to read
+     * @param subscriptions the XML elements the check is interested in
+     * @throws CheckstyleException if an error occurred while trying to parse the file or a listener aborted the
+     *             processing
+     */
+    protected void streamXml(File file, XmlSubscriptions subscriptions) throws CheckstyleException {
+        streamXml(file, null, subscriptions);
+    }
+
+    /**
+     * Returns the Maven coordinates of a pom.xml file. The model is read with a single pass over the file and is
+     * shared with all other checks, so it is read again only if the text contents of the file change.
+     *
+     * @param fileText Represents the text contents of a pom.xml file
+     * @return the model of the pom.xml file
+     * @throws CheckstyleException if an error occurred while trying to parse the file
+     */
+    protected PomModel readPomModel(FileText fileText) throws CheckstyleException {
+        File file = fileText.getFile();
+        return PomModel.get(file, fileText.getFullText(), () -> readPomModel(file, fileText.getFullText()));
+    }
+
+    /**
+     * Returns the Maven coordinates of a pom.xml file other than the processed file, e.g. the parent pom.xml file,
+     * without loading its text contents
+     *
+     * @param file a pom.xml file
+     * @return the model of the pom.xml file
+     * @throws CheckstyleException if an error occurred while trying to read or parse the file
+     */
+    protected PomModel readPomModel(File file) throws CheckstyleException {
+        return PomModel.get(file, null, () -> readPomModel(file, null));
+    }
+
+    private PomModel readPomModel(File file, CharSequence text) throws CheckstyleException {
+        PomModel.Builder project = new PomModel.Builder();
+        PomModel.Builder parent = new PomModel.Builder();
+        streamXml(file, text,
+                new XmlSubscriptions().onElement("/project", project::element).onElement("/project/*", project::value)
+                        .onElement("/project/parent", parent::element).onElement("/project/parent/*", parent::value));
+        return new PomModel(project.build(), parent.isDeclared() ? parent.build() : null);
+    }
+
+    private void streamXml(File file, CharSequence text, XmlSubscriptions subscriptions) throws CheckstyleException {
+        XMLStreamReader reader = null;
+        try (InputStream inputStream = text == null ? new BufferedInputStream(Files.newInputStream(file.toPath()))
+                : null) {
+            reader = inputStream != null ? XML_INPUT_FACTORY.createXMLStreamReader(inputStream)
+                    : XML_INPUT_FACTORY.createXMLStreamReader(new CharSequenceReader(text));
+            subscriptions.read(reader);
+        } catch (XMLStreamException e) {
+            throw new CheckstyleException("Unable to read from file: " + file.getAbsolutePath(), e);
+        } catch (IOException e) {
+            throw new CheckstyleException("Unable to open file: " + file.getAbsolutePath(), e);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException e) {
+                    logger.debug("Unable to close the XML reader of {}", file.getAbsolutePath(), e);
+                }
+            }
+        }
+    }
+
     /**
      * Reads a properties list from a file
      *
@@ -135,9 +292,16 @@ public abstract class AbstractStaticCheck extends AbstractFileSetCheck {
      * @throws CheckstyleException if an error occurred while trying to parse the file
      */
     protected Properties readPropertiesFromFile(FileText fileText) throws CheckstyleException {
+        // Return a copy, so checks can not modify the properties shared with other checks
+        Properties properties = new Properties();
+        properties.putAll(ParsedFileCache.getInstance().get(fileText, Properties.class, null, this::readProperties));
+        return properties;
+    }
+
+    private Properties readProperties(FileText fileText) throws CheckstyleException {
         try {
             Properties properties = new Properties();
-            properties.load(getInputStream(fileText));
+            properties.load(getReader(fileText));
             return properties;
         } catch (FileNotFoundException e) {
             throw new CheckstyleException("File: " + fileText.getFile().getAbsolutePath() + " does not exist.", e);
@@ -158,20 +322,67 @@ public abstract class AbstractStaticCheck extends AbstractFileSetCheck {
     }
 
     /**
-     * Compiles an XPathExpression
+     * Compiles an XPathExpression. Compiled expressions are cached for the lifetime of the check, so each expression
+     * is compiled only once and reused for all processed files. The cache is not shared with other checks, as compiled
+     * expressions are not thread-safe.
      *
      * @param expression the XPath expression
      * @return compiled XPath expression
      * @throws CheckstyleException if an error occurred during the compilation
      */
     protected XPathExpression compileXPathExpression(String expression) throws CheckstyleException {
-        XPathFactory factory = XPathFactory.newInstance();
-        XPath xpath = factory.newXPath();
+        XPathExpression xpathExpression = xpathExpressions.get(expression);
+        if (xpathExpression != null) {
+            xpathCacheHits++;
+            return xpathExpression;
+        }
+
+        long start = System.nanoTime();
+        if (xpath == null) {
+            xpath = XPathFactory.newInstance().newXPath();
+        }
         try {
-            return xpath.compile(expression);
+            xpathExpression = xpath.compile(expression);
         } catch (XPathExpressionException e) {
             throw new CheckstyleException("Unable to compile the expression" + expression, e);
+        } finally {
+            xpathCompileNanos += System.nanoTime() - start;
         }
+        xpathExpressions.put(expression, xpathExpression);
+        return xpathExpression;
+    }
+
+    /**
+     * Returns the XPath expressions used by the check, so they can be compiled in {@link #beginProcessing(String)}
+     * before any file is processed. Expressions that are not listed are compiled on first use.
+     *
+     * @return the XPath expressions used by the check
+     */
+    protected Collection<String> getXPathExpressions() {
+        return List.of();
+    }
+
+    @Override
+    public void beginProcessing(String charset) {
+        for (String expression : getXPathExpressions()) {
+            try {
+                compileXPathExpression(expression);
+            } catch (CheckstyleException e) {
+                logger.error("{} uses an invalid XPath expression", getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    @Override
+    public void finishProcessing() {
+        if (!xpathExpressions.isEmpty()) {
+            logger.debug("{} compiled {} XPath expression(s) in {}ms, {} cache hit(s)", getClass().getSimpleName(),
+                    xpathExpressions.size(), TimeUnit.NANOSECONDS.toMillis(xpathCompileNanos), xpathCacheHits);
+        }
+        logger.debug("Parsed file cache after {}: {}", getClass().getSimpleName(),
+                ParsedFileCache.getInstance().getStatistics());
+        // All files of the audit are processed, so the parsed files are not needed anymore
+        ParsedFileCache.clear();
     }
 
     /**
@@ -181,14 +392,7 @@ public abstract class AbstractStaticCheck extends AbstractFileSetCheck {
      * @return true if the file is empty, otherwise false
      */
     protected boolean isEmpty(FileText fileText) {
-        try (BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(getInputStream(fileText)))) {
-            if (bufferedReader.readLine() == null) {
-                return true;
-            }
-        } catch (IOException e) {
-            return false;
-        }
-        return false;
+        return fileText.size() == 0;
     }
 
     /**
@@ -211,18 +415,37 @@ public abstract class AbstractStaticCheck extends AbstractFileSetCheck {
     }
 
     /**
-     * Parsed the content of a markdown file.
+     * Parsed the content of a markdown file. The node is shared with the other checks that parse the same file with
+     * the same parsing options instance (see {@link ParsedFileCache}), so it must not be modified.
      *
      * @param fileText Represents the text contents of a file
      * @param parsingOptions parsing options
      * @return The markdown node
      */
     protected Node parseMarkdown(FileText fileText, MutableDataSet parsingOptions) {
-        Parser parser = Parser.builder(parsingOptions).build();
-        return parser.parse(fileText.getFullText().toString());
+        return ParsedFileCache.getInstance().get(fileText, Node.class, parsingOptions, text -> {
+            Parser parser = Parser.builder(parsingOptions).build();
+            return parser.parse(text.getFullText().toString());
+        });
+    }
+
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
     }
 
-    private InputStream getInputStream(FileText fileText) {
-        return new ByteArrayInputStream(fileText.getFullText().toString().getBytes(fileText.getCharset()));
+    /**
+     * Returns a reader over the text contents of a file. The text is read in place, without copying or encoding it
+     * again.
+     */
+    private Reader getReader(FileText fileText) {
+        CharSequence text = fileText.getFullText();
+        // The byte order mark is not part of the content, but a reader does not skip it like an input stream does
+        int start = text.length() > 0 && text.charAt(0) == BYTE_ORDER_MARK ? 1 : 0;
+        return new CharSequenceReader(text, start, text.length());
     }
 }
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.checkstyle.api;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.puppycrawl.tools.checkstyle.api.FileText;
+
+/**
+ * Finds the lines of a file that contain a text, without scanning the lines one by one for each query.
+ * <p>
+ * The offsets where the lines start are computed once for the file. The first query for a text searches the whole
+ * file once and keeps the sorted numbers of the lines containing the text, so the following queries for the same text
+ * are a binary search in that list. The index of a file is shared by the checks, see
+ * {@link AbstractStaticCheck#getLineIndex(FileText)}. Like the lines of a {@link FileText}, it must only be used by
+ * the thread that created it.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+public final class LineIndex {
+
+    private static final int[] NO_LINES = new int[0];
+
+    private final String text;
+    private final int[] lineStarts;
+    private final Map<String, int[]> linesByText = new HashMap<>();
+
+    LineIndex(FileText fileText) {
+        this.text = fileText.getFullText().toString();
+        this.lineStarts = findLineStarts(text);
+    }
+
+    /**
+     * @return the number of lines
+     */
+    public int getLineCount() {
+        return lineStarts.length;
+    }
+
+    /**
+     * Finds the first line containing a text
+     *
+     * @param searchedText the text that we are looking for, which must not span multiple lines
+     * @param startLineNumber the line number from which the search starts exclusive, to start the search of the
+     *            beginning of the text the startLineNumber should be 0
+     * @return the number of the line starting from 1, where the searched text occurred for the first time, or 0 if no
+     *         matches are found
+     */
+    public int findLine(String searchedText, int startLineNumber) {
+        if (searchedText.isEmpty()) {
+            return startLineNumber < lineStarts.length ? startLineNumber + 1 : 0;
+        }
+        int[] lines = getLines(searchedText);
+        int index = Arrays.binarySearch(lines, startLineNumber + 1);
+        index = index >= 0 ? index : -index - 1;
+        return index < lines.length ? lines[index] : 0;
+    }
+
+    /**
+     * Finds the first line containing the start tag of an element, e.g. <code>&lt;feature name="..."&gt;</code> for
+     * the element <code>feature</code> but not <code>&lt;features&gt;</code>
+     *
+     * @param elementName the qualified name of the element as written in the file
+     * @param startLineNumber the line number from which the search starts exclusive
+     * @return the number of the line starting from 1 or 0 if no matches are found
+     */
+    public int findElementLine(String elementName, int startLineNumber) {
+        String searchedText = "<" + elementName;
+        int lineNumber = startLineNumber;
+        while ((lineNumber = findLine(searchedText, lineNumber)) > 0) {
+            if (containsName(lineNumber, searchedText, false)) {
+                return lineNumber;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Finds the first line containing an attribute, e.g. <code>name="..."</code> for the attribute <code>name</code>
+     * but not <code>display-name="..."</code>
+     *
+     * @param attributeName the qualified name of the attribute as written in the file
+     * @param startLineNumber the line number from which the search starts exclusive
+     * @return the number of the line starting from 1 or 0 if no matches are found
+     */
+    public int findAttributeLine(String attributeName, int startLineNumber) {
+        int lineNumber = startLineNumber;
+        while ((lineNumber = findLine(attributeName, lineNumber)) > 0) {
+            if (containsName(lineNumber, attributeName, true)) {
+                return lineNumber;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Checks if a name occurs in a line as a whole name. Element names are followed by whitespace, <code>/</code>,
+     * <code>&gt;</code> or the end of the line. Attribute names are preceded by whitespace and followed by
+     * <code>=</code>, optionally separated by whitespace.
+     */
+    private boolean containsName(int lineNumber, String name, boolean attribute) {
+        int lineEnd = lineNumber < lineStarts.length ? lineStarts[lineNumber] : text.length();
+        int position = text.indexOf(name, lineStarts[lineNumber - 1]);
+        while (position >= 0 && position + name.length() <= lineEnd) {
+            int end = position + name.length();
+            if (attribute) {
+                while (end < lineEnd && Character.isWhitespace(text.charAt(end))) {
+                    end++;
+                }
+                if (position > 0 && Character.isWhitespace(text.charAt(position - 1)) && end < lineEnd
+                        && text.charAt(end) == '=') {
+                    return true;
+                }
+            } else if (end == lineEnd || isElementNameEnd(text.charAt(end))) {
+                return true;
+            }
+            position = text.indexOf(name, position + 1);
+        }
+        return false;
+    }
+
+    private boolean isElementNameEnd(char character) {
+        return Character.isWhitespace(character) || character == '>' || character == '/';
+    }
+
+    private int[] getLines(String searchedText) {
+        return linesByText.computeIfAbsent(searchedText, this::collectLines);
+    }
+
+    /**
+     * Collects the numbers of all lines containing a text with a single pass over the file
+     */
+    private int[] collectLines(String searchedText) {
+        if (searchedText.indexOf('\n') >= 0 || searchedText.indexOf('\r') >= 0) {
+            return NO_LINES;
+        }
+        int[] lines = NO_LINES;
+        int count = 0;
+        int position = text.indexOf(searchedText);
+        while (position >= 0) {
+            int lineNumber = getLineNumber(position);
+            if (count == lines.length) {
+                lines = Arrays.copyOf(lines, Math.max(8, count * 2));
+            }
+            lines[count++] = lineNumber;
+            // Continue with the next line, each line is listed once
+            position = lineNumber < lineStarts.length ? text.indexOf(searchedText, lineStarts[lineNumber]) : -1;
+        }
+        return count == lines.length ? lines : Arrays.copyOf(lines, count);
+    }
+
+    /**
+     * @return the number of the line starting from 1 that contains the offset
+     */
+    int getLineNumber(int offset) {
+        int index = Arrays.binarySearch(lineStarts, offset);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    /**
+     * @return the number of the column starting from 1 of the offset
+     */
+    int getColumnNumber(int offset) {
+        return lineStarts.length > 0 ? offset - lineStarts[getLineNumber(offset) - 1] + 1 : 1;
+    }
+
+    /**
+     * @return the offset in the text of a line and column starting from 1
+     */
+    int getOffset(int lineNumber, int columnNumber) {
+        if (lineNumber < 1 || lineNumber > lineStarts.length) {
+            return -1;
+        }
+        return Math.min(lineStarts[lineNumber - 1] + columnNumber - 1, text.length());
+    }
+
+    /**
+     * @return the full text of the file
+     */
+    String getText() {
+        return text;
+    }
+
+    /**
+     * Finds the offsets where the lines start. Lines are terminated by <code>\n</code>, <code>\r\n</code> or
+     * <code>\r</code> like the lines of a {@link FileText}.
+     */
+    private static int[] findLineStarts(String text) {
+        if (text.isEmpty()) {
+            return NO_LINES;
+        }
+        int[] starts = new int[Math.max(16, text.length() / 32)];
+        int count = 0;
+        starts[count++] = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char character = text.charAt(i);
+            if (character == '\r' && i + 1 < text.length() && text.charAt(i + 1) == '\n') {
+                i++;
+            } else if (character != '\n' && character != '\r') {
+                continue;
+            }
+            if (i + 1 < text.length()) {
+                if (count == starts.length) {
+                    starts = Arrays.copyOf(starts, count * 2);
+                }
+                starts[count++] = i + 1;
+            }
+        }
+        return Arrays.copyOf(starts, count);
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.checkstyle.api;
+
+import java.io.IOException;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
+
+import org.w3c.dom.Attr;
+import org.w3c.dom.CDATASection;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.Text;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.Locator;
+import org.xml.sax.SAXException;
+import org.xml.sax.ext.DefaultHandler2;
+
+/**
+ * Builds DOM documents that know the {@link XmlLocation} of their elements and attributes.
+ * <p>
+ * The document is built from the events of a SAX parser, which reports the position right after each start tag. The
+ * start of the tag and the positions of the attributes are found in the text of the start tag with the
+ * {@link LineIndex} of the file, so no additional pass over the file is needed. The document is built like the
+ * documents of a default {@link javax.xml.parsers.DocumentBuilderFactory}: without namespace processing, with
+ * comments, CDATA sections and whitespace.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+final class LocatingDocumentBuilder {
+
+    private static final String LEXICAL_HANDLER_PROPERTY = "http://xml.org/sax/properties/lexical-handler";
+
+    private final DocumentBuilder documentBuilder;
+    private final SAXParser saxParser;
+
+    LocatingDocumentBuilder(DocumentBuilder documentBuilder) throws ParserConfigurationException, SAXException {
+        this.documentBuilder = documentBuilder;
+        this.saxParser = SAXParserFactory.newInstance().newSAXParser();
+    }
+
+    Document parse(InputSource inputSource, LineIndex lineIndex) throws SAXException, IOException {
+        saxParser.reset();
+        DocumentHandler handler = new DocumentHandler(documentBuilder.newDocument(), lineIndex);
+        saxParser.setProperty(LEXICAL_HANDLER_PROPERTY, handler);
+        saxParser.parse(inputSource, handler);
+        return handler.document;
+    }
+
+    private static class DocumentHandler extends DefaultHandler2 {
+        private final Document document;
+        private final LineIndex lineIndex;
+        private final String text;
+
+        private Locator locator;
+        private Node current;
+        private CDATASection cdataSection;
+        private boolean inDtd;
+
+        DocumentHandler(Document document, LineIndex lineIndex) {
+            this.document = document;
+            this.lineIndex = lineIndex;
+            this.text = lineIndex.getText();
+            this.current = document;
+        }
+
+        @Override
+        public void setDocumentLocator(Locator locator) {
+            this.locator = locator;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            Element element = document.createElement(qName);
+            for (int i = 0; i < attributes.getLength(); i++) {
+                element.setAttribute(attributes.getQName(i), attributes.getValue(i));
+            }
+            locate(element);
+            current.appendChild(element);
+            current = element;
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) {
+            current = current.getParentNode();
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (cdataSection != null) {
+                cdataSection.appendData(new String(ch, start, length));
+                return;
+            }
+            Node last = current.getLastChild();
+            if (last instanceof Text && !(last instanceof CDATASection)) {
+                ((Text) last).appendData(new String(ch, start, length));
+            } else if (current != document) {
+                current.appendChild(document.createTextNode(new String(ch, start, length)));
+            }
+        }
+
+        @Override
+        public void ignorableWhitespace(char[] ch, int start, int length) {
+            characters(ch, start, length);
+        }
+
+        @Override
+        public void processingInstruction(String target, String data) {
+            current.appendChild(document.createProcessingInstruction(target, data));
+        }
+
+        @Override
+        public void comment(char[] ch, int start, int length) {
+            if (!inDtd) {
+                current.appendChild(document.createComment(new String(ch, start, length)));
+            }
+        }
+
+        @Override
+        public void startCDATA() {
+            cdataSection = document.createCDATASection("");
+            current.appendChild(cdataSection);
+        }
+
+        @Override
+        public void endCDATA() {
+            cdataSection = null;
+        }
+
+        @Override
+        public void startDTD(String name, String publicId, String systemId) {
+            inDtd = true;
+        }
+
+        @Override
+        public void endDTD() {
+            inDtd = false;
+        }
+
+        /**
+         * Records the locations of an element and its attributes. The locator is right after the start tag, which
+         * starts at the last <code>&lt;</code> before, because <code>&lt;</code> is not allowed in attribute values.
+         */
+        private void locate(Element element) {
+            int end = lineIndex.getOffset(locator.getLineNumber(), locator.getColumnNumber());
+            int start = end > 0 ? text.lastIndexOf('<', end - 1) : -1;
+            if (start < 0) {
+                element.setUserData(XmlLocation.USER_DATA_KEY,
+                        new XmlLocation(locator.getLineNumber(), locator.getColumnNumber()), null);
+                return;
+            }
+            element.setUserData(XmlLocation.USER_DATA_KEY, location(start), null);
+
+            // Skip the element name, then read the attributes as name, optional whitespace, '=' and a quoted value
+            int position = start + 1;
+            while (position < end && !isNameEnd(text.charAt(position))) {
+                position++;
+            }
+            while (position < end) {
+                while (position < end && Character.isWhitespace(text.charAt(position))) {
+                    position++;
+                }
+                int nameStart = position;
+                while (position < end && !isNameEnd(text.charAt(position)) && text.charAt(position) != '=') {
+                    position++;
+                }
+                if (nameStart == position) {
+                    break;
+                }
+                Attr attribute = element.getAttributeNode(text.substring(nameStart, position));
+                if (attribute != null) {
+                    attribute.setUserData(XmlLocation.USER_DATA_KEY, location(nameStart), null);
+                }
+                int equals = text.indexOf('=', position);
+                if (equals < 0 || equals >= end) {
+                    break;
+                }
+                position = equals + 1;
+                while (position < end && Character.isWhitespace(text.charAt(position))) {
+                    position++;
+                }
+                int valueEnd = position < end ? text.indexOf(text.charAt(position), position + 1) : -1;
+                if (valueEnd < 0) {
+                    break;
+                }
+                position = valueEnd + 1;
+            }
+        }
+
+        private XmlLocation location(int offset) {
+            return new XmlLocation(lineIndex.getLineNumber(offset), lineIndex.getColumnNumber(offset));
+        }
+
+        private boolean isNameEnd(char character) {
+            return Character.isWhitespace(character) || character == '>' || character == '/';
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.checkstyle.api;
+
+import java.io.File;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.puppycrawl.tools.checkstyle.api.FileText;
+
+/**
+ * Cache of parsed files shared by all {@link AbstractStaticCheck}s, so a file that is processed by several checks is
+ * parsed only once.
+ * <p>
+ * A Checker runs all its checks on the same thread, so the cache is confined to the current thread. This way the
+ * checks of one Checker share the parsed files, while the parsed files (e.g. DOM documents, which are not thread-safe)
+ * are never accessed by concurrent Checkers of a parallel build. Entries are identified by the absolute path of the
+ * file and are only reused for the same text contents, so a file that is modified between two audits is parsed again
+ * even if its modification time and size did not change. The least recently used entries are evicted when the size of
+ * the cached files exceeds {@link #MAX_CACHED_CHARS}, and the checks clear the cache when the audit is finished (see
+ * {@link AbstractStaticCheck#finishProcessing()}), so the parsed files are not kept by long-lived threads.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+final class ParsedFileCache {
+
+    /**
+     * The maximum summed up length of the text contents of the cached files
+     */
+    static final long MAX_CACHED_CHARS = 8 * 1024 * 1024;
+
+    /**
+     * The maximum number of cached entries
+     */
+    static final int MAX_ENTRIES = 512;
+
+    private static final ThreadLocal<ParsedFileCache> CACHE = ThreadLocal.withInitial(ParsedFileCache::new);
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long cachedChars;
+    private long hits;
+    private long misses;
+
+    private ParsedFileCache() {
+        // Use getInstance()
+    }
+
+    /**
+     * @return the cache of the current thread
+     */
+    static ParsedFileCache getInstance() {
+        return CACHE.get();
+    }
+
+    /**
+     * Removes the cache of the current thread with all its entries
+     */
+    static void clear() {
+        CACHE.remove();
+    }
+
+    /**
+     * Returns the cached result of parsing a file or parses it if it is not cached or its text contents changed.
+     *
+     * @param fileText the file to parse
+     * @param type the type of the parsed result
+     * @param options the options used for parsing, results parsed with other options are not reused
+     * @param parser the parser that is used if the file is not cached
+     * @return the parsed file. It is shared with other checks and must not be modified.
+     * @throws E if the file could not be parsed
+     */
+    <T, E extends Exception> T get(FileText fileText, Class<T> type, Object options, FileParser<T, E> parser)
+            throws E {
+        File file = fileText.getFile();
+        if (file == null) {
+            return parser.parse(fileText);
+        }
+
+        // Results of the same type parsed with different options (e.g. documents with and without locations) are
+        // cached side by side
+        String key = type.getName() + (options != null ? "@" + System.identityHashCode(options) : "")
+                + File.pathSeparator + file.getAbsolutePath();
+        Entry entry = entries.get(key);
+        if (entry != null && entry.options == options && entry.matches(fileText)) {
+            hits++;
+            return type.cast(entry.value);
+        }
+
+        misses++;
+        T value = parser.parse(fileText);
+        Entry added = new Entry(value, options, fileText);
+        Entry replaced = entries.put(key, added);
+        if (replaced != null) {
+            cachedChars -= replaced.text.length();
+        }
+        cachedChars += added.text.length();
+        evict();
+        return value;
+    }
+
+    /**
+     * @return a description of the cache usage for logging
+     */
+    String getStatistics() {
+        return String.format("%d cached file(s), %d hit(s), %d miss(es)", entries.size(), hits, misses);
+    }
+
+    private void evict() {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while ((cachedChars > MAX_CACHED_CHARS || entries.size() > MAX_ENTRIES) && iterator.hasNext()) {
+            cachedChars -= iterator.next().text.length();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Parses a file
+     *
+     * @param <T> the type of the parsed result
+     * @param <E> the type of the exception thrown if the file could not be parsed
+     */
+    @FunctionalInterface
+    interface FileParser<T, E extends Exception> {
+        T parse(FileText fileText) throws E;
+    }
+
+    private static class Entry {
+        private final Object value;
+        private final Object options;
+        private final FileText fileText;
+        private final String text;
+
+        Entry(Object value, Object options, FileText fileText) {
+            this.value = value;
+            this.options = options;
+            this.fileText = fileText;
+            this.text = fileText.getFullText().toString();
+        }
+
+        /**
+         * @return <code>true</code> if the entry was parsed from the given text contents. All checks of a Checker get
+         *         the same {@link FileText} instance for a file, so the text is only compared for other instances.
+         */
+        boolean matches(FileText other) {
+            return fileText == other || text.contentEquals(other.getFullText());
+        }
+    }
+}
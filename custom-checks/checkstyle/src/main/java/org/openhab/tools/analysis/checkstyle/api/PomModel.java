@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.checkstyle.api;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.openhab.tools.analysis.utils.FileFingerprint;
+
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+
+/**
+ * The Maven coordinates of a pom.xml file and of its parent, together with the lines where they are declared.
+ * <p>
+ * The model is read with a single pass over the XML stream of the file, see
+ * {@link AbstractStaticCheck#readPomModel(com.puppycrawl.tools.checkstyle.api.FileText)}. It is immutable, so the
+ * models are shared by all checks in the JVM. A pom.xml file that is the parent of many modules is read only once.
+ * Models are identified by the absolute path of the file and are only reused for the same contents, so a file that is
+ * modified between two builds is read again even if its modification time and size did not change. Only the digests
+ * of the contents are kept: a file on disk is validated with its {@link FileFingerprint}, so an unchanged parent
+ * pom.xml is not read again for each of its modules. At most {@link #MAX_MODELS} models are cached, the least
+ * recently used ones are evicted.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+public final class PomModel {
+
+    /**
+     * The maximum number of cached models
+     */
+    static final int MAX_MODELS = 256;
+
+    private static final String TEXT_KEY_PREFIX = "text:";
+    private static final String FILE_KEY_PREFIX = "file:";
+
+    private static final Map<String, CachedModel> MODELS = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedModel> eldest) {
+            return size() > MAX_MODELS;
+        }
+    };
+
+    private final Coordinates project;
+    private final Coordinates parent;
+
+    PomModel(Coordinates project, Coordinates parent) {
+        this.project = project;
+        this.parent = parent;
+    }
+
+    /**
+     * @return the coordinates declared in <code>/project</code>
+     */
+    public Coordinates getProject() {
+        return project;
+    }
+
+    /**
+     * @return the coordinates declared in <code>/project/parent</code> or <code>null</code> if the pom.xml file has no
+     *         parent
+     */
+    public Coordinates getParent() {
+        return parent;
+    }
+
+    /**
+     * @return the group ID of the project, which is inherited from the parent if it is not declared
+     */
+    public String getEffectiveGroupId() {
+        return project.getGroupId() != null || parent == null ? project.getGroupId() : parent.getGroupId();
+    }
+
+    /**
+     * @return the version of the project, which is inherited from the parent if it is not declared
+     */
+    public String getEffectiveVersion() {
+        return project.getVersion() != null || parent == null ? project.getVersion() : parent.getVersion();
+    }
+
+    /**
+     * Returns the model of a file from the cache or reads it if it is not cached or its contents changed
+     *
+     * @param file the pom.xml file
+     * @param text the text contents of the file or <code>null</code> if the file is read from disk
+     * @param reader reads the model if it is not cached
+     * @return the model of the file
+     * @throws CheckstyleException if the model could not be read
+     */
+    static PomModel get(File file, CharSequence text, ModelReader reader) throws CheckstyleException {
+        if (file == null || (text == null && !file.isFile())) {
+            return reader.read();
+        }
+
+        // The models of the text contents and of the files on disk are validated differently, so they are kept apart
+        String key = (text != null ? TEXT_KEY_PREFIX : FILE_KEY_PREFIX) + file.getAbsolutePath();
+        CachedModel cached;
+        synchronized (MODELS) {
+            cached = MODELS.get(key);
+        }
+
+        try {
+            CachedModel current;
+            if (text != null) {
+                byte[] textDigest = FileFingerprint.digest(text.toString().getBytes(StandardCharsets.UTF_8));
+                if (cached != null && MessageDigest.isEqual(cached.textDigest, textDigest)) {
+                    return cached.model;
+                }
+                current = new CachedModel(reader.read(), null, textDigest);
+            } else {
+                if (cached != null && cached.fingerprint.isUpToDate(file.toPath())) {
+                    return cached.model;
+                }
+                // The fingerprint is taken first, so a modification while reading is detected by the next lookup
+                FileFingerprint fingerprint = FileFingerprint.of(file.toPath());
+                current = new CachedModel(reader.read(), fingerprint, null);
+            }
+            synchronized (MODELS) {
+                MODELS.put(key, current);
+            }
+            return current.model;
+        } catch (IOException e) {
+            throw new CheckstyleException("Unable to read from file: " + file.getAbsolutePath(), e);
+        }
+    }
+
+    /**
+     * Reads a model
+     */
+    @FunctionalInterface
+    interface ModelReader {
+        PomModel read() throws CheckstyleException;
+    }
+
+    /**
+     * The group ID, artifact ID and version of an element with their line numbers. Values that are not declared are
+     * <code>null</code> and their line number is 0.
+     */
+    public static final class Coordinates {
+        private final int lineNumber;
+        private final String groupId;
+        private final int groupIdLineNumber;
+        private final String artifactId;
+        private final int artifactIdLineNumber;
+        private final String version;
+        private final int versionLineNumber;
+
+        private Coordinates(Builder builder) {
+            this.lineNumber = builder.lineNumber;
+            this.groupId = builder.groupId;
+            this.groupIdLineNumber = builder.groupIdLineNumber;
+            this.artifactId = builder.artifactId;
+            this.artifactIdLineNumber = builder.artifactIdLineNumber;
+            this.version = builder.version;
+            this.versionLineNumber = builder.versionLineNumber;
+        }
+
+        /**
+         * @return the line number of the start tag of the element
+         */
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        public String getGroupId() {
+            return groupId;
+        }
+
+        public int getGroupIdLineNumber() {
+            return groupIdLineNumber;
+        }
+
+        public String getArtifactId() {
+            return artifactId;
+        }
+
+        public int getArtifactIdLineNumber() {
+            return artifactIdLineNumber;
+        }
+
+        public String getVersion() {
+            return version;
+        }
+
+        public int getVersionLineNumber() {
+            return versionLineNumber;
+        }
+    }
+
+    /**
+     * Collects the coordinates of an element while the XML stream is read
+     */
+    static final class Builder {
+        private boolean declared;
+        private int lineNumber;
+        private String groupId;
+        private int groupIdLineNumber;
+        private String artifactId;
+        private int artifactIdLineNumber;
+        private String version;
+        private int versionLineNumber;
+
+        void element(XmlElement element) {
+            declared = true;
+            lineNumber = element.getLineNumber();
+        }
+
+        void value(XmlElement element) {
+            String text = element.getText();
+            if (text == null || text.isEmpty()) {
+                // An empty element declares no value, like the text() node tests of the XPath expressions
+                return;
+            }
+            switch (element.getName()) {
+                case "groupId":
+                    groupId = text;
+                    groupIdLineNumber = element.getLineNumber();
+                    break;
+                case "artifactId":
+                    artifactId = text;
+                    artifactIdLineNumber = element.getLineNumber();
+                    break;
+                case "version":
+                    version = text;
+                    versionLineNumber = element.getLineNumber();
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        boolean isDeclared() {
+            return declared;
+        }
+
+        Coordinates build() {
+            return new Coordinates(this);
+        }
+    }
+
+    private static class CachedModel {
+        private final PomModel model;
+        private final FileFingerprint fingerprint;
+        private final byte[] textDigest;
+
+        CachedModel(PomModel model, FileFingerprint fingerprint, byte[] textDigest) {
+            this.model = model;
+            this.fingerprint = fingerprint;
+            this.textDigest = textDigest;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.checkstyle.api;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * An XML element that was read by {@link AbstractStaticCheck#streamXml(com.puppycrawl.tools.checkstyle.api.FileText,
+ * XmlSubscriptions)}
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+public final class XmlElement {
+
+    private final String path;
+    private final String name;
+    private final Map<String, String> attributes;
+    private final String text;
+    private final int lineNumber;
+    private final int columnNumber;
+
+    XmlElement(String path, String name, Map<String, String> attributes, String text, int lineNumber,
+            int columnNumber) {
+        this.path = path;
+        this.name = name;
+        this.attributes = Collections.unmodifiableMap(attributes);
+        this.text = text;
+        this.lineNumber = lineNumber;
+        this.columnNumber = columnNumber;
+    }
+
+    /**
+     * @return the path of the element built from the local names of the element and its ancestors, e.g.
+     *         <code>/features/feature/bundle</code>
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * @return the local name of the element
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @param attributeName the local name of the attribute, prefixed with <code>prefix:</code> for attributes with a
+     *            namespace
+     * @return the value of the attribute or <code>null</code> if the element has no such attribute
+     */
+    public String getAttribute(String attributeName) {
+        return attributes.get(attributeName);
+    }
+
+    /**
+     * @return the attributes of the element in document order
+     */
+    public Map<String, String> getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * @return the text directly contained in the element, without the text of its child elements
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * @return the line number of the start tag starting from 1. If the start tag is split between multiple lines, this
+     *         is the line where the start tag ends.
+     */
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * @return the column number right after the start tag starting from 1
+     */
+    public int getColumnNumber() {
+        return columnNumber;
+    }
+
+    @Override
+    public String toString() {
+        return path + attributes + " at line " + lineNumber;
+    }
+}
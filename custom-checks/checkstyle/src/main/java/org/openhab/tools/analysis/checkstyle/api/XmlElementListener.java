@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.checkstyle.api;
+
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+
+/**
+ * Listener for XML elements subscribed with {@link XmlSubscriptions}
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@FunctionalInterface
+public interface XmlElementListener {
+
+    /**
+     * Called when a subscribed element is closed
+     *
+     * @param element the element that matched the subscription
+     * @throws CheckstyleException to abort the processing of the file
+     */
+    void elementRead(XmlElement element) throws CheckstyleException;
+}
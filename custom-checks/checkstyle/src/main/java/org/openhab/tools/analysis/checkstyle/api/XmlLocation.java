@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.checkstyle.api;
+
+import org.w3c.dom.Attr;
+import org.w3c.dom.Node;
+
+/**
+ * The position of an element or an attribute in an XML file, recorded while the file is parsed by
+ * {@link AbstractStaticCheck#parseDomDocumentWithLocations(com.puppycrawl.tools.checkstyle.api.FileText)}
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+public final class XmlLocation {
+
+    /**
+     * The key of the location in the user data of the DOM nodes
+     */
+    static final String USER_DATA_KEY = XmlLocation.class.getName();
+
+    private final int lineNumber;
+    private final int columnNumber;
+
+    XmlLocation(int lineNumber, int columnNumber) {
+        this.lineNumber = lineNumber;
+        this.columnNumber = columnNumber;
+    }
+
+    /**
+     * Returns the location of a node. Elements and attributes have their own location. Other nodes, e.g. the text
+     * nodes selected by <code>text()</code> in an XPath expression, have the location of their parent element.
+     *
+     * @param node a node of a document parsed with locations
+     * @return the location of the node or <code>null</code> if the document was parsed without locations
+     */
+    public static XmlLocation of(Node node) {
+        Node current = node;
+        while (current != null) {
+            Object location = current.getUserData(USER_DATA_KEY);
+            if (location instanceof XmlLocation) {
+                return (XmlLocation) location;
+            }
+            current = current instanceof Attr ? ((Attr) current).getOwnerElement() : current.getParentNode();
+        }
+        return null;
+    }
+
+    /**
+     * Returns the line number of a node, see {@link #of(Node)}
+     *
+     * @param node a node of a document parsed with locations
+     * @return the line number starting from 1 or 0 if the node has no location
+     */
+    public static int getLineNumber(Node node) {
+        XmlLocation location = of(node);
+        return location != null ? location.getLineNumber() : 0;
+    }
+
+    /**
+     * @return the line number starting from 1 where the start tag of the element or the name of the attribute starts
+     */
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * @return the column number starting from 1 of the <code>&lt;</code> of the start tag or of the first character
+     *         of the attribute name
+     */
+    public int getColumnNumber() {
+        return columnNumber;
+    }
+
+    @Override
+    public String toString() {
+        return lineNumber + ":" + columnNumber;
+    }
+}
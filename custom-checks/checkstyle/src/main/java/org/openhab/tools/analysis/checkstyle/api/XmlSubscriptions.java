@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.checkstyle.api;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+
+/**
+ * The XML elements a check subscribes to when reading a file with
+ * {@link AbstractStaticCheck#streamXml(com.puppycrawl.tools.checkstyle.api.FileText, XmlSubscriptions)}.
+ * <p>
+ * Elements are selected by paths of local element names separated by <code>/</code>. A path has to start with
+ * <code>/</code>, <code>//</code> matches any number of elements and <code>*</code> matches a single element, e.g.
+ * <code>/features/feature/bundle</code>, <code>//channel-type/label</code> or <code>/project//*</code>.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+public final class XmlSubscriptions {
+
+    private static final String ANY_ELEMENT = "*";
+    private static final String ANY_DESCENDANTS = "";
+
+    private final List<Subscription> subscriptions = new ArrayList<>();
+
+    /**
+     * Subscribes to all elements matching a path
+     *
+     * @param path the path of the elements
+     * @param listener the listener that is notified for each matching element
+     * @return this instance
+     */
+    public XmlSubscriptions onElement(String path, XmlElementListener listener) {
+        subscriptions.add(new Subscription(parsePath(path), null, listener));
+        return this;
+    }
+
+    /**
+     * Subscribes to all elements matching a path, which have an attribute
+     *
+     * @param path the path of the elements
+     * @param attributeName the name of the attribute, see {@link XmlElement#getAttribute(String)}
+     * @param listener the listener that is notified for each matching element
+     * @return this instance
+     */
+    public XmlSubscriptions onAttribute(String path, String attributeName, XmlElementListener listener) {
+        subscriptions.add(new Subscription(parsePath(path), attributeName, listener));
+        return this;
+    }
+
+    /**
+     * Reads all events of an XML stream and notifies the listeners. Listeners are notified when the end tag of an
+     * element is read, so the text of the element is complete.
+     */
+    void read(XMLStreamReader reader) throws XMLStreamException, CheckstyleException {
+        List<String> path = new ArrayList<>();
+        List<OpenElement> openElements = new ArrayList<>();
+
+        while (reader.hasNext()) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT:
+                    path.add(reader.getLocalName());
+                    openElements.add(openElement(reader, path));
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                    if (!openElements.isEmpty()) {
+                        OpenElement openElement = openElements.get(openElements.size() - 1);
+                        if (openElement != null) {
+                            openElement.text.append(reader.getTextCharacters(), reader.getTextStart(),
+                                    reader.getTextLength());
+                        }
+                    }
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    OpenElement openElement = openElements.remove(openElements.size() - 1);
+                    if (openElement != null) {
+                        XmlElement element = new XmlElement("/" + String.join("/", path), path.get(path.size() - 1),
+                                openElement.attributes, openElement.text.toString(), openElement.lineNumber,
+                                openElement.columnNumber);
+                        for (Subscription subscription : openElement.subscriptions) {
+                            subscription.listener.elementRead(element);
+                        }
+                    }
+                    path.remove(path.size() - 1);
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * @return the state of the opened element or <code>null</code> if no subscription matches it
+     */
+    private OpenElement openElement(XMLStreamReader reader, List<String> path) {
+        List<Subscription> matching = null;
+        Map<String, String> attributes = null;
+        for (Subscription subscription : subscriptions) {
+            if (!matches(subscription.path, 0, path, 0)) {
+                continue;
+            }
+            if (attributes == null) {
+                attributes = readAttributes(reader);
+            }
+            if (subscription.attributeName == null || attributes.containsKey(subscription.attributeName)) {
+                if (matching == null) {
+                    matching = new ArrayList<>(1);
+                }
+                matching.add(subscription);
+            }
+        }
+        if (matching == null) {
+            return null;
+        }
+        return new OpenElement(matching, attributes, reader.getLocation().getLineNumber(),
+                reader.getLocation().getColumnNumber());
+    }
+
+    private Map<String, String> readAttributes(XMLStreamReader reader) {
+        Map<String, String> attributes = new LinkedHashMap<>();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String prefix = reader.getAttributePrefix(i);
+            String localName = reader.getAttributeLocalName(i);
+            String name = prefix == null || prefix.isEmpty() ? localName : prefix + ":" + localName;
+            attributes.put(name, reader.getAttributeValue(i));
+        }
+        return attributes;
+    }
+
+    private static boolean matches(String[] pattern, int patternIndex, List<String> path, int pathIndex) {
+        if (patternIndex == pattern.length) {
+            return pathIndex == path.size();
+        }
+        String segment = pattern[patternIndex];
+        if (ANY_DESCENDANTS.equals(segment)) {
+            for (int i = pathIndex; i <= path.size(); i++) {
+                if (matches(pattern, patternIndex + 1, path, i)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return pathIndex < path.size() && (ANY_ELEMENT.equals(segment) || segment.equals(path.get(pathIndex)))
+                && matches(pattern, patternIndex + 1, path, pathIndex + 1);
+    }
+
+    private static String[] parsePath(String path) {
+        if (!path.startsWith("/") || path.endsWith("/")) {
+            throw new IllegalArgumentException("Invalid element path: " + path);
+        }
+        // The leading empty segment of the absolute path is dropped, any other empty segment comes from a //
+        String[] segments = path.split("/", -1);
+        return Arrays.copyOfRange(segments, 1, segments.length);
+    }
+
+    private static class Subscription {
+        private final String[] path;
+        private final String attributeName;
+        private final XmlElementListener listener;
+
+        Subscription(String[] path, String attributeName, XmlElementListener listener) {
+            this.path = path;
+            this.attributeName = attributeName;
+            this.listener = listener;
+        }
+    }
+
+    private static class OpenElement {
+        private final List<Subscription> subscriptions;
+        private final Map<String, String> attributes;
+        private final StringBuilder text = new StringBuilder();
+        private final int lineNumber;
+        private final int columnNumber;
+
+        OpenElement(List<Subscription> subscriptions, Map<String, String> attributes, int lineNumber,
+                int columnNumber) {
+            this.subscriptions = subscriptions;
+            this.attributes = attributes;
+            this.lineNumber = lineNumber;
+            this.columnNumber = columnNumber;
+        }
+    }
+}
@@ -39,8 +39,12 @@ import com.vladsch.flexmark.util.data.MutableDataSet;
  */
 public class MarkdownCheck extends AbstractStaticCheck {
 
+    private final MutableDataSet options = new MutableDataSet();
+
     public MarkdownCheck() {
         setFileExtensions(MARKDOWN_EXTENSION);
+        // By setting this option to true, the parser provides line numbers in the original markdown text for each node
+        options.set(Parser.TRACK_DOCUMENT_LINES, true);
     }
 
     @Override
@@ -51,10 +55,6 @@ public class MarkdownCheck extends AbstractStaticCheck {
     }
 
     private void checkReadMe(FileText fileText) {
-        MutableDataSet options = new MutableDataSet();
-        // By setting this option to true, the parser provides line numbers in the original markdown text for each node
-        options.set(Parser.TRACK_DOCUMENT_LINES, true);
-
         Node readmeMarkdownNode = parseMarkdown(fileText, options);
         // CallBack is used in order to use the protected log method of the AbstractStaticCheck in the Visitor
         MarkdownVisitorCallback callBack = (line, message) -> MarkdownCheck.this.log(line + 1, message);
@@ -14,25 +14,38 @@ package org.openhab.tools.analysis.utils;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.HttpURLConnection;
 import java.net.URL;
 import java.net.URLConnection;
-import java.util.Optional;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
-import org.apache.commons.io.IOUtils;
-import org.apache.commons.io.output.ByteArrayOutputStream;
-
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
+import org.eclipse.jdt.annotation.Nullable;
 
 /**
  * A simple caching HttpClient
  *
  * A {@link ContentReceivedCallback} is used to convert the downloaded data.
- * The cached entry expires after {@link #RETRY_TIME}
+ * <p>
+ * The downloaded data is shared by all clients. Each URL is downloaded by a single background task at a time, other
+ * requests for the same URL wait for the result of that task instead of downloading it again. Requests for different
+ * URLs never block each other. The cached entry expires after {@link #RETRY_TIME}. Expired content is revalidated
+ * with a conditional request (<code>If-None-Match</code> / <code>If-Modified-Since</code>) and kept if the server is
+ * not reachable. The least recently used entries are evicted when the cached data exceeds {@link #MAX_CACHE_SIZE}.
  *
  * @author Svilen Valkanov - Initial contribution
+ * @author openHAB Contributors - Concurrent single-flight downloads with timeouts, revalidation and statistics
  * @param <T> the type of the object being returned from the client
  */
 public class CachingHttpClient<T> {
@@ -40,13 +53,49 @@ public class CachingHttpClient<T> {
      * Retry time in minutes
      */
     private static final int RETRY_TIME = 10;
-    private static Cache<URL, Optional<byte[]>> cache = CacheBuilder.newBuilder()
-            .expireAfterWrite(RETRY_TIME, TimeUnit.MINUTES).build();
 
-    private ContentReceivedCallback<T> callback;
+    /**
+     * Maximum size of the cached data in bytes
+     */
+    private static final long MAX_CACHE_SIZE = 16 * 1024 * 1024;
+
+    private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration DEFAULT_READ_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final ConcurrentMap<URL, CompletableFuture<Entry>> CACHE = new ConcurrentHashMap<>();
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, CachingHttpClient.class.getSimpleName());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final AtomicLong HITS = new AtomicLong();
+    private static final AtomicLong MISSES = new AtomicLong();
+    private static final AtomicLong REVALIDATIONS = new AtomicLong();
+    private static final AtomicLong FAILURES = new AtomicLong();
+    private static final AtomicLong DOWNLOAD_NANOS = new AtomicLong();
+
+    private final ContentReceivedCallback<T> callback;
+    private final Duration connectTimeout;
+    private final Duration readTimeout;
+    private final Duration timeToLive;
 
     public CachingHttpClient(ContentReceivedCallback<T> callback) {
+        this(callback, DEFAULT_CONNECT_TIMEOUT, DEFAULT_READ_TIMEOUT, Duration.ofMinutes(RETRY_TIME));
+    }
+
+    /**
+     * @param callback converts the downloaded data
+     * @param connectTimeout the timeout for connecting to the server
+     * @param readTimeout the timeout for reading data from the server
+     * @param timeToLive the time after which cached data is revalidated and failed downloads are retried
+     */
+    public CachingHttpClient(ContentReceivedCallback<T> callback, Duration connectTimeout, Duration readTimeout,
+            Duration timeToLive) {
         this.callback = callback;
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+        this.timeToLive = timeToLive;
     }
 
     /**
@@ -59,27 +108,151 @@ public class CachingHttpClient<T> {
      * @throws IllegalArgumentException if the URL is null
      * @return the requested object or null, if the first download attempt is unsuccessful
      */
-    public synchronized T get(URL url) throws IOException {
+    public @Nullable T get(URL url) throws IOException {
+        try {
+            return getAsync(url).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while getting " + url, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException("Unable to get " + url, cause);
+        }
+    }
+
+    /**
+     * Gets a file without blocking the calling thread.
+     *
+     * @param url the resource URL
+     * @throws IllegalArgumentException if the URL is null
+     * @return a future that completes with the requested object, or with null if a previous download attempt was
+     *         unsuccessful. The future completes exceptionally with an {@link IOException} if the download attempt
+     *         made for this request is unsuccessful.
+     */
+    public CompletableFuture<@Nullable T> getAsync(URL url) {
         if (url == null) {
             throw new IllegalArgumentException("URL must not be null");
         }
 
-        Optional<byte[]> content;
+        boolean[] started = new boolean[1];
+        CompletableFuture<Entry> future = Objects.requireNonNull(CACHE.compute(url, (key, current) -> {
+            if (current != null && (!current.isDone() || !current.join().isExpired(timeToLive))) {
+                return current;
+            }
+            started[0] = true;
+            Entry previous = current != null ? current.join() : null;
+            return CompletableFuture.supplyAsync(() -> download(key, previous), EXECUTOR);
+        }));
+
+        // Only the requests that were waiting for the download attempt get its failure
+        boolean attempted = started[0] || !future.isDone();
+        if (started[0]) {
+            future.whenComplete((entry, throwable) -> evict());
+        } else {
+            HITS.incrementAndGet();
+        }
+
+        return future.thenApply(entry -> {
+            entry.lastAccess = System.nanoTime();
+            if (entry.content != null) {
+                return callback.transform(entry.content);
+            } else if (attempted) {
+                throw new CompletionException(new IOException("Unable to get " + url, entry.failure));
+            }
+            return null;
+        });
+    }
+
+    /**
+     * @return a description of the collected statistics for logging
+     */
+    public static String getStatistics() {
+        return String.format(
+                "%d cache hit(s), %d download(s) taking %dms, %d revalidated, %d failed, %d cached URL(s)", HITS.get(),
+                MISSES.get(), TimeUnit.NANOSECONDS.toMillis(DOWNLOAD_NANOS.get()), REVALIDATIONS.get(), FAILURES.get(),
+                CACHE.size());
+    }
+
+    private Entry download(URL url, Entry previous) {
+        MISSES.incrementAndGet();
+        long start = System.nanoTime();
         try {
-            content = cache.get(url, () -> Optional.of(getContent(url)));
-        } catch (ExecutionException e) {
-            cache.put(url, Optional.empty());
-            throw new IOException("Unable to get " + url, e.getCause());
+            URLConnection connection = url.openConnection();
+            connection.setConnectTimeout((int) connectTimeout.toMillis());
+            connection.setReadTimeout((int) readTimeout.toMillis());
+            if (previous != null && previous.content != null) {
+                if (previous.etag != null) {
+                    connection.setRequestProperty("If-None-Match", previous.etag);
+                }
+                if (previous.lastModified != null) {
+                    connection.setRequestProperty("If-Modified-Since", previous.lastModified);
+                }
+            }
+
+            if (previous != null && connection instanceof HttpURLConnection httpConnection
+                    && httpConnection.getResponseCode() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+                REVALIDATIONS.incrementAndGet();
+                return previous.renew();
+            }
+            try (InputStream input = connection.getInputStream()) {
+                return new Entry(input.readAllBytes(), null, connection.getHeaderField("ETag"),
+                        connection.getHeaderField("Last-Modified"));
+            }
+        } catch (IOException e) {
+            FAILURES.incrementAndGet();
+            // Keep the expired content, if the server is not reachable
+            return previous != null && previous.content != null ? previous.renew() : new Entry(null, e, null, null);
+        } finally {
+            DOWNLOAD_NANOS.addAndGet(System.nanoTime() - start);
         }
-        return content.map(bytes -> callback.transform(bytes)).orElse(null);
     }
 
-    private byte[] getContent(URL url) throws IOException {
-        URLConnection connection = url.openConnection();
-        try (InputStream input = connection.getInputStream();
-                ByteArrayOutputStream output = new ByteArrayOutputStream()) {
-            IOUtils.copy(input, output);
-            return output.toByteArray();
+    private static void evict() {
+        long size = 0;
+        for (CompletableFuture<Entry> future : CACHE.values()) {
+            size += future.isDone() ? future.join().getSize() : 0;
+        }
+        while (size > MAX_CACHE_SIZE) {
+            Map.Entry<URL, CompletableFuture<Entry>> leastRecentlyUsed = CACHE.entrySet().stream()
+                    .filter(entry -> entry.getValue().isDone())
+                    .min(Comparator.comparingLong(entry -> entry.getValue().join().lastAccess)).orElse(null);
+            if (leastRecentlyUsed == null) {
+                break;
+            }
+            if (CACHE.remove(leastRecentlyUsed.getKey(), leastRecentlyUsed.getValue())) {
+                size -= leastRecentlyUsed.getValue().join().getSize();
+            }
+        }
+    }
+
+    private static class Entry {
+        private final byte[] content;
+        private final IOException failure;
+        private final String etag;
+        private final String lastModified;
+        private final long created = System.nanoTime();
+        private volatile long lastAccess = created;
+
+        Entry(byte[] content, IOException failure, String etag, String lastModified) {
+            this.content = content;
+            this.failure = failure;
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+
+        Entry renew() {
+            return new Entry(content, failure, etag, lastModified);
+        }
+
+        boolean isExpired(Duration timeToLive) {
+            return System.nanoTime() - created >= timeToLive.toNanos();
+        }
+
+        long getSize() {
+            return content != null ? content.length : 0;
         }
     }
 }
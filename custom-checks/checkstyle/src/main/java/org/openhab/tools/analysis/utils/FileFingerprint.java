@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Identifies the contents of a file on disk, so a result that is cached for a file in the JVM, e.g. of a Maven Daemon,
+ * is only reused for the same contents.
+ * <p>
+ * The contents are identified by their SHA-256 digest, so the contents themselves are not kept. The file is only read
+ * again if its modification time or size changed, or if it was modified shortly before the fingerprint was taken: a
+ * file that is modified again within the resolution of the file system timestamps can keep its modification time and
+ * size, so its modification time can only be trusted once it is older than this resolution.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+public final class FileFingerprint {
+
+    /**
+     * The coarsest resolution of the modification times of the common file systems, e.g. FAT
+     */
+    static final long TIMESTAMP_RESOLUTION_MILLIS = 2000;
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final long lastModified;
+    private final long size;
+    private final long takenAt;
+    private final byte[] digest;
+
+    private FileFingerprint(long lastModified, long size, long takenAt, byte[] digest) {
+        this.lastModified = lastModified;
+        this.size = size;
+        this.takenAt = takenAt;
+        this.digest = digest;
+    }
+
+    /**
+     * Takes the fingerprint of a file. It should be taken before the cached result is read from the file, so a
+     * modification while reading is detected by the next {@link #isUpToDate(Path)}.
+     *
+     * @param file the file
+     * @return the fingerprint of the current contents of the file
+     * @throws IOException if the file can not be read
+     */
+    public static FileFingerprint of(Path file) throws IOException {
+        long takenAt = System.currentTimeMillis();
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        return new FileFingerprint(attributes.lastModifiedTime().toMillis(), attributes.size(), takenAt,
+                digest(Files.readAllBytes(file)));
+    }
+
+    /**
+     * @param file the file of the fingerprint
+     * @return <code>true</code> if the file still has the contents of the fingerprint
+     * @throws IOException if the file can not be read
+     */
+    public boolean isUpToDate(Path file) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        long currentLastModified = attributes.lastModifiedTime().toMillis();
+        if (currentLastModified == lastModified && attributes.size() == size
+                && takenAt - lastModified > TIMESTAMP_RESOLUTION_MILLIS) {
+            return true;
+        }
+        return attributes.size() == size && MessageDigest.isEqual(digest, digest(Files.readAllBytes(file)));
+    }
+
+    /**
+     * @param contents the contents of a file
+     * @return the SHA-256 digest of the contents
+     */
+    public static byte[] digest(byte[] contents) {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM).digest(contents);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " is not supported", e);
+        }
+    }
+}
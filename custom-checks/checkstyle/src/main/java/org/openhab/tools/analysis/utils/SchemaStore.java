@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.ls.DOMImplementationLS;
+import org.w3c.dom.ls.LSInput;
+import org.xml.sax.SAXException;
+
+/**
+ * Provides compiled XML schemas without depending on the network.
+ * <p>
+ * The content of a schema is looked up in the following order:
+ * <ol>
+ * <li>Locations starting with {@value #CLASSPATH_PREFIX} are loaded from the class path</li>
+ * <li>Locations that are not HTTP(S) URLs (e.g. <code>file:</code> URLs) are read directly</li>
+ * <li>HTTP(S) URLs are looked up in the persistent store directory</li>
+ * <li>HTTP(S) URLs are looked up in the bundled schemas, the class path resources in {@value #BUNDLED_SCHEMAS_PATH}
+ * with the file name of the URL</li>
+ * <li>HTTP(S) URLs are downloaded and added to the persistent store</li>
+ * </ol>
+ * The store keeps the content of each schema once, named by its SHA-256 hash, and a reference from each URL to the
+ * content. The openHAB schemas are versioned, so stored schemas are never downloaded again. Schemas imported or
+ * included by a schema are resolved the same way.
+ * <p>
+ * Compiled schemas are thread-safe and are cached for the lifetime of the JVM, keyed by the location and the content
+ * hash, so each distinct schema is compiled only once. Each compiled schema is cached together with its
+ * {@link ValidatorPool}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+public class SchemaStore {
+    public static final String CLASSPATH_PREFIX = "classpath:";
+    public static final String BUNDLED_SCHEMAS_PATH = "schemas/";
+
+    private static final String CONTENT_EXTENSION = ".xsd";
+    private static final String REFERENCE_EXTENSION = ".ref";
+    private static final List<String> REMOTE_PROTOCOLS = List.of("http", "https");
+
+    private static final ConcurrentMap<String, ValidatorPool> COMPILED_SCHEMAS = new ConcurrentHashMap<>();
+    private static final CachingHttpClient<byte[]> HTTP_CLIENT = new CachingHttpClient<>(content -> content);
+
+    private final Logger logger = LoggerFactory.getLogger(SchemaStore.class);
+
+    private final Path directory;
+
+    /**
+     * @param directory the directory of the persistent store
+     */
+    public SchemaStore(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * @return the default directory of the persistent store in the local Maven repository
+     */
+    public static Path getDefaultDirectory() {
+        String localRepository = System.getProperty("maven.repo.local");
+        Path repository = localRepository != null ? Paths.get(localRepository)
+                : Paths.get(System.getProperty("user.home"), ".m2", "repository");
+        return repository.resolve(Paths.get(".cache", "openhab-sat", "schemas"));
+    }
+
+    /**
+     * Returns the compiled schema for a location
+     *
+     * @param location the URL of the schema or a class path resource prefixed with {@value #CLASSPATH_PREFIX}
+     * @return the compiled schema
+     * @throws IOException if the schema content can not be loaded
+     * @throws SAXException if the schema can not be compiled
+     */
+    public Schema getSchema(String location) throws IOException, SAXException {
+        return getValidatorPool(location).getSchema();
+    }
+
+    /**
+     * Returns the pool of validators for the compiled schema of a location
+     *
+     * @param location the URL of the schema or a class path resource prefixed with {@value #CLASSPATH_PREFIX}
+     * @return the validators of the compiled schema
+     * @throws IOException if the schema content can not be loaded
+     * @throws SAXException if the schema can not be compiled
+     */
+    public ValidatorPool getValidatorPool(String location) throws IOException, SAXException {
+        byte[] content = getContent(location);
+        String key = location + "@" + hash(content);
+        try {
+            return Objects.requireNonNull(
+                    COMPILED_SCHEMAS.computeIfAbsent(key, k -> new ValidatorPool(compile(location, content))));
+        } catch (UncheckedSAXException e) {
+            throw e.getSAXException();
+        }
+    }
+
+    /**
+     * Returns the content of a schema
+     *
+     * @param location the URL of the schema or a class path resource prefixed with {@value #CLASSPATH_PREFIX}
+     * @return the content of the schema
+     * @throws IOException if the schema content can not be loaded
+     */
+    public byte[] getContent(String location) throws IOException {
+        if (location.startsWith(CLASSPATH_PREFIX)) {
+            byte[] content = readResource(location.substring(CLASSPATH_PREFIX.length()));
+            if (content == null) {
+                throw new IOException("Unable to find class path resource " + location);
+            }
+            return content;
+        }
+
+        URL url;
+        try {
+            url = URI.create(location).toURL();
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Invalid schema location " + location, e);
+        }
+        if (!REMOTE_PROTOCOLS.contains(url.getProtocol())) {
+            try (InputStream inputStream = url.openStream()) {
+                return inputStream.readAllBytes();
+            }
+        }
+
+        byte[] content = readStored(location);
+        if (content != null) {
+            logger.debug("Using stored schema {}", location);
+            return content;
+        }
+
+        String path = url.getPath();
+        content = readResource(BUNDLED_SCHEMAS_PATH + path.substring(path.lastIndexOf('/') + 1));
+        if (content != null) {
+            logger.debug("Using bundled schema {}", location);
+            return content;
+        }
+
+        content = HTTP_CLIENT.get(url);
+        if (content == null) {
+            throw new IOException("Unable to get " + location);
+        }
+        store(location, content);
+        return content;
+    }
+
+    private Schema compile(String location, byte[] content) {
+        SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+        schemaFactory.setResourceResolver(
+                (type, namespaceURI, publicId, systemId, baseURI) -> resolve(systemId, baseURI, publicId));
+        try {
+            logger.debug("Compiling schema {}", location);
+            StreamSource source = new StreamSource(new ByteArrayInputStream(content));
+            if (location.startsWith(CLASSPATH_PREFIX)) {
+                // Allows to resolve schemas included with a relative location from the class path
+                URL resource = SchemaStore.class.getResource("/" + location.substring(CLASSPATH_PREFIX.length()));
+                source.setSystemId(resource != null ? resource.toExternalForm() : null);
+            } else {
+                source.setSystemId(location);
+            }
+            return schemaFactory.newSchema(source);
+        } catch (SAXException e) {
+            throw new UncheckedSAXException(e);
+        }
+    }
+
+    /**
+     * Resolves schemas imported or included by a schema through the store
+     *
+     * @return the content of the schema or <code>null</code> to let the schema factory resolve it
+     */
+    private LSInput resolve(String systemId, String baseURI, String publicId) {
+        if (systemId == null) {
+            return null;
+        }
+        try {
+            String location = baseURI != null ? URI.create(baseURI).resolve(systemId).toString() : systemId;
+            byte[] content = getContent(location);
+
+            DOMImplementationLS domImplementation = (DOMImplementationLS) DocumentBuilderFactory.newInstance()
+                    .newDocumentBuilder().getDOMImplementation();
+            LSInput input = domImplementation.createLSInput();
+            input.setByteStream(new ByteArrayInputStream(content));
+            input.setSystemId(location);
+            input.setPublicId(publicId);
+            input.setBaseURI(baseURI);
+            return input;
+        } catch (IOException | IllegalArgumentException | ParserConfigurationException e) {
+            logger.debug("Unable to resolve {} from {} with the schema store", systemId, baseURI, e);
+            return null;
+        }
+    }
+
+    private byte[] readStored(String location) {
+        Path reference = directory.resolve(hash(location.getBytes(StandardCharsets.UTF_8)) + REFERENCE_EXTENSION);
+        try {
+            if (!Files.isRegularFile(reference)) {
+                return null;
+            }
+            String contentHash = Files.readString(reference, StandardCharsets.UTF_8).trim();
+            byte[] content = Files.readAllBytes(directory.resolve(contentHash + CONTENT_EXTENSION));
+            if (!contentHash.equals(hash(content))) {
+                logger.warn("Ignoring corrupted stored schema {}", location);
+                return null;
+            }
+            return content;
+        } catch (IOException e) {
+            logger.debug("Unable to read stored schema {}", location, e);
+            return null;
+        }
+    }
+
+    private void store(String location, byte[] content) {
+        String contentHash = hash(content);
+        try {
+            Files.createDirectories(directory);
+            write(directory.resolve(contentHash + CONTENT_EXTENSION), content);
+            write(directory.resolve(hash(location.getBytes(StandardCharsets.UTF_8)) + REFERENCE_EXTENSION),
+                    contentHash.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            logger.warn("Unable to store schema {} in {}: {}", location, directory, e.getMessage());
+        }
+    }
+
+    /**
+     * Writes a file atomically, so concurrent builds never read a partially written file
+     */
+    private void write(Path file, byte[] content) throws IOException {
+        Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            Files.write(tempFile, content);
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private byte[] readResource(String resource) throws IOException {
+        try (InputStream inputStream = SchemaStore.class.getResourceAsStream("/" + resource)) {
+            return inputStream != null ? inputStream.readAllBytes() : null;
+        }
+    }
+
+    private static String hash(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    private static class UncheckedSAXException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private final SAXException saxException;
+
+        UncheckedSAXException(SAXException cause) {
+            super(cause);
+            this.saxException = cause;
+        }
+
+        SAXException getSAXException() {
+            return saxException;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.utils;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.xml.transform.Source;
+import javax.xml.validation.Schema;
+import javax.xml.validation.Validator;
+
+import org.xml.sax.SAXException;
+
+/**
+ * A pool of reusable {@link Validator}s for a {@link Schema}.
+ * <p>
+ * A {@link Validator} is not thread-safe, but it can be reused after it is reset. The pool lends each validator to
+ * one thread at a time, so a schema can be used for validating from many threads without creating a new validator
+ * for each document. The {@link SchemaStore} keeps one pool next to each compiled schema, so the validators are
+ * created once per schema and are released together with the schema.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+public final class ValidatorPool {
+
+    /**
+     * Maximum number of idle validators kept per schema
+     */
+    private static final int MAX_IDLE = Runtime.getRuntime().availableProcessors() * 2;
+
+    private final Schema schema;
+    private final Queue<Validator> idleValidators = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+
+    /**
+     * @param schema the compiled schema
+     */
+    public ValidatorPool(Schema schema) {
+        this.schema = schema;
+    }
+
+    /**
+     * @return the compiled schema of the validators
+     */
+    public Schema getSchema() {
+        return schema;
+    }
+
+    /**
+     * Validates a document against the schema with a validator from the pool
+     *
+     * @param source the document to validate
+     * @throws SAXException if the document is invalid, see {@link Validator#validate(Source)}
+     * @throws IOException if the document can not be read
+     */
+    public void validate(Source source) throws SAXException, IOException {
+        Validator validator = idleValidators.poll();
+        if (validator != null) {
+            idleCount.decrementAndGet();
+        } else {
+            validator = schema.newValidator();
+        }
+
+        try {
+            validator.validate(source);
+        } finally {
+            validator.reset();
+            if (idleCount.incrementAndGet() <= MAX_IDLE) {
+                idleValidators.offer(validator);
+            } else {
+                idleCount.decrementAndGet();
+            }
+        }
+    }
+}
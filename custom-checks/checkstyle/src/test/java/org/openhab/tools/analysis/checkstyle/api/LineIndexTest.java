@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.checkstyle.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.puppycrawl.tools.checkstyle.api.FileText;
+
+/**
+ * Tests for {@link LineIndex}
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+public class LineIndexTest {
+
+    private static final List<String> LINES = List.of("<features name=\"features\">", //
+            "  <feature name=\"first\"", //
+            "      display-name=\"First\">", //
+            "    <feature>base</feature>", //
+            "  </feature>", //
+            "  <feature", //
+            "      name = \"second\">", //
+            "</features>");
+
+    private final LineIndex index = new LineIndex(new FileText(new File("feature.xml"), LINES));
+
+    @Test
+    public void testFindLine() {
+        assertEquals(8, index.getLineCount());
+        assertEquals(2, index.findLine("<feature ", 0));
+        assertEquals(4, index.findLine("feature>", 0));
+        assertEquals(5, index.findLine("feature>", 4));
+        assertEquals(0, index.findLine("feature>", 8));
+        assertEquals(0, index.findLine("missing", 0));
+        assertEquals(3, index.findLine("", 2));
+    }
+
+    @Test
+    public void testFindElementLine() {
+        assertEquals(1, index.findElementLine("features", 0));
+        assertEquals(2, index.findElementLine("feature", 0));
+        assertEquals(4, index.findElementLine("feature", 2));
+        assertEquals(6, index.findElementLine("feature", 4));
+        assertEquals(0, index.findElementLine("bundle", 0));
+    }
+
+    @Test
+    public void testFindAttributeLine() {
+        assertEquals(1, index.findAttributeLine("name", 0));
+        assertEquals(7, index.findAttributeLine("name", 2));
+        assertEquals(3, index.findAttributeLine("display-name", 0));
+    }
+
+    @Test
+    public void testLineTerminators(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("mixed.txt");
+        Files.writeString(file, "a\r\nb\rc\n");
+        LineIndex mixedIndex = new LineIndex(new FileText(file.toFile(), StandardCharsets.UTF_8.name()));
+
+        assertEquals(3, mixedIndex.getLineCount());
+        assertEquals(2, mixedIndex.findLine("b", 0));
+        assertEquals(3, mixedIndex.findLine("c", 0));
+    }
+}
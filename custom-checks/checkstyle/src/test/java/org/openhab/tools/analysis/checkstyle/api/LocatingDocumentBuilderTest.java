@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.checkstyle.api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.xml.sax.InputSource;
+
+import com.puppycrawl.tools.checkstyle.api.FileText;
+
+/**
+ * Tests for {@link LocatingDocumentBuilder}
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+public class LocatingDocumentBuilderTest {
+
+    private static final List<String> LINES = List.of("<?xml version=\"1.0\" encoding=\"UTF-8\"?>", //
+            "<features name=\"features\" xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\">", //
+            "  <!-- a <comment> -->", //
+            "  <feature", //
+            "      name = \"first\"", //
+            "      description='a > b'>", //
+            "    <bundle>one</bundle><bundle><![CDATA[two]]></bundle>", //
+            "  </feature>", //
+            "</features>");
+
+    @Test
+    public void testLocations() throws Exception {
+        Document document = parse(LINES);
+        Element features = document.getDocumentElement();
+        Element feature = (Element) features.getElementsByTagName("feature").item(0);
+        Node secondBundle = feature.getElementsByTagName("bundle").item(1);
+
+        assertLocation(2, 1, features);
+        assertLocation(2, 11, features.getAttributeNode("name"));
+        assertLocation(2, 27, features.getAttributeNode("xmlns:xsi"));
+        assertLocation(4, 3, feature);
+        assertLocation(5, 7, feature.getAttributeNode("name"));
+        assertLocation(6, 7, feature.getAttributeNode("description"));
+        assertLocation(7, 25, secondBundle);
+        assertLocation(7, 25, secondBundle.getFirstChild());
+    }
+
+    @Test
+    public void testDocumentIsBuiltLikeDefaultDocumentBuilder() throws Exception {
+        Document document = parse(LINES);
+        Document expected = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+                .parse(new ByteArrayInputStream(String.join("\n", LINES).getBytes(StandardCharsets.UTF_8)));
+
+        assertTrue(expected.isEqualNode(document));
+    }
+
+    private Document parse(List<String> lines) throws Exception {
+        FileText fileText = new FileText(new File("feature.xml"), lines);
+        LocatingDocumentBuilder builder = new LocatingDocumentBuilder(
+                DocumentBuilderFactory.newInstance().newDocumentBuilder());
+        return builder.parse(new InputSource(new StringReader(String.join("\n", lines))), new LineIndex(fileText));
+    }
+
+    private void assertLocation(int lineNumber, int columnNumber, Node node) {
+        XmlLocation location = XmlLocation.of(node);
+        assertNotNull(location, node.getNodeName());
+        assertEquals(lineNumber + ":" + columnNumber, location.toString(), node.getNodeName());
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.checkstyle.api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.puppycrawl.tools.checkstyle.api.FileText;
+
+/**
+ * Tests for the {@link ParsedFileCache} and the {@link PomModel} cache
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+public class ParsedFileCacheTest {
+
+    private final AtomicInteger parsed = new AtomicInteger();
+
+    @AfterEach
+    public void clearCache() {
+        ParsedFileCache.clear();
+    }
+
+    @Test
+    public void assertSameContentsAreParsedOnce() throws Exception {
+        File file = new File("thing-types.xml");
+        FileText first = new FileText(file, List.of("<thing-descriptions/>"));
+
+        assertEquals("<thing-descriptions/>", parse(first));
+        assertEquals("<thing-descriptions/>", parse(first));
+        // Another instance with the same text contents, e.g. in the next audit
+        assertEquals("<thing-descriptions/>", parse(new FileText(file, List.of("<thing-descriptions/>"))));
+        assertEquals(1, parsed.get());
+    }
+
+    @Test
+    public void assertChangedContentsOfTheSameSizeAreParsedAgain() throws Exception {
+        File file = new File("thing-types.xml");
+        parse(new FileText(file, List.of("<a/>")));
+
+        assertEquals("<b/>", parse(new FileText(file, List.of("<b/>"))));
+        assertEquals(2, parsed.get());
+    }
+
+    @Test
+    public void assertClearedCacheParsesTheFileAgain() throws Exception {
+        FileText fileText = new FileText(new File("thing-types.xml"), List.of("<thing-descriptions/>"));
+        parse(fileText);
+
+        ParsedFileCache.clear();
+        parse(fileText);
+        assertEquals(2, parsed.get());
+    }
+
+    @Test
+    public void assertChangedPomFileIsReadAgain(@TempDir Path directory) throws Exception {
+        Path pom = directory.resolve("pom.xml");
+        Files.writeString(pom, "<project><artifactId>first</artifactId></project>", StandardCharsets.UTF_8);
+        long lastModified = pom.toFile().lastModified();
+        TestCheck check = new TestCheck();
+        assertEquals("first", check.readPomModel(pom.toFile()).getProject().getArtifactId());
+
+        // Same size and modification time, but different contents
+        Files.writeString(pom, "<project><artifactId>other</artifactId></project>", StandardCharsets.UTF_8);
+        assertTrue(pom.toFile().setLastModified(lastModified));
+        assertEquals("other", check.readPomModel(pom.toFile()).getProject().getArtifactId());
+
+        // The text contents of the processed file are used instead of the file on disk
+        FileText edited = new FileText(pom.toFile(), List.of("<project><artifactId>edited</artifactId></project>"));
+        assertEquals("edited", check.readPomModel(edited).getProject().getArtifactId());
+    }
+
+    @Test
+    public void assertUnchangedPomFileIsReadOnce(@TempDir Path directory) throws Exception {
+        Path pom = directory.resolve("pom.xml");
+        Files.writeString(pom, "<project><artifactId>parent</artifactId></project>", StandardCharsets.UTF_8);
+        // A file that was modified before the timestamp resolution is validated by its modification time and size
+        assertTrue(pom.toFile().setLastModified(System.currentTimeMillis() - 60_000));
+        PomModel.ModelReader reader = () -> {
+            parsed.incrementAndGet();
+            return new PomModel(null, null);
+        };
+
+        PomModel model = PomModel.get(pom.toFile(), null, reader);
+        for (int i = 0; i < 3; i++) {
+            assertSame(model, PomModel.get(pom.toFile(), null, reader));
+        }
+        assertEquals(1, parsed.get());
+    }
+
+    private String parse(FileText fileText) {
+        return ParsedFileCache.getInstance().get(fileText, String.class, null, text -> {
+            parsed.incrementAndGet();
+            return text.getFullText().toString().strip();
+        });
+    }
+
+    private static class TestCheck extends AbstractStaticCheck {
+        @Override
+        protected void processFiltered(File file, FileText fileText) {
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.checkstyle.api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamReader;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.FileText;
+
+/**
+ * Tests for {@link XmlSubscriptions} and the streaming of XML files in {@link AbstractStaticCheck}
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+public class XmlSubscriptionsTest {
+
+    private static final List<String> LINES = List.of("<features name=\"features\"", //
+            "    xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xsi:schemaLocation=\"features.xsd\">", //
+            "  <feature name=\"first\">", //
+            "    first text", //
+            "    <bundle>mvn:org.openhab/first</bundle>", //
+            "    <feature>base</feature>", //
+            "  </feature>", //
+            "  <feature description=\"unnamed\">", //
+            "    <bundle start-level=\"80\">mvn:org.openhab/second</bundle>", //
+            "  </feature>", //
+            "</features>");
+
+    private final List<XmlElement> elements = new ArrayList<>();
+
+    @Test
+    public void assertNestedElementsAreReadInOrderOfTheirEndTags() throws Exception {
+        read(new XmlSubscriptions().onElement("/features/feature", elements::add).onElement("//bundle",
+                elements::add));
+
+        assertEquals(List.of("/features/feature/bundle", "/features/feature", "/features/feature/bundle",
+                "/features/feature"), elements.stream().map(XmlElement::getPath).toList());
+
+        XmlElement first = elements.get(1);
+        assertEquals("feature", first.getName());
+        assertEquals("first", first.getAttribute("name"));
+        // The text of the child elements is not part of the text of an element
+        assertEquals("first text", first.getText().trim());
+        assertFalse(first.getText().contains("mvn:"));
+        assertEquals(3, first.getLineNumber());
+
+        XmlElement secondBundle = elements.get(2);
+        assertEquals("mvn:org.openhab/second", secondBundle.getText());
+        assertEquals(Map.of("start-level", "80"), secondBundle.getAttributes());
+        assertEquals(9, secondBundle.getLineNumber());
+    }
+
+    @Test
+    public void assertWildcardsMatchElementsAtAnyDepth() throws Exception {
+        read(new XmlSubscriptions().onElement("/features//feature", elements::add));
+        assertEquals(List.of("/features/feature/feature", "/features/feature", "/features/feature"),
+                elements.stream().map(XmlElement::getPath).toList());
+
+        elements.clear();
+        read(new XmlSubscriptions().onElement("/features/*/*", elements::add));
+        assertEquals(List.of("bundle", "feature", "bundle"), elements.stream().map(XmlElement::getName).toList());
+    }
+
+    @Test
+    public void assertAttributeSubscriptionsOnlyMatchElementsWithTheAttribute() throws Exception {
+        read(new XmlSubscriptions().onAttribute("//feature", "name", elements::add)
+                .onAttribute("/features", "xsi:schemaLocation", elements::add));
+
+        assertEquals(2, elements.size());
+        assertEquals("first", elements.get(0).getAttribute("name"));
+        assertEquals("features.xsd", elements.get(1).getAttribute("xsi:schemaLocation"));
+    }
+
+    @Test
+    public void assertElementMatchingSeveralSubscriptionsIsPassedToEachListener() throws Exception {
+        List<XmlElement> attributeElements = new ArrayList<>();
+        read(new XmlSubscriptions().onElement("//bundle", elements::add).onAttribute("//bundle", "start-level",
+                attributeElements::add));
+
+        assertEquals(2, elements.size());
+        assertEquals(List.of(elements.get(1)), attributeElements);
+    }
+
+    @Test
+    public void assertListenerCanAbortTheProcessing() {
+        CheckstyleException exception = assertThrows(CheckstyleException.class,
+                () -> read(new XmlSubscriptions().onElement("//bundle", element -> {
+                    elements.add(element);
+                    throw new CheckstyleException("Aborted");
+                })));
+
+        assertEquals("Aborted", exception.getMessage());
+        assertEquals(1, elements.size());
+    }
+
+    @Test
+    public void assertInvalidPathsAreRejected() {
+        XmlSubscriptions subscriptions = new XmlSubscriptions();
+        assertThrows(IllegalArgumentException.class, () -> subscriptions.onElement("features/feature", elements::add));
+        assertThrows(IllegalArgumentException.class, () -> subscriptions.onElement("/features/", elements::add));
+    }
+
+    @Test
+    public void assertTextContentsOfTheFileAreStreamed(@TempDir Path directory) throws Exception {
+        // The file on disk differs from the text contents and uses a charset other than UTF-8
+        Path file = directory.resolve("feature.xml");
+        Files.writeString(file, "<features><feature name=\"Grüße\"/></features>", StandardCharsets.ISO_8859_1);
+
+        new TestCheck().streamXml(new FileText(file.toFile(), StandardCharsets.ISO_8859_1.name()),
+                new XmlSubscriptions().onElement("//feature", elements::add));
+        assertEquals("Grüße", elements.get(0).getAttribute("name"));
+
+        elements.clear();
+        new TestCheck().streamXml(new FileText(file.toFile(), List.of("<features>", "<feature name=\"edited\"/>",
+                "</features>")), new XmlSubscriptions().onElement("//feature", elements::add));
+        assertEquals("edited", elements.get(0).getAttribute("name"));
+        assertEquals(2, elements.get(0).getLineNumber());
+    }
+
+    private void read(XmlSubscriptions subscriptions) throws Exception {
+        XMLStreamReader reader = XMLInputFactory.newInstance()
+                .createXMLStreamReader(new StringReader(String.join("\n", LINES)));
+        try {
+            subscriptions.read(reader);
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static class TestCheck extends AbstractStaticCheck {
+        @Override
+        protected void processFiltered(File file, FileText fileText) throws CheckstyleException {
+        }
+    }
+}
@@ -96,6 +96,16 @@ public class OhInfXmlLabelCheckTest extends AbstractStaticCheckTest {
         verifyWithPath("invalidChannelTypeLabel", RELATIVE_PATH_TO_THING, expectedMessages);
     }
 
+    @Test
+    public void testDuplicateLabels() throws Exception {
+        final String[] expectedMessages = generateExpectedMessages(8,
+                MessageFormat.format(OhInfXmlLabelCheck.MESSAGE_LABEL_UPPERCASE, "channel-type", "id", "check1",
+                        "Sample channel Type"),
+                12, MessageFormat.format(OhInfXmlLabelCheck.MESSAGE_LABEL_UPPERCASE, "channel-type", "id", "check2",
+                        "Sample channel Type"));
+        verifyWithPath("duplicateLabels", RELATIVE_PATH_TO_THING, expectedMessages);
+    }
+
     @Test
     public void testInvalidThingTypeLabel() throws Exception {
         final String[] expectedMessages = generateExpectedMessages(36,
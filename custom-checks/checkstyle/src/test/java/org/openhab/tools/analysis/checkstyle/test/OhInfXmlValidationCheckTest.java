@@ -263,13 +263,33 @@ public class OhInfXmlValidationCheckTest extends AbstractStaticCheckTest {
         verifyWithPath("emptyThingTypeXml", RELATIVE_PATH_TO_THING, expectedMessages);
     }
 
+    @Test
+    public void testClassPathSchema() throws Exception {
+        DefaultConfiguration configuration = createModuleConfig(OhInfXmlValidationCheck.class);
+        configuration.addProperty("thingSchema", "classpath:schemaStoreTest/main.xsd");
+        configuration.addProperty("addonSchema", ADDON_SCHEMA_URL);
+        configuration.addProperty("configSchema", CONFIG_SCHEMA_URL);
+
+        // The imported types schema is bundled in the test resources, so no network access is needed
+        int lineNumber = 3;
+        // The single quotes of the validation message are removed by the message formatting of Checkstyle
+        String[] expectedMessages = generateExpectedMessages(lineNumber,
+                "Value ' with length = 0 is not facet-valid with respect to minLength 1 for type label.");
+        verifyWithPath(configuration, "classPathSchema", RELATIVE_PATH_TO_THING, expectedMessages);
+    }
+
     private void verifyWithPath(String testSubDirectory, String testFilePath, String[] expectedMessages)
             throws Exception {
+        verifyWithPath(CONFIGURATION, testSubDirectory, testFilePath, expectedMessages);
+    }
+
+    private void verifyWithPath(DefaultConfiguration configuration, String testSubDirectory, String testFilePath,
+            String[] expectedMessages) throws Exception {
         String directoryPath = getPath(testSubDirectory);
         File testDirectoryPath = new File(directoryPath);
 
         File[] testFiles = listFilesForFolder(testDirectoryPath, new ArrayList<>());
-        verify(createChecker(CONFIGURATION), testFiles, directoryPath + testFilePath, expectedMessages);
+        verify(createChecker(configuration), testFiles, directoryPath + testFilePath, expectedMessages);
     }
 
     private File[] listFilesForFolder(File folder, List<File> files) {
@@ -21,10 +21,16 @@ import static org.mockito.Mockito.*;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.net.MalformedURLException;
+import java.net.SocketTimeoutException;
 import java.net.URL;
 import java.text.MessageFormat;
 import java.text.SimpleDateFormat;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
@@ -49,6 +55,7 @@ import org.mockito.stubbing.Answer;
  * Tests for {@link CachingHttpClient}
  *
  * @author Svilen Valkanov - Initial contribution
+ * @author openHAB Contributors - Added tests for concurrent requests, revalidation and timeouts
  */
 @ExtendWith(MockitoExtension.class)
 public class CachingHttpClientTest {
@@ -59,6 +66,9 @@ public class CachingHttpClientTest {
     private static final String TEST_HOST = "localhost";
     private static final int TEST_TIMEOUT = 1000;
     private static final String SERVER_RESPONSE = "content";
+    private static final String ETAG = "\"v1\"";
+
+    private static final AtomicInteger URL_COUNTER = new AtomicInteger();
 
     private static Server server;
 
@@ -190,8 +200,78 @@ public class CachingHttpClientTest {
         verify(server.getHandler(), times(1)).handle(any(), any(), any(), any());
     }
 
+    @Test
+    public void testConcurrentRequestsShareOneDownload() throws Exception {
+        URL url = getUniqueURL(PATH_TO_RESOURCE);
+        Handler handler = server.getHandler();
+        Mockito.doAnswer((Answer<Handler>) invocation -> {
+            // Keep the download in flight while the other requests arrive
+            Thread.sleep(200);
+            respond((Request) invocation.getArguments()[2], (HttpServletResponse) invocation.getArguments()[3]);
+            return null;
+        }).when(handler).handle(any(), any(), any(), any());
+
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(testClient.getAsync(url));
+        }
+        for (CompletableFuture<String> future : futures) {
+            assertThat(future.get().trim(), equalTo(SERVER_RESPONSE));
+        }
+
+        verify(handler, times(1)).handle(any(), any(), any(), any());
+    }
+
+    @Test
+    public void testExpiredContentIsRevalidated() throws Exception {
+        URL url = getUniqueURL(PATH_TO_RESOURCE);
+        Handler handler = server.getHandler();
+        Mockito.doAnswer((Answer<Handler>) invocation -> {
+            HttpServletRequest request = (HttpServletRequest) invocation.getArguments()[2];
+            HttpServletResponse response = (HttpServletResponse) invocation.getArguments()[3];
+            if (ETAG.equals(request.getHeader("If-None-Match"))) {
+                ((Request) request).setHandled(true);
+                response.setStatus(HttpStatus.NOT_MODIFIED_304);
+            } else {
+                response.setHeader("ETag", ETAG);
+                respond((Request) request, response);
+            }
+            return null;
+        }).when(handler).handle(any(), any(), any(), any());
+
+        CachingHttpClient<String> client = new CachingHttpClient<>(testCallback, Duration.ofSeconds(1),
+                Duration.ofSeconds(1), Duration.ZERO);
+        assertThat(String.valueOf(client.get(url)).trim(), equalTo(SERVER_RESPONSE));
+        assertThat(String.valueOf(client.get(url)).trim(), equalTo(SERVER_RESPONSE));
+
+        verify(handler, times(2)).handle(any(), any(), any(), any());
+    }
+
+    @Test
+    public void testSlowServerTimesOut() throws Exception {
+        URL url = getUniqueURL(PATH_TO_RESOURCE);
+        Mockito.doAnswer((Answer<Handler>) invocation -> {
+            Thread.sleep(TEST_TIMEOUT / 2);
+            respond((Request) invocation.getArguments()[2], (HttpServletResponse) invocation.getArguments()[3]);
+            return null;
+        }).when(server.getHandler()).handle(any(), any(), any(), any());
+
+        CachingHttpClient<String> client = new CachingHttpClient<>(testCallback, Duration.ofSeconds(1),
+                Duration.ofMillis(100), Duration.ofMinutes(1));
+        IOException exception = assertThrows(IOException.class, () -> client.get(url));
+        assertThat(exception.getCause(), instanceOf(SocketTimeoutException.class));
+    }
+
+    private void respond(Request baseRequest, HttpServletResponse response) throws IOException {
+        baseRequest.setHandled(true);
+        response.setStatus(HttpStatus.OK_200);
+        response.setContentType("text/html");
+        response.getWriter().println(SERVER_RESPONSE);
+    }
+
     private URL getUniqueURL(String path) throws MalformedURLException {
-        String fileName = new SimpleDateFormat("mmssSSS'.txt'").format(new Date());
+        String fileName = new SimpleDateFormat("mmssSSS'-" + URL_COUNTER.incrementAndGet() + ".txt'")
+                .format(new Date());
         return new URL("http", TEST_HOST, TEST_PORT, path + "/" + fileName);
     }
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link FileFingerprint}
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+public class FileFingerprintTest {
+
+    private @TempDir Path directory;
+
+    @Test
+    public void assertUnchangedFileIsUpToDate() throws Exception {
+        Path file = write("feature.xml", "<features/>");
+        FileFingerprint fingerprint = FileFingerprint.of(file);
+
+        assertTrue(fingerprint.isUpToDate(file));
+        // Touching a file does not change its contents
+        assertTrue(file.toFile().setLastModified(System.currentTimeMillis() - 60_000));
+        assertTrue(fingerprint.isUpToDate(file));
+    }
+
+    @Test
+    public void assertRecentlyModifiedFileWithSameTimeAndSizeIsCompared() throws Exception {
+        Path file = write("feature.xml", "<features name=\"first\"/>");
+        long lastModified = file.toFile().lastModified();
+        FileFingerprint fingerprint = FileFingerprint.of(file);
+
+        // Modified within the timestamp resolution, so the modification time and size did not change
+        write("feature.xml", "<features name=\"other\"/>");
+        assertTrue(file.toFile().setLastModified(lastModified));
+        assertFalse(fingerprint.isUpToDate(file));
+    }
+
+    @Test
+    public void assertFileWithChangedSizeIsNotUpToDate() throws Exception {
+        Path file = write("feature.xml", "<features/>");
+        FileFingerprint fingerprint = FileFingerprint.of(file);
+
+        write("feature.xml", "<features name=\"longer\"/>");
+        assertFalse(fingerprint.isUpToDate(file));
+    }
+
+    private Path write(String name, String content) throws Exception {
+        return Files.writeString(directory.resolve(name), content, StandardCharsets.UTF_8);
+    }
+}
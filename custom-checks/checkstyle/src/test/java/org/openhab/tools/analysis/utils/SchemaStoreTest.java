@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.server.handler.AbstractHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.xml.sax.SAXException;
+
+/**
+ * Tests for {@link SchemaStore}
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+public class SchemaStoreTest {
+
+    private static final String MAIN_SCHEMA = SchemaStore.CLASSPATH_PREFIX + "schemaStoreTest/main.xsd";
+    private static final String REMOTE_SCHEMA_RESOURCE = "/schemaStoreTest/remote.xsd";
+    // Nothing listens on port 1, so the schema can only be loaded from the bundled schemas
+    private static final String BUNDLED_SCHEMA_URL = "http://localhost:1/schemas/types-1.0.0.xsd";
+
+    private @TempDir Path storeDirectory;
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private Server server;
+
+    @BeforeEach
+    public void startServer() throws Exception {
+        server = new Server();
+        ServerConnector connector = new ServerConnector(server);
+        connector.setHost("localhost");
+        server.addConnector(connector);
+        server.setHandler(new AbstractHandler() {
+            @Override
+            public void handle(String target, Request baseRequest, HttpServletRequest request,
+                    HttpServletResponse response) throws IOException {
+                requests.incrementAndGet();
+                baseRequest.setHandled(true);
+                try (InputStream inputStream = getClass().getResourceAsStream(REMOTE_SCHEMA_RESOURCE)) {
+                    inputStream.transferTo(response.getOutputStream());
+                }
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    public void stopServer() throws Exception {
+        server.stop();
+    }
+
+    @Test
+    public void testClassPathSchemaIsCompiledOnce() throws Exception {
+        Schema schema = new SchemaStore(storeDirectory).getSchema(MAIN_SCHEMA);
+
+        assertSame(schema, new SchemaStore(storeDirectory).getSchema(MAIN_SCHEMA));
+        // The validators are kept together with the compiled schema
+        ValidatorPool validatorPool = new SchemaStore(storeDirectory).getValidatorPool(MAIN_SCHEMA);
+        assertSame(schema, validatorPool.getSchema());
+        assertSame(validatorPool, new SchemaStore(storeDirectory).getValidatorPool(MAIN_SCHEMA));
+        validatorPool.validate(new StreamSource(new StringReader("<thing><label>Label</label></thing>")));
+        schema.newValidator().validate(new StreamSource(new StringReader("<thing><label>Label</label></thing>")));
+        assertThrows(SAXException.class, () -> schema.newValidator()
+                .validate(new StreamSource(new StringReader("<thing><label></label></thing>"))));
+    }
+
+    @Test
+    public void testBundledSchemaIsUsedWithoutNetwork() throws Exception {
+        byte[] content = new SchemaStore(storeDirectory).getContent(BUNDLED_SCHEMA_URL);
+
+        assertTrue(new String(content).contains("urn:test:types"));
+        assertTrue(isEmpty(storeDirectory));
+    }
+
+    @Test
+    public void testDownloadedSchemaIsStored() throws Exception {
+        String url = "http://localhost:" + ((ServerConnector) server.getConnectors()[0]).getLocalPort()
+                + "/schemas/remote-1.0.0.xsd";
+
+        Schema schema = new SchemaStore(storeDirectory).getSchema(url);
+        server.stop();
+
+        assertFalse(isEmpty(storeDirectory));
+        assertSame(schema, new SchemaStore(storeDirectory).getSchema(url));
+        assertEquals(1, requests.get());
+    }
+
+    private boolean isEmpty(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.findAny().isEmpty();
+        }
+    }
+}
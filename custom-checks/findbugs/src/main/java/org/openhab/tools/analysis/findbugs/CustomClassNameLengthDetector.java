@@ -34,6 +34,7 @@ import edu.umd.cs.findbugs.ba.ClassContext;
  * @see <a href="https://github.com/tim-group/test-driven-detectors4findbugs">test-driven-detectors4findbugs</a>
  *
  * @author Graham Allan - Initial contribution
+ * @author openHAB Contributors - Profile the detector
  */
 public class CustomClassNameLengthDetector implements Detector {
 
@@ -52,10 +53,15 @@ public class CustomClassNameLengthDetector implements Detector {
 
     @Override
     public void visitClassContext(ClassContext classContext) {
-        int classNameLength = classContext.getClassDescriptor().getSimpleName().length();
+        long[] sample = CheckProfiler.start();
+        try {
+            int classNameLength = classContext.getClassDescriptor().getSimpleName().length();
 
-        if (classNameLength > ARBITRARY_MAX_CLASS_NAME_LENGTH) {
-            bugReporter.reportBug(new BugInstance("CLASS_NAME_LENGTH", Priorities.NORMAL_PRIORITY));
+            if (classNameLength > ARBITRARY_MAX_CLASS_NAME_LENGTH) {
+                bugReporter.reportBug(new BugInstance("CLASS_NAME_LENGTH", Priorities.NORMAL_PRIORITY));
+            }
+        } finally {
+            CheckProfiler.stop(sample, this, CheckProfiler.VISIT_CLASS_CONTEXT);
         }
     }
 }
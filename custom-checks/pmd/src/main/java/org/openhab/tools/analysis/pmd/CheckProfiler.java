@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.pmd;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Records the measurements of the PMD rules for the <code>ProfileReport</code> of the SAT plugin, when the system
+ * property <code>sat.profile</code> is <code>true</code>. The rules can not depend on the SAT plugin, so the
+ * measurements are added to its JVM singleton, as documented by <code>ReportUtil.getOrCreateJvmSingleton</code>.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+final class CheckProfiler {
+
+    static final String APPLY = "apply";
+
+    private static final String MEASUREMENTS_KEY = "org.openhab.tools.analysis.report.ProfileReport.MEASUREMENTS";
+    private static final String TOOL = "pmd";
+
+    private static final boolean ENABLED = Boolean.getBoolean("sat.profile");
+    private static final long[] DISABLED = new long[0];
+    private static final ConcurrentMap<String, AtomicLongArray> MEASUREMENTS = ENABLED ? getMeasurements()
+            : new ConcurrentHashMap<>();
+
+    /**
+     * The last file of each measurement of a thread, so a file is counted once for all nodes of the file
+     */
+    private static final ThreadLocal<Map<AtomicLongArray, Object>> LAST_FILES = ThreadLocal.withInitial(HashMap::new);
+
+    private CheckProfiler() {
+        // Hidden utility class constructor
+    }
+
+    /**
+     * @return the start time and the allocated bytes of the measurement, or an empty array if the profiling is disabled
+     */
+    static long[] start() {
+        return ENABLED ? new long[] { System.nanoTime(), getAllocatedBytes() } : DISABLED;
+    }
+
+    /**
+     * Records a measurement that was started with {@link #start()}
+     */
+    static void stop(long[] start, Object rule, String phase, Object file) {
+        if (!ENABLED) {
+            return;
+        }
+        long wallTime = System.nanoTime() - start[0];
+        long allocatedBytes = getAllocatedBytes() - start[1];
+        AtomicLongArray measurement = Objects.requireNonNull(MEASUREMENTS.computeIfAbsent(
+                TOOL + "/" + rule.getClass().getSimpleName() + "/" + phase, key -> new AtomicLongArray(4)));
+        measurement.addAndGet(0, wallTime);
+        measurement.incrementAndGet(1);
+        if (!file.equals(LAST_FILES.get().put(measurement, file))) {
+            measurement.incrementAndGet(2);
+        }
+        measurement.addAndGet(3, allocatedBytes);
+    }
+
+    private static long getAllocatedBytes() {
+        return ManagementFactory.getThreadMXBean() instanceof ThreadMXBean threadMXBean
+                ? Math.max(threadMXBean.getCurrentThreadAllocatedBytes(), 0)
+                : 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ConcurrentMap<String, AtomicLongArray> getMeasurements() {
+        synchronized (ClassLoader.getSystemClassLoader()) {
+            return (ConcurrentMap<String, AtomicLongArray>) System.getProperties().computeIfAbsent(MEASUREMENTS_KEY,
+                    key -> new ConcurrentHashMap<String, AtomicLongArray>());
+        }
+    }
+}
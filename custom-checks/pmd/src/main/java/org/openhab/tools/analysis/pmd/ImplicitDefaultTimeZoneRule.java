@@ -14,11 +14,13 @@ package org.openhab.tools.analysis.pmd;
 
 import java.util.List;
 
+import net.sourceforge.pmd.lang.ast.Node;
 import net.sourceforge.pmd.lang.java.ast.ASTConstructorCall;
 import net.sourceforge.pmd.lang.java.ast.ASTMethodCall;
 import net.sourceforge.pmd.lang.java.ast.JavaNode;
 import net.sourceforge.pmd.lang.java.rule.AbstractJavaRulechainRule;
 import net.sourceforge.pmd.lang.java.types.InvocationMatcher;
+import net.sourceforge.pmd.reporting.RuleContext;
 
 /**
  * Checks if one of the JDK provided methods which implicitly use the default time zone is used.
@@ -28,6 +30,7 @@ import net.sourceforge.pmd.lang.java.types.InvocationMatcher;
  * belonging to "irrelevant" things like AWT or Swing are excluded.
  *
  * @author Ravi Nadahar - Initial contribution
+ * @author openHAB Contributors - Profile the rule
  */
 public class ImplicitDefaultTimeZoneRule extends AbstractJavaRulechainRule {
 
@@ -61,6 +64,16 @@ public class ImplicitDefaultTimeZoneRule extends AbstractJavaRulechainRule {
         super(ASTConstructorCall.class, ASTMethodCall.class);
     }
 
+    @Override
+    public void apply(Node target, RuleContext ctx) {
+        long[] sample = CheckProfiler.start();
+        try {
+            super.apply(target, ctx);
+        } finally {
+            CheckProfiler.stop(sample, this, CheckProfiler.APPLY, target.getTextDocument());
+        }
+    }
+
     @Override
     public String getDescription() {
         return "Methods that implicitly use the default time zone can lead to bugs. Use an overloaded version with an explicit time zone.";
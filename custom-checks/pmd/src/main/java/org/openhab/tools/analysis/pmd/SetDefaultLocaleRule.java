@@ -14,16 +14,19 @@ package org.openhab.tools.analysis.pmd;
 
 import java.util.List;
 
+import net.sourceforge.pmd.lang.ast.Node;
 import net.sourceforge.pmd.lang.java.ast.ASTConstructorCall;
 import net.sourceforge.pmd.lang.java.ast.ASTMethodCall;
 import net.sourceforge.pmd.lang.java.ast.JavaNode;
 import net.sourceforge.pmd.lang.java.rule.AbstractJavaRulechainRule;
 import net.sourceforge.pmd.lang.java.types.InvocationMatcher;
+import net.sourceforge.pmd.reporting.RuleContext;
 
 /**
  * Checks if the default locale is being set.
  *
  * @author Ravi Nadahar - Initial contribution
+ * @author openHAB Contributors - Profile the rule
  */
 public class SetDefaultLocaleRule extends AbstractJavaRulechainRule {
 
@@ -36,6 +39,16 @@ public class SetDefaultLocaleRule extends AbstractJavaRulechainRule {
         super(ASTConstructorCall.class, ASTMethodCall.class);
     }
 
+    @Override
+    public void apply(Node target, RuleContext ctx) {
+        long[] sample = CheckProfiler.start();
+        try {
+            super.apply(target, ctx);
+        } finally {
+            CheckProfiler.stop(sample, this, CheckProfiler.APPLY, target.getTextDocument());
+        }
+    }
+
     @Override
     public String getDescription() {
         return "Applications should not set the default Locale since it affects the whole JVM.";
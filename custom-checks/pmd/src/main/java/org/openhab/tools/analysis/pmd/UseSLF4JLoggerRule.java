@@ -15,16 +15,19 @@ package org.openhab.tools.analysis.pmd;
 import java.util.HashSet;
 import java.util.Set;
 
+import net.sourceforge.pmd.lang.ast.Node;
 import net.sourceforge.pmd.lang.java.ast.ASTImportDeclaration;
 import net.sourceforge.pmd.lang.java.ast.ASTType;
 import net.sourceforge.pmd.lang.java.ast.ASTVariableDeclarator;
 import net.sourceforge.pmd.lang.java.rule.AbstractJavaRule;
 import net.sourceforge.pmd.lang.java.symbols.JTypeDeclSymbol;
+import net.sourceforge.pmd.reporting.RuleContext;
 
 /**
  * Checks if a logger other than the one provided by slf4j is used
  *
  * @author Lyubomir Papazov - Initial contribution
+ * @author openHAB Contributors - Profile the rule
  */
 public class UseSLF4JLoggerRule extends AbstractJavaRule {
     private static final String LOGGER_LITERAL = "Logger";
@@ -39,6 +42,16 @@ public class UseSLF4JLoggerRule extends AbstractJavaRule {
         forbiddenLoggers.add("org.apache.commons.logging.Log");
     }
 
+    @Override
+    public void apply(Node target, RuleContext ctx) {
+        long[] sample = CheckProfiler.start();
+        try {
+            super.apply(target, ctx);
+        } finally {
+            CheckProfiler.stop(sample, this, CheckProfiler.APPLY, target.getTextDocument());
+        }
+    }
+
     @Override
     public String getMessage() {
         return "The org.slf4j Logger should be used";
@@ -15,9 +15,12 @@ package org.openhab.tools.analysis.report;
 import static org.openhab.tools.analysis.report.ReportUtil.*;
 
 import java.io.File;
+import java.io.IOException;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -40,6 +43,7 @@ import org.slf4j.LoggerFactory;
  * based on SAT plugin configuration values.
  *
  * @author Wouter Born - Initial contribution
+ * @author openHAB Contributors - Write the profile of the custom checks
  */
 @Component(role = SummaryReportExecutionListener.class)
 public class SummaryReportExecutionListener extends AbstractExecutionListener {
@@ -68,16 +72,19 @@ public class SummaryReportExecutionListener extends AbstractExecutionListener {
         private final String directory;
         private final SummaryHtmlGeneration htmlGeneration;
         private final int htmlGenerationPeriod;
+        private final ReportEngine reportEngine;
         private Instant lastUpdate = Instant.MIN;
 
-        public SummaryUpdater(String directory, SummaryHtmlGeneration htmlGeneration, int htmlGenerationPeriod) {
+        public SummaryUpdater(String directory, SummaryHtmlGeneration htmlGeneration, int htmlGenerationPeriod,
+                ReportEngine reportEngine) {
             this.directory = directory;
             this.htmlGeneration = htmlGeneration;
             this.htmlGenerationPeriod = htmlGenerationPeriod;
+            this.reportEngine = reportEngine;
         }
 
         private File update() {
-            File latestSummaryReport = summaryReportHtmlGenerator.generateHtmlSummaryByRules(directory);
+            File latestSummaryReport = summaryReportHtmlGenerator.generateHtmlSummaryByRules(directory, reportEngine);
             lastUpdate = Instant.now();
             return latestSummaryReport;
         }
@@ -138,8 +145,11 @@ public class SummaryReportExecutionListener extends AbstractExecutionListener {
                         .valueOf(getPluginParameterValue(event, HTML_GENERATION_PARAMETER).toUpperCase());
                 int htmlGenerationPeriod = Integer
                         .parseInt(getPluginParameterValue(event, HTML_GENERATION_PERIOD_PARAMETER));
+                String reportEngineValue = getPluginParameterValue(event, ENGINE_PARAMETER);
+                ReportEngine reportEngine = reportEngineValue == null ? ReportEngine.STREAMING
+                        : ReportEngine.valueOf(reportEngineValue.toUpperCase());
 
-                summaryUpdater = new SummaryUpdater(directory, htmlGeneration, htmlGenerationPeriod);
+                summaryUpdater = new SummaryUpdater(directory, htmlGeneration, htmlGenerationPeriod, reportEngine);
                 summaryUpdaters.put(directory, summaryUpdater);
             }
         }
@@ -149,6 +159,10 @@ public class SummaryReportExecutionListener extends AbstractExecutionListener {
     private String getPluginParameterValue(ExecutionEvent event, String parameterName)
             throws ExpressionEvaluationException {
         Parameter parameter = event.getMojoExecution().getMojoDescriptor().getParameterMap().get(parameterName);
+        if (parameter == null) {
+            // The parameter is not supported by the SAT plugin version that is used
+            return null;
+        }
 
         PluginParameterExpressionEvaluator evaluator = getEvaluator(event);
         String parameterValue = (String) evaluator.evaluate(parameter.getExpression());
@@ -161,6 +175,36 @@ public class SummaryReportExecutionListener extends AbstractExecutionListener {
     public void generateFinalSummaryReports() {
         synchronized (summaryUpdaters) {
             summaryUpdaters.values().forEach(SummaryUpdater::finalUpdate);
+            if (!summaryUpdaters.isEmpty()) {
+                logger.info("Static code analysis summary: {}", SummaryCollector.getStatistics());
+            }
+        }
+    }
+
+    /**
+     * Writes the profile of the custom checks to the summary report directories, or to the default directory when no
+     * summary report was generated.
+     *
+     * @param defaultDirectory the directory of the profile report when there are no summary report directories
+     */
+    public void generateProfileReport(File defaultDirectory) {
+        List<File> directories = new ArrayList<>();
+        synchronized (summaryUpdaters) {
+            summaryUpdaters.keySet().forEach(directory -> directories.add(new File(directory)));
+        }
+        if (directories.isEmpty()) {
+            directories.add(defaultDirectory);
+        }
+        for (File directory : directories) {
+            try {
+                File profileReport = ProfileReport.write(directory);
+                if (profileReport != null) {
+                    logger.info("Static code analysis profile is available in:");
+                    logger.info("{}", profileReport.toURI());
+                }
+            } catch (IOException e) {
+                logger.error("Exception while writing the static code analysis profile to {}", directory, e);
+            }
         }
     }
 
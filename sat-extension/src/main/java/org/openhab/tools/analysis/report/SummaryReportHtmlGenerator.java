@@ -14,17 +14,15 @@ package org.openhab.tools.analysis.report;
 
 import static org.openhab.tools.analysis.report.ReportUtil.*;
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.file.Files;
-import java.nio.file.StandardCopyOption;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.concurrent.TimeUnit;
 
+import javax.xml.stream.XMLStreamException;
+import javax.xml.transform.Templates;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
@@ -38,9 +36,10 @@ import org.slf4j.LoggerFactory;
 import net.sf.saxon.TransformerFactoryImpl;
 
 /**
- * Generates HTML report summaries based on the the content in the merge XML file using XSLT.
+ * Generates HTML report summaries based on the bundle reports in the {@link SummaryStore}.
  *
  * @author Wouter Born - Initial contribution
+ * @author openHAB Contributors - Render summaries from the append-only summary store
  */
 @Component(role = SummaryReportHtmlGenerator.class)
 public class SummaryReportHtmlGenerator {
@@ -56,49 +55,61 @@ public class SummaryReportHtmlGenerator {
         transformerFactory = TransformerFactory.newInstance(TransformerFactoryImpl.class.getName(), contextClassLoader);
     }
 
-    File generateHtmlSummaryByRules(final String summaryReportDirectory) {
-        File latestMergeResult = new File(summaryReportDirectory, MERGE_XML_FILE_NAME);
-        File latestMergeResultCopy = new File(summaryReportDirectory, SUMMARY_XML_FILE_NAME);
+    File generateHtmlSummaryByRules(final String summaryReportDirectory, final ReportEngine reportEngine) {
+        SummaryStore summaryStore = new SummaryStore(new File(summaryReportDirectory));
 
         try {
-            // Acquire the merge and summary locks
-            ReportUtil.acquireMergeLock();
-            if (!latestMergeResult.exists()) {
+            // Persist contributions that are still queued, unless a report goal is already doing so
+            SummaryCollector.flush();
+            if (!summaryStore.exists()) {
                 return null;
             }
-            ReportUtil.acquireSummaryLock();
 
-            // Copy merge.xml to summary.xml which is used for generating the report
-            Files.copy(latestMergeResult.toPath(), latestMergeResultCopy.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            long lockStart = System.nanoTime();
+            ReportUtil.acquireSummaryLock();
+            long lockWait = System.nanoTime() - lockStart;
+            SummaryCollector.recordLockWait(lockWait);
+            logger.debug("Waiting for the summary lock took {}ms", TimeUnit.NANOSECONDS.toMillis(lockWait));
 
-            // Release the merge lock so plugin reporting goals executed in parallel can keep merging
-            ReportUtil.releaseMergeLock();
+            // Read all bundle segments once; parallel plugin reporting goals can keep appending segments meanwhile
+            Instant start = Instant.now();
+            AnalysisReport report = summaryStore.read();
+            logger.debug("Reading {} summary message(s) took {}ms", report.getMessageCount(),
+                    Duration.between(start, Instant.now()).toMillis());
 
             File latestSummaryReport = new File(summaryReportDirectory, SUMMARY_REPORT_FILE_NAME);
-            run(CREATE_HTML_XSLT, latestMergeResultCopy, latestSummaryReport);
-
-            if (!latestMergeResultCopy.delete()) {
-                logger.error("Unable to delete file: {}", latestMergeResultCopy.getAbsolutePath());
+            if (reportEngine == ReportEngine.XSLT) {
+                File summaryXml = new File(summaryReportDirectory, SUMMARY_XML_FILE_NAME);
+                new AnalysisReportWriter().writeXml(report, summaryXml);
+                run(CREATE_HTML_XSLT, summaryXml, latestSummaryReport);
+
+                if (!summaryXml.delete()) {
+                    logger.error("Unable to delete file: {}", summaryXml.getAbsolutePath());
+                }
+            } else {
+                new AnalysisReportWriter().writeHtml(report, latestSummaryReport);
             }
 
             return latestSummaryReport;
-        } catch (IOException e) {
-            throw new IllegalStateException("Exception while copying latest merge result", e);
+        } catch (IOException | XMLStreamException e) {
+            throw new IllegalStateException("Exception while generating the summary report", e);
         } finally {
-            ReportUtil.releaseMergeLock();
             ReportUtil.releaseSummaryLock();
         }
     }
 
     private void run(final String xslt, final File input, final File output) {
-        try (FileOutputStream outputStream = new FileOutputStream(output);
-                InputStream inputStream = contextClassLoader.getResourceAsStream(xslt);
-                BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
+        try (FileOutputStream outputStream = new FileOutputStream(output)) {
             logger.debug("{}  > {} >  {}", input, xslt, output);
 
-            // Process the Source into a Transformer Object
-            final StreamSource source = new StreamSource(reader);
-            final Transformer transformer = transformerFactory.newTransformer(source);
+            // Get the compiled stylesheet (compiled only once per JVM) and create a Transformer Object from it
+            Instant compileStart = Instant.now();
+            final Templates templates = StylesheetCache.getTemplates(transformerFactory, contextClassLoader, xslt);
+            Instant compileEnd = Instant.now();
+            final Transformer transformer = templates.newTransformer();
+
+            logger.debug("Compiling stylesheet '{}' took {}ms", xslt,
+                    Duration.between(compileStart, compileEnd).toMillis());
 
             final StreamResult outputTarget = new StreamResult(outputStream);
             final StreamSource xmlSource = new StreamSource(input);
@@ -12,6 +12,8 @@
  */
 package org.openhab.tools.analysis.report;
 
+import java.io.File;
+
 import org.apache.maven.AbstractMavenLifecycleParticipant;
 import org.apache.maven.MavenExecutionException;
 import org.apache.maven.execution.MavenSession;
@@ -22,6 +24,7 @@ import org.codehaus.plexus.component.annotations.Requirement;
  * Handles {@link MavenSession} events so the SAT extension can generate HTML report summaries.
  *
  * @author Wouter Born - Initial contribution
+ * @author openHAB Contributors - Reset and write the profile of the custom checks
  */
 @Component(role = AbstractMavenLifecycleParticipant.class)
 public class SummaryReportLifecycleParticipant extends AbstractMavenLifecycleParticipant {
@@ -38,10 +41,17 @@ public class SummaryReportLifecycleParticipant extends AbstractMavenLifecyclePar
         // SummaryReportHtmlGenerator or it will not find the XSLT files on the class path
         summaryReportHtmlGenerator.initialize();
         summaryReportExecutionListener.chainListener(session);
+        if (ProfileReport.isEnabled()) {
+            ProfileReport.reset();
+        }
     }
 
     @Override
     public void afterSessionEnd(MavenSession session) throws MavenExecutionException {
         summaryReportExecutionListener.generateFinalSummaryReports();
+        if (ProfileReport.isEnabled()) {
+            summaryReportExecutionListener
+                    .generateProfileReport(new File(session.getExecutionRootDirectory(), "target"));
+        }
     }
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.report;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory model of the merged report of all analysis tools. Messages are grouped by the (normalized) name of the
+ * file they were found in, in the order the files were added.
+ * <p>
+ * The message counts per priority and per rule are maintained while messages are added, so they can be queried by
+ * all consumers of the report without iterating the messages again.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+final class AnalysisReport {
+
+    private final Map<String, List<ReportMessage>> files = new LinkedHashMap<>();
+    private final Map<String, Integer> priorityCounts = new HashMap<>();
+    private final Map<String, Integer> ruleCounts = new LinkedHashMap<>();
+    private int messageCount;
+
+    /**
+     * Registers a file, so it is part of the report even if no messages are added for it.
+     */
+    void addFile(String fileName) {
+        files.computeIfAbsent(fileName, name -> new ArrayList<>());
+    }
+
+    void addMessage(String fileName, ReportMessage message) {
+        List<ReportMessage> messages = files.get(fileName);
+        if (messages == null) {
+            messages = new ArrayList<>();
+            files.put(fileName, messages);
+        }
+        messages.add(message);
+        priorityCounts.merge(message.getPriority(), 1, Integer::sum);
+        ruleCounts.merge(message.getRule(), 1, Integer::sum);
+        messageCount++;
+    }
+
+    /**
+     * Adds all files and messages of another report to this report.
+     */
+    void addAll(AnalysisReport other) {
+        other.files.forEach((fileName, messages) -> {
+            addFile(fileName);
+            messages.forEach(message -> addMessage(fileName, message));
+        });
+    }
+
+    /**
+     * @return an unmodifiable view of the messages mapped by file name
+     */
+    Map<String, List<ReportMessage>> getFiles() {
+        return Collections.unmodifiableMap(files);
+    }
+
+    int getMessageCount() {
+        return messageCount;
+    }
+
+    /**
+     * @param priority the priority, e.g. <code>"1"</code> for errors
+     * @return the number of messages with the given priority
+     */
+    int getPriorityCount(String priority) {
+        return priorityCounts.getOrDefault(priority, 0);
+    }
+
+    /**
+     * @return the number of messages found in the given file
+     */
+    int getFileCount(String fileName) {
+        List<ReportMessage> messages = files.get(fileName);
+        return messages == null ? 0 : messages.size();
+    }
+
+    /**
+     * @return an unmodifiable view of the message counts mapped by rule, in the order the rules were first found
+     */
+    Map<String, Integer> getRuleCounts() {
+        return Collections.unmodifiableMap(ruleCounts);
+    }
+
+    boolean isEmpty() {
+        return messageCount == 0;
+    }
+}
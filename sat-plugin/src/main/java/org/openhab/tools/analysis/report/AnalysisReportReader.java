@@ -0,0 +1,351 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.report;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Reads the results of SpotBugs, Checkstyle and PMD with StAX into an {@link AnalysisReport}. The conversion rules
+ * are the same as the ones of the <code>prepare_*.xslt</code> stylesheets, so both report engines produce the same
+ * merged report.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+final class AnalysisReportReader {
+
+    private static final String FINDBUGS_TOOL = "findbugs";
+    private static final String CHECKSTYLE_TOOL = "checkstyle";
+    private static final String PMD_TOOL = "pmd";
+
+    private static final String CHECKSTYLE_CATEGORY = "style";
+
+    private final XMLInputFactory inputFactory;
+
+    AnalysisReportReader() {
+        inputFactory = XMLInputFactory.newInstance();
+        inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        inputFactory.setProperty(XMLInputFactory.IS_COALESCING, true);
+    }
+
+    /**
+     * Adds the bugs of a <code>spotbugsXml.xml</code> file to the report.
+     */
+    void readSpotBugs(File file, AnalysisReport report) throws IOException, XMLStreamException {
+        // Bug patterns are listed after the bug instances, so the messages can only be created at the end
+        List<SpotBugsInstance> bugInstances = new ArrayList<>();
+        Map<String, SpotBugsPattern> bugPatterns = new HashMap<>();
+
+        try (InputStream inputStream = newInputStream(file)) {
+            XMLStreamReader reader = inputFactory.createXMLStreamReader(inputStream);
+            try {
+                SpotBugsInstance bugInstance = null;
+                boolean inClass = false;
+                int depth = 0;
+                while (reader.hasNext()) {
+                    int event = reader.next();
+                    if (event == XMLStreamConstants.START_ELEMENT) {
+                        depth++;
+                        String name = reader.getLocalName();
+                        if (depth == 2 && "BugInstance".equals(name)) {
+                            bugInstance = new SpotBugsInstance(attribute(reader, "type"),
+                                    attribute(reader, "priority"));
+                        } else if (depth == 2 && "BugPattern".equals(name)) {
+                            bugPatterns.putIfAbsent(attribute(reader, "type"), new SpotBugsPattern(
+                                    attribute(reader, "type"), attribute(reader, "abbrev"),
+                                    attribute(reader, "category")));
+                        } else if (depth == 3 && bugInstance != null) {
+                            switch (name) {
+                                case "ShortMessage":
+                                    bugInstance.shortMessage = reader.getElementText();
+                                    depth--;
+                                    break;
+                                case "LongMessage":
+                                    bugInstance.longMessage = reader.getElementText();
+                                    depth--;
+                                    break;
+                                case "Class":
+                                    inClass = true;
+                                    bugInstance.classNames.add("");
+                                    break;
+                                case "SourceLine":
+                                    if (bugInstance.line == null) {
+                                        bugInstance.line = attribute(reader, "start");
+                                    }
+                                    break;
+                                default:
+                                    break;
+                            }
+                        } else if (depth == 4 && inClass && bugInstance != null && "SourceLine".equals(name)) {
+                            int last = bugInstance.classNames.size() - 1;
+                            if (bugInstance.classNames.get(last).isEmpty()) {
+                                bugInstance.classNames.set(last, attribute(reader, "classname"));
+                            }
+                        }
+                    } else if (event == XMLStreamConstants.END_ELEMENT) {
+                        if (depth == 2 && bugInstance != null) {
+                            bugInstances.add(bugInstance);
+                            bugInstance = null;
+                        } else if (depth == 3) {
+                            inClass = false;
+                        }
+                        depth--;
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        }
+
+        for (SpotBugsInstance bugInstance : bugInstances) {
+            SpotBugsPattern bugPattern = bugPatterns.getOrDefault(bugInstance.type, SpotBugsPattern.UNKNOWN);
+            ReportMessage message = new ReportMessage(FINDBUGS_TOOL, nullToEmpty(bugInstance.line),
+                    nullToEmpty(bugInstance.longMessage), bugInstance.priority,
+                    nullToEmpty(bugInstance.shortMessage) + " (" + bugPattern.abbrev + ")",
+                    normalizeCategory(bugPattern.category), bugPattern.type, null);
+            for (String className : bugInstance.classNames) {
+                report.addMessage(className + ".java", message);
+            }
+        }
+    }
+
+    /**
+     * Adds the errors of a <code>checkstyle-result.xml</code> file to the report. Files without errors are skipped.
+     */
+    void readCheckstyle(File file, AnalysisReport report) throws IOException, XMLStreamException {
+        try (InputStream inputStream = newInputStream(file)) {
+            XMLStreamReader reader = inputFactory.createXMLStreamReader(inputStream);
+            try {
+                String fileName = null;
+                List<ReportMessage> messages = new ArrayList<>();
+                while (reader.hasNext()) {
+                    int event = reader.next();
+                    if (event == XMLStreamConstants.START_ELEMENT) {
+                        String name = reader.getLocalName();
+                        if ("file".equals(name)) {
+                            fileName = normalizeCheckstyleFileName(attribute(reader, "name"));
+                            messages.clear();
+                        } else if ("error".equals(name) && fileName != null) {
+                            messages.add(new ReportMessage(CHECKSTYLE_TOOL, attribute(reader, "line"),
+                                    attribute(reader, "message"), checkstylePriority(attribute(reader, "severity")),
+                                    substringAfterLast(attribute(reader, "source"), "."), CHECKSTYLE_CATEGORY, null,
+                                    null));
+                        }
+                    } else if (event == XMLStreamConstants.END_ELEMENT && "file".equals(reader.getLocalName())) {
+                        for (ReportMessage message : messages) {
+                            report.addMessage(fileName, message);
+                        }
+                        fileName = null;
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        }
+    }
+
+    /**
+     * Adds the violations of a <code>pmd.xml</code> file to the report.
+     */
+    void readPmd(File file, AnalysisReport report) throws IOException, XMLStreamException {
+        try (InputStream inputStream = newInputStream(file)) {
+            XMLStreamReader reader = inputFactory.createXMLStreamReader(inputStream);
+            try {
+                Set<String> packages = new LinkedHashSet<>();
+                Set<String> classes = new LinkedHashSet<>();
+                List<ReportMessage> messages = new ArrayList<>();
+                while (reader.hasNext()) {
+                    int event = reader.next();
+                    if (event == XMLStreamConstants.START_ELEMENT) {
+                        String name = reader.getLocalName();
+                        if ("file".equals(name)) {
+                            packages.clear();
+                            classes.clear();
+                            messages.clear();
+                        } else if ("violation".equals(name)) {
+                            addIfPresent(packages, reader.getAttributeValue(null, "package"));
+                            addIfPresent(classes, reader.getAttributeValue(null, "class"));
+                            String line = attribute(reader, "beginline");
+                            String priority = attribute(reader, "priority");
+                            String rule = attribute(reader, "rule");
+                            String ruleUrl = attribute(reader, "externalInfoUrl");
+                            String category = normalizeCategory(attribute(reader, "ruleset"));
+                            String text = reader.getElementText();
+                            messages.add(
+                                    new ReportMessage(PMD_TOOL, line, text, priority, rule, category, null, ruleUrl));
+                        }
+                    } else if (event == XMLStreamConstants.END_ELEMENT && "file".equals(reader.getLocalName())) {
+                        String fileName = String.join(" ", packages) + "." + String.join(" ", classes) + ".java";
+                        report.addFile(fileName);
+                        for (ReportMessage message : messages) {
+                            report.addMessage(fileName, message);
+                        }
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        }
+    }
+
+    /**
+     * Adds the messages of a merged report (as written by {@link AnalysisReportWriter#writeXml}) to the report.
+     */
+    void readMerged(File file, AnalysisReport report) throws IOException, XMLStreamException {
+        try (InputStream inputStream = newInputStream(file)) {
+            XMLStreamReader reader = inputFactory.createXMLStreamReader(inputStream);
+            try {
+                String fileName = null;
+                while (reader.hasNext()) {
+                    if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+                        continue;
+                    }
+                    String name = reader.getLocalName();
+                    if ("file".equals(name)) {
+                        fileName = attribute(reader, "name");
+                        report.addFile(fileName);
+                    } else if ("message".equals(name) && fileName != null) {
+                        report.addMessage(fileName,
+                                new ReportMessage(attribute(reader, "tool"), attribute(reader, "line"),
+                                        attribute(reader, "message"), attribute(reader, "priority"),
+                                        attribute(reader, "rule"), attribute(reader, "category"),
+                                        reader.getAttributeValue(null, "rule_id"),
+                                        reader.getAttributeValue(null, "rule_url")));
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        }
+    }
+
+    private InputStream newInputStream(File file) throws IOException {
+        return new BufferedInputStream(Files.newInputStream(file.toPath()));
+    }
+
+    private static String attribute(XMLStreamReader reader, String name) {
+        return nullToEmpty(reader.getAttributeValue(null, name));
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static void addIfPresent(Set<String> values, String value) {
+        if (value != null) {
+            values.add(value);
+        }
+    }
+
+    /**
+     * Lower cases a category and replaces underscores with spaces, e.g. <code>BAD_PRACTICE</code> becomes
+     * <code>bad practice</code>.
+     */
+    static String normalizeCategory(String category) {
+        return category.toLowerCase(Locale.ROOT).replace('_', ' ');
+    }
+
+    static String checkstylePriority(String severity) {
+        switch (severity) {
+            case "error":
+                return "1";
+            case "warning":
+                return "2";
+            case "info":
+                return "3";
+            default:
+                return "NaN";
+        }
+    }
+
+    /**
+     * Shortens the absolute path of a file reported by Checkstyle to a name that can be used in the report.
+     *
+     * <ul>
+     * <li>XML files are named by the parent directory of the last <code>src</code> directory and the path inside it,
+     * e.g. <code>binding/src/main/resources/OH-INF/thing/thing-types.xml</code></li>
+     * <li>Other files in a <code>src</code> directory are named by their fully qualified name, e.g.
+     * <code>org.openhab.Foo.java</code></li>
+     * <li>All other files are named by the path after the last <code>org.openhab</code> occurrence</li>
+     * </ul>
+     */
+    static String normalizeCheckstyleFileName(String name) {
+        if (name.endsWith(".xml")) {
+            String path = name.replace('\\', '/');
+            String afterLastSrc = substringAfterLast(path, "/src/");
+            int index = path.indexOf("/src/" + afterLastSrc);
+            String beforeLastSrc = index > 0 ? path.substring(0, index) : "";
+            String parent = beforeLastSrc.isEmpty() ? "" : substringAfterLast(beforeLastSrc, "/");
+            return parent.isEmpty() ? "src/" + afterLastSrc : parent + "/src/" + afterLastSrc;
+        } else if (name.contains("src")) {
+            String path = name.replace('/', '.').replace('\\', '.');
+            return substringAfter(path, ".java.") + substringAfter(path, ".resources.");
+        } else {
+            return substringAfterLast(name, "org.openhab");
+        }
+    }
+
+    private static String substringAfter(String input, String marker) {
+        int index = input.indexOf(marker);
+        return index == -1 ? "" : input.substring(index + marker.length());
+    }
+
+    private static String substringAfterLast(String input, String marker) {
+        int index = input.lastIndexOf(marker);
+        return index == -1 ? input : input.substring(index + marker.length());
+    }
+
+    private static class SpotBugsInstance {
+        private final String type;
+        private final String priority;
+        private final List<String> classNames = new ArrayList<>();
+        private String line;
+        private String shortMessage;
+        private String longMessage;
+
+        SpotBugsInstance(String type, String priority) {
+            this.type = type;
+            this.priority = priority;
+        }
+    }
+
+    private static class SpotBugsPattern {
+        private static final SpotBugsPattern UNKNOWN = new SpotBugsPattern("", "", "");
+
+        private final String type;
+        private final String abbrev;
+        private final String category;
+
+        SpotBugsPattern(String type, String abbrev, String category) {
+            this.type = type;
+            this.abbrev = abbrev;
+            this.category = category;
+        }
+    }
+}
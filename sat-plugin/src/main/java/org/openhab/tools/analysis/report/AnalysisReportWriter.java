@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.report;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Writes an {@link AnalysisReport} as merged XML report and as HTML report. The HTML report has the same layout as
+ * the one created with <code>create_html.xslt</code>, but all groupings are computed from indexes that are built
+ * with a single pass over the messages.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+final class AnalysisReportWriter {
+
+    private static final String NEW_LINE = "\n";
+
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter
+            .ofPattern("yyyy-MM-dd HH:mm:ss xxx");
+
+    private static final Comparator<ReportMessage> PRIORITY_ORDER = Comparator.comparing(ReportMessage::getPriority);
+
+    static final String STYLE = """
+            body {margin-left:3%;margin-top:2%;font-size:12pt;\
+            font-family:-apple-system,system-ui,Helvetica,Arial,sans-serif;color:#000000;background:#f3f3f3;}
+            td, th {padding-left: 2pt; padding-right: 2pt;}
+            table.details tr th a {color: #ffffff;}
+            table.details tr th {font-size:12pt;font-weight:bold;background:#e64a19;color:#ffffff;}
+            table.details tr {font-size:11pt;font-weight:bold;background:#dddddd;}
+            table tbody tr.alternate {font-size:11pt;font-weight:normal;background:#ffffff;}
+            table tbody tr.dark {font-weight:bold;background:#dddddd;}
+            a {color: #000000;}
+
+            @media (prefers-color-scheme: dark) {
+                :root {color-scheme:dark;}
+                body {color:#dddddd;background-color:#121212;}
+                table.details tr th a {color:#dddddd;}
+                table.details tr th {background:#0f0f0f;}
+                table.details tr {background:#343434;}
+                table tbody tr.alternate {background:#1c1c1d;}
+                table tbody tr.dark {background:#343434;}
+                a {color: #dddddd;}
+            }
+            """;
+
+    /**
+     * Writes the report in the <code>/sca/file/message</code> format that is also produced by the XSLT engine.
+     */
+    void writeXml(AnalysisReport report, File output) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(output.toPath(), StandardCharsets.UTF_8)) {
+            writeXml(report, writer);
+        }
+    }
+
+    void writeXml(AnalysisReport report, Writer writer) throws IOException {
+        writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + NEW_LINE);
+        writer.write("<sca>" + NEW_LINE);
+        for (Map.Entry<String, List<ReportMessage>> file : report.getFiles().entrySet()) {
+            writer.write("  <file name=\"" + escapeAttribute(file.getKey()) + "\">" + NEW_LINE);
+            for (ReportMessage message : file.getValue()) {
+                writer.write("    <message tool=\"" + escapeAttribute(message.getTool()) + "\" line=\""
+                        + escapeAttribute(message.getLine()) + "\" message=\"" + escapeAttribute(message.getMessage())
+                        + "\" priority=\"" + escapeAttribute(message.getPriority()) + "\" rule=\""
+                        + escapeAttribute(message.getRule()) + "\" category=\""
+                        + escapeAttribute(message.getCategory()) + "\"");
+                if (message.getRuleId() != null) {
+                    writer.write(" rule_id=\"" + escapeAttribute(message.getRuleId()) + "\"");
+                }
+                if (message.getRuleUrl() != null) {
+                    writer.write(" rule_url=\"" + escapeAttribute(message.getRuleUrl()) + "\"");
+                }
+                writer.write("/>" + NEW_LINE);
+            }
+            writer.write("  </file>" + NEW_LINE);
+        }
+        writer.write("</sca>" + NEW_LINE);
+    }
+
+    /**
+     * Writes the HTML report with the summary by rules, the summary by files and the details of each file.
+     */
+    void writeHtml(AnalysisReport report, File output) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(output.toPath(), StandardCharsets.UTF_8)) {
+            writeHtml(report, writer);
+        }
+    }
+
+    void writeHtml(AnalysisReport report, Writer writer) throws IOException {
+        // Build all indexes with one pass over the messages
+        Map<String, Map<String, List<ReportMessage>>> messagesByCategoryAndRule = new TreeMap<>();
+        Map<String, List<ReportMessage>> messagesByFile = new TreeMap<>();
+        int[] totalCounts = new int[4];
+        for (Map.Entry<String, List<ReportMessage>> file : report.getFiles().entrySet()) {
+            List<ReportMessage> fileMessages = new ArrayList<>();
+            messagesByFile.put(file.getKey(), fileMessages);
+            for (ReportMessage message : file.getValue()) {
+                Map<String, List<ReportMessage>> messagesByRule = messagesByCategoryAndRule.get(message.getCategory());
+                if (messagesByRule == null) {
+                    messagesByRule = new LinkedHashMap<>();
+                    messagesByCategoryAndRule.put(message.getCategory(), messagesByRule);
+                }
+                List<ReportMessage> ruleMessages = messagesByRule.get(message.getRule());
+                if (ruleMessages == null) {
+                    ruleMessages = new ArrayList<>();
+                    messagesByRule.put(message.getRule(), ruleMessages);
+                }
+                ruleMessages.add(message);
+                fileMessages.add(message);
+                totalCounts[priorityIndex(message.getPriority())]++;
+            }
+        }
+
+        writer.write("<html>" + NEW_LINE);
+        writer.write("<head>" + NEW_LINE);
+        writer.write("<meta http-equiv=\"Content-Type\" content=\"text/html; charset=UTF-8\">" + NEW_LINE);
+        writer.write("<title>Analysis Report</title>" + NEW_LINE);
+        writer.write("<style type=\"text/css\">" + NEW_LINE + STYLE + "</style>" + NEW_LINE);
+        writer.write("</head>" + NEW_LINE);
+        writer.write("<body>" + NEW_LINE);
+        writer.write("<h2>Report (" + TIMESTAMP_FORMATTER.format(ZonedDateTime.now()) + ")</h2>" + NEW_LINE);
+
+        writeSummaryMessages(writer, messagesByCategoryAndRule, report.getMessageCount());
+        writeSummaryFiles(writer, messagesByFile, totalCounts, report.getMessageCount());
+        writeDetails(writer, messagesByFile);
+
+        writer.write("</body>" + NEW_LINE);
+        writer.write("</html>" + NEW_LINE);
+    }
+
+    private void writeSummaryMessages(Writer writer,
+            Map<String, Map<String, List<ReportMessage>>> messagesByCategoryAndRule, int total) throws IOException {
+        writer.write("<h3>Summary Messages</h3>" + NEW_LINE);
+        writer.write("<table width=\"90%\" border=\"0\" class=\"details\">" + NEW_LINE);
+        writer.write("<tr><th align=\"left\">category</th><th align=\"left\">tool</th><th align=\"left\">priority</th>"
+                + "<th align=\"left\">rule</th><th align=\"left\">count</th></tr>" + NEW_LINE);
+        for (Map.Entry<String, Map<String, List<ReportMessage>>> category : messagesByCategoryAndRule.entrySet()) {
+            writer.write("<tr><td colspan=\"5\">" + escape(category.getKey()) + "</td></tr>" + NEW_LINE);
+
+            List<List<ReportMessage>> ruleGroups = new ArrayList<>(category.getValue().values());
+            ruleGroups.sort(Comparator.comparing(group -> group.get(0).getPriority()));
+            for (List<ReportMessage> ruleGroup : ruleGroups) {
+                ReportMessage first = ruleGroup.get(0);
+                writer.write("<tr class=\"alternate\"><td></td><td>" + escape(first.getTool()) + "</td>"
+                        + "<td align=\"left\">" + escape(first.getPriority()) + "</td><td>" + ruleLink(first)
+                        + "</td><td align=\"center\">" + ruleGroup.size() + "</td></tr>" + NEW_LINE);
+            }
+        }
+        writer.write(
+                "<tr class=\"dark\"><td colspan=\"4\"></td><td align=\"center\">" + total + "</td></tr>" + NEW_LINE);
+        writer.write("</table>" + NEW_LINE);
+        writer.write("<p></p>" + NEW_LINE);
+    }
+
+    private void writeSummaryFiles(Writer writer, Map<String, List<ReportMessage>> messagesByFile, int[] totalCounts,
+            int total) throws IOException {
+        writer.write("<h3>Summary Files</h3>" + NEW_LINE);
+        writer.write("<table width=\"90%\" border=\"0\" class=\"details\">" + NEW_LINE);
+        writer.write("<tr><th align=\"left\" width=\"90pt\">class file</th>"
+                + "<th align=\"center\" width=\"90pt\">high</th><th align=\"center\" width=\"90pt\">medium</th>"
+                + "<th align=\"center\" width=\"90pt\">low</th>"
+                + "<th align=\"center\" width=\"90pt\">total</th></tr>" + NEW_LINE);
+        for (Map.Entry<String, List<ReportMessage>> file : messagesByFile.entrySet()) {
+            int[] counts = new int[4];
+            file.getValue().forEach(message -> counts[priorityIndex(message.getPriority())]++);
+            String name = escape(file.getKey());
+            writer.write("<tr class=\"alternate\"><td><a href=\"#" + name + "\" title=\"" + name + "\">" + name
+                    + "</a></td>" + countCells(counts, file.getValue().size()) + "</tr>" + NEW_LINE);
+        }
+        writer.write("<tr class=\"dark\"><td></td>" + countCells(totalCounts, total) + "</tr>" + NEW_LINE);
+        writer.write("</table>" + NEW_LINE);
+        writer.write("<p></p>" + NEW_LINE);
+    }
+
+    private void writeDetails(Writer writer, Map<String, List<ReportMessage>> messagesByFile) throws IOException {
+        writer.write("<h3>Details by Class</h3>" + NEW_LINE);
+        for (Map.Entry<String, List<ReportMessage>> file : messagesByFile.entrySet()) {
+            String name = escape(file.getKey());
+            writer.write("<table width=\"90%\" border=\"0\" class=\"details\">" + NEW_LINE);
+            writer.write("<tr><th align=\"left\" colspan=\"6\"><a name=\"" + name + "\">" + name + "</a></th></tr>"
+                    + NEW_LINE);
+            writer.write("<tr><td align=\"left\" width=\"80pt\">tool</td>"
+                    + "<td align=\"left\" width=\"50pt\">priority</td><td align=\"left\" width=\"30pt\">line</td>"
+                    + "<td align=\"left\" width=\"80pt\">category</td>"
+                    + "<td align=\"left\" width=\"380pt\">rule</td><td align=\"left\">message</td></tr>" + NEW_LINE);
+
+            List<ReportMessage> messages = new ArrayList<>(file.getValue());
+            messages.sort(PRIORITY_ORDER);
+            for (ReportMessage message : messages) {
+                writer.write("<tr class=\"alternate\"><td>" + escape(message.getTool()) + "</td><td>"
+                        + escape(message.getPriority()) + "</td><td>" + escape(message.getLine()) + "</td><td>"
+                        + escape(message.getCategory()) + "</td><td>" + escape(message.getRule()) + "</td><td>"
+                        + escape(message.getMessage()) + "</td></tr>" + NEW_LINE);
+            }
+            writer.write("</table>" + NEW_LINE);
+            writer.write("<br>" + NEW_LINE);
+        }
+    }
+
+    private String countCells(int[] counts, int total) {
+        return "<td align=\"center\"><div class=\"p1\">" + counts[1] + "</div></td>"
+                + "<td align=\"center\"><div class=\"p2\">" + counts[2] + "</div></td>"
+                + "<td align=\"center\"><div class=\"p3\">" + counts[3] + "</div></td>"
+                + "<td align=\"center\"><div class=\"p3\">" + total + "</div></td>";
+    }
+
+    private String ruleLink(ReportMessage message) {
+        String rule = escape(message.getRule());
+        // Like the XSLT transformation, a missing rule id or URL results in an empty link target
+        String ruleId = message.getRuleId();
+        String ruleUrl = message.getRuleUrl();
+        switch (message.getTool()) {
+            case "findbugs":
+                return " <a href=\"https://findbugs.sourceforge.net/bugDescriptions.html#"
+                        + escape(ruleId != null ? ruleId : "") + "\">" + rule + "</a>";
+            case "pmd":
+                return " <a href=\"" + escape(ruleUrl != null ? ruleUrl : "") + "\">" + rule + "</a>";
+            default:
+                return rule;
+        }
+    }
+
+    /**
+     * @return the index of a priority in the count arrays or 0 if it is not a known priority
+     */
+    private static int priorityIndex(String priority) {
+        switch (priority) {
+            case "1":
+                return 1;
+            case "2":
+                return 2;
+            case "3":
+                return 3;
+            default:
+                return 0;
+        }
+    }
+
+    static String escape(String value) {
+        StringBuilder builder = null;
+        for (int i = 0; i < value.length(); i++) {
+            String replacement;
+            switch (value.charAt(i)) {
+                case '<':
+                    replacement = "&lt;";
+                    break;
+                case '>':
+                    replacement = "&gt;";
+                    break;
+                case '&':
+                    replacement = "&amp;";
+                    break;
+                case '"':
+                    replacement = "&quot;";
+                    break;
+                default:
+                    replacement = null;
+                    break;
+            }
+            if (replacement != null) {
+                if (builder == null) {
+                    builder = new StringBuilder(value.length() + 16).append(value, 0, i);
+                }
+                builder.append(replacement);
+            } else if (builder != null) {
+                builder.append(value.charAt(i));
+            }
+        }
+        return builder == null ? value : builder.toString();
+    }
+
+    /**
+     * Escapes an attribute value, including the line breaks and tabs, which an XML parser would otherwise normalize
+     * to spaces
+     */
+    private static String escapeAttribute(String value) {
+        return escape(value).replace("\n", "&#10;").replace("\r", "&#13;").replace("\t", "&#9;");
+    }
+}
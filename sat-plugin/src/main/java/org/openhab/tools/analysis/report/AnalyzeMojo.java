@@ -0,0 +1,310 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.report;
+
+import static org.openhab.tools.analysis.report.ReportUtil.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.BuildPluginManager;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugin.descriptor.MojoDescriptor;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
+import org.apache.maven.plugins.annotations.Component;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.util.xml.Xpp3Dom;
+import org.twdata.maven.mojoexecutor.MojoExecutor;
+
+/**
+ * Runs the <code>checkstyle</code>, <code>pmd</code> and <code>spotbugs</code> goals and creates the report of the
+ * {@link ReportMojo} from their results.
+ * <p>
+ * By default the tools are executed one after another, and the result file of each tool is read as soon as the tool
+ * has finished. With {@link #parallel} each tool is executed on its own thread. SpotBugs runs in a forked JVM, so it
+ * overlaps with Checkstyle and PMD running in the Maven JVM, and the analysis of a module takes about as long as the
+ * slowest tool. The goals of the tools set their configuration in the properties of the shared {@link MavenProject},
+ * so the concurrent execution relies on each tool using its own property names. The results are merged in the same
+ * order as by the <code>report</code> goal, so the report does not depend on which tool finishes first.
+ * <p>
+ * The configuration of the execution is passed to the goals of the tools, so the tools and the report are configured
+ * with the same parameters and properties as when they are executed one after another.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@Mojo(name = "analyze", requiresDependencyResolution = ResolutionScope.COMPILE, threadSafe = true)
+public class AnalyzeMojo extends ReportMojo {
+
+    /**
+     * The tools that are executed, in the order in which their results are merged
+     */
+    enum Tool {
+        PMD(PMD_INPUT_FILE_NAME),
+        SPOTBUGS(FINDBUGS_INPUT_FILE_NAME),
+        CHECKSTYLE(CHECKSTYLE_INPUT_FILE_NAME);
+
+        private final String resultFileName;
+
+        Tool(String resultFileName) {
+            this.resultFileName = resultFileName;
+        }
+
+        String getResultFileName() {
+            return resultFileName;
+        }
+
+        String getGoal() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    @Parameter(defaultValue = "${project}", readonly = true)
+    private MavenProject mavenProject;
+
+    @Parameter(defaultValue = "${session}", readonly = true)
+    private MavenSession mavenSession;
+
+    @Parameter(defaultValue = "${mojoExecution}", readonly = true)
+    private MojoExecution mojoExecution;
+
+    @Parameter(defaultValue = "${plugin}", readonly = true, required = true)
+    private PluginDescriptor plugin;
+
+    @Component
+    private BuildPluginManager pluginManager;
+
+    /**
+     * Comma separated list of the tools that are executed: <code>checkstyle</code>, <code>pmd</code> and
+     * <code>spotbugs</code>
+     */
+    @Parameter(property = "analyze.tools", defaultValue = "checkstyle,pmd,spotbugs")
+    private String tools;
+
+    /**
+     * Executes the tools concurrently instead of one after another
+     */
+    @Parameter(property = "analyze.parallel", defaultValue = "false")
+    private boolean parallel;
+
+    // Setters will be used in the test
+    void setTools(String tools) {
+        this.tools = tools;
+    }
+
+    void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    @Override
+    public void execute() throws MojoFailureException {
+        List<Tool> selectedTools = getSelectedTools();
+        if (getReportEngine() == ReportEngine.XSLT) {
+            // The XSLT engine can only work on the result files, so the report is created when all tools are done
+            runTools(selectedTools, tool -> null);
+            super.execute();
+            return;
+        }
+
+        Map<Tool, AnalysisReport> toolReports = runTools(selectedTools, this::readToolReport);
+
+        AnalysisReport report = new AnalysisReport();
+        boolean resultsFound = false;
+        for (Tool tool : Tool.values()) {
+            AnalysisReport toolReport = toolReports.get(tool);
+            if (toolReport != null) {
+                report.addAll(toolReport);
+                resultsFound = true;
+            }
+        }
+        if (!resultsFound) {
+            getLog().info("No reports found !");
+            return;
+        }
+
+        File htmlOutputFileName = new File(getTargetDirectory(), RESULT_FILE_NAME);
+        File mergedReport = new File(getTargetDirectory(), RESULT_XML_FILE_NAME);
+        try {
+            writeReport(report, htmlOutputFileName, mergedReport);
+        } catch (IOException e) {
+            getLog().error("IOException occurred", e);
+        } catch (XMLStreamException e) {
+            getLog().error("XMLStreamException occurred", e);
+        }
+        publishReport(report, htmlOutputFileName, mergedReport);
+    }
+
+    private List<Tool> getSelectedTools() throws MojoFailureException {
+        Set<Tool> selectedTools = EnumSet.noneOf(Tool.class);
+        for (String name : tools.split(",")) {
+            if (name.isBlank()) {
+                continue;
+            }
+            try {
+                selectedTools.add(Tool.valueOf(name.trim().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new MojoFailureException("Unknown analysis tool " + name.trim());
+            }
+        }
+        // In the order of the enum, which is the order in which the results are merged
+        return new ArrayList<>(selectedTools);
+    }
+
+    /**
+     * Executes the tools and processes the results of each tool as soon as it has finished
+     *
+     * @return the processed results of the tools, mapped by tool
+     */
+    private <T> Map<Tool, T> runTools(List<Tool> selectedTools, ToolResultProcessor<T> processor)
+            throws MojoFailureException {
+        Map<Tool, T> results = new EnumMap<>(Tool.class);
+        if (selectedTools.isEmpty()) {
+            return results;
+        }
+
+        Instant start = Instant.now();
+        if (parallel && selectedTools.size() > 1) {
+            runToolsConcurrently(selectedTools, processor, results);
+        } else {
+            for (Tool tool : selectedTools) {
+                try {
+                    ToolResult<T> toolResult = runTool(tool, processor);
+                    if (toolResult.result != null) {
+                        results.put(toolResult.tool, toolResult.result);
+                    }
+                } catch (MojoExecutionException | IOException | XMLStreamException e) {
+                    throw new MojoFailureException("Code analysis failed: " + e.getMessage(), e);
+                }
+            }
+        }
+
+        getLog().debug(MessageFormat.format("Analysis with {0} tool(s) took {1}ms", selectedTools.size(),
+                Duration.between(start, Instant.now()).toMillis()));
+        return results;
+    }
+
+    /**
+     * Executes the tools on separate threads and processes the results of each tool on its thread
+     */
+    private <T> void runToolsConcurrently(List<Tool> selectedTools, ToolResultProcessor<T> processor,
+            Map<Tool, T> results) throws MojoFailureException {
+        // The threads are created by the Maven thread, so they inherit the Maven session
+        ExecutorService executor = Executors.newFixedThreadPool(selectedTools.size());
+        CompletionService<ToolResult<T>> completionService = new ExecutorCompletionService<>(executor);
+        try {
+            for (Tool tool : selectedTools) {
+                completionService.submit(() -> runTool(tool, processor));
+            }
+
+            Exception failure = null;
+            for (int i = 0; i < selectedTools.size(); i++) {
+                Future<ToolResult<T>> future = completionService.take();
+                try {
+                    ToolResult<T> toolResult = future.get();
+                    if (toolResult.result != null) {
+                        results.put(toolResult.tool, toolResult.result);
+                    }
+                } catch (ExecutionException e) {
+                    // Wait for the other tools, so no tool is running when the build fails
+                    if (failure == null) {
+                        failure = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                    }
+                }
+            }
+            if (failure != null) {
+                throw new MojoFailureException("Code analysis failed: " + failure.getMessage(), failure);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MojoFailureException("Code analysis has been interrupted", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private <T> ToolResult<T> runTool(Tool tool, ToolResultProcessor<T> processor)
+            throws MojoExecutionException, IOException, XMLStreamException {
+        Instant toolStart = Instant.now();
+        executeTool(tool);
+        T result = processor.process(tool);
+        getLog().debug(MessageFormat.format("Analysis with {0} took {1}ms", tool.getGoal(),
+                Duration.between(toolStart, Instant.now()).toMillis()));
+        return new ToolResult<>(tool, result);
+    }
+
+    /**
+     * Executes the goal of a tool with the parameters of this execution that are known to the goal
+     */
+    void executeTool(Tool tool) throws MojoExecutionException {
+        MojoDescriptor mojoDescriptor = plugin.getMojo(tool.getGoal());
+        Xpp3Dom configuration = MojoExecutor.configuration();
+        Xpp3Dom executionConfiguration = mojoExecution.getConfiguration();
+        if (executionConfiguration != null && mojoDescriptor != null) {
+            for (Xpp3Dom child : executionConfiguration.getChildren()) {
+                org.apache.maven.plugin.descriptor.Parameter parameter = mojoDescriptor.getParameterMap()
+                        .get(child.getName());
+                if (parameter != null && parameter.isEditable()) {
+                    configuration.addChild(new Xpp3Dom(child));
+                }
+            }
+        }
+
+        MojoExecutor.executeMojo(
+                MojoExecutor.plugin(plugin.getGroupId(), plugin.getArtifactId(), plugin.getVersion()),
+                tool.getGoal(), configuration,
+                MojoExecutor.executionEnvironment(mavenProject, mavenSession, pluginManager));
+    }
+
+    private AnalysisReport readToolReport(Tool tool) throws IOException, XMLStreamException {
+        AnalysisReport toolReport = new AnalysisReport();
+        return readToolResults(new AnalysisReportReader(), tool.getResultFileName(), toolReport) ? toolReport : null;
+    }
+
+    @FunctionalInterface
+    private interface ToolResultProcessor<T> {
+        T process(Tool tool) throws IOException, XMLStreamException;
+    }
+
+    private static class ToolResult<T> {
+        private final Tool tool;
+        private final T result;
+
+        ToolResult(Tool tool, T result) {
+            this.tool = tool;
+            this.result = result;
+        }
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.report;
+
+import static org.openhab.tools.analysis.report.ReportUtil.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Records the measurements of the checks and writes them to <code>sat-profile.json</code> and
+ * <code>sat-profile.html</code>.
+ * <p>
+ * The measurements are recorded when the system property <code>sat.profile</code> is <code>true</code>: the native
+ * Checkstyle execution records its checks with {@link #record}, the custom PMD rules and SpotBugs detectors
+ * record themselves with their <code>CheckProfiler</code>. The measurements are the JVM singleton
+ * {@link #MEASUREMENTS_KEY}, see {@link ReportUtil#getOrCreateJvmSingleton} for the contract.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+public final class ProfileReport {
+
+    static final String ENABLED_PROPERTY = "sat.profile";
+    static final String JSON_FILE_NAME = "sat-profile.json";
+    static final String HTML_FILE_NAME = "sat-profile.html";
+
+    /**
+     * The key of the measurements, a <code>ConcurrentMap&lt;String, AtomicLongArray&gt;</code> keyed by
+     * <code>tool/check/phase</code>, with arrays of the wall time in nanoseconds, the invocations, the processed files
+     * and the allocated bytes as values. The profilers of the custom checks use the same literal key.
+     */
+    static final String MEASUREMENTS_KEY = ProfileReport.class.getCanonicalName() + ".MEASUREMENTS";
+
+    // Measurement indexes
+    private static final int WALL_TIME = 0;
+    private static final int INVOCATIONS = 1;
+    private static final int FILES = 2;
+    private static final int ALLOCATED_BYTES = 3;
+    private static final int SIZE = 4;
+
+    private static final String NEW_LINE = "\n";
+
+    private ProfileReport() {
+        // Hidden utility class constructor
+    }
+
+    /**
+     * Decides whether the checks are measured, the other methods are only called by the checks that are measured
+     *
+     * @return <code>true</code> if the checks record their measurements
+     */
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(ENABLED_PROPERTY);
+    }
+
+    /**
+     * @return the bytes allocated by the current thread or 0 if the JVM does not measure them
+     */
+    public static long getAllocatedBytes() {
+        ThreadMXBean threadMXBean = AllocationCounter.THREAD_MX_BEAN;
+        return threadMXBean != null ? threadMXBean.getCurrentThreadAllocatedBytes() : 0;
+    }
+
+    /**
+     * Adds an invocation to the measurement of a phase of a check
+     *
+     * @param tool the tool of the check
+     * @param check the name of the check
+     * @param phase the measured method of the check
+     * @param wallTime the wall time of the invocation in nanoseconds
+     * @param files the files processed by the invocation
+     * @param allocatedBytes the bytes allocated by the invocation
+     */
+    public static void record(String tool, String check, String phase, long wallTime, long files,
+            long allocatedBytes) {
+        AtomicLongArray measurement = Objects.requireNonNull(getMeasurements()
+                .computeIfAbsent(tool + "/" + check + "/" + phase, key -> new AtomicLongArray(SIZE)));
+        measurement.addAndGet(WALL_TIME, wallTime);
+        measurement.incrementAndGet(INVOCATIONS);
+        measurement.addAndGet(FILES, files);
+        measurement.addAndGet(ALLOCATED_BYTES, allocatedBytes);
+    }
+
+    /**
+     * Sets all measurements to zero, so a daemon that runs several builds only reports the current build. The
+     * measurements are not removed, because the checks keep references to them.
+     */
+    static void reset() {
+        for (AtomicLongArray measurement : getMeasurements().values()) {
+            for (int i = 0; i < measurement.length(); i++) {
+                measurement.set(i, 0);
+            }
+        }
+    }
+
+    /**
+     * @return the measurements of the invoked checks, the slowest first
+     */
+    static List<Measurement> getResults() {
+        List<Measurement> results = new ArrayList<>();
+        for (Map.Entry<String, AtomicLongArray> entry : getMeasurements().entrySet()) {
+            AtomicLongArray values = entry.getValue();
+            if (values.get(INVOCATIONS) > 0) {
+                String[] key = entry.getKey().split("/", 3);
+                results.add(new Measurement(key[0], key[1], key[2], values.get(WALL_TIME), values.get(INVOCATIONS),
+                        values.get(FILES), values.get(ALLOCATED_BYTES)));
+            }
+        }
+        results.sort(Comparator.comparingLong(Measurement::getWallTime).reversed()
+                .thenComparing(Measurement::getTool).thenComparing(Measurement::getCheck)
+                .thenComparing(Measurement::getPhase));
+        return results;
+    }
+
+    /**
+     * Writes the measurements of the invoked checks to a directory.
+     *
+     * @param directory the directory of the profile report
+     * @return the HTML profile report or <code>null</code> if no check was invoked
+     * @throws IOException if the files can not be written
+     */
+    static File write(File directory) throws IOException {
+        List<Measurement> results = getResults();
+        if (results.isEmpty()) {
+            return null;
+        }
+        Files.createDirectories(directory.toPath());
+        try (Writer writer = Files.newBufferedWriter(new File(directory, JSON_FILE_NAME).toPath(),
+                StandardCharsets.UTF_8)) {
+            writeJson(writer, results);
+        }
+        File htmlFile = new File(directory, HTML_FILE_NAME);
+        try (Writer writer = Files.newBufferedWriter(htmlFile.toPath(), StandardCharsets.UTF_8)) {
+            writeHtml(writer, results);
+        }
+        return htmlFile;
+    }
+
+    private static void writeJson(Writer writer, List<Measurement> results) throws IOException {
+        writer.write("[");
+        for (int i = 0; i < results.size(); i++) {
+            Measurement result = results.get(i);
+            writer.write(i == 0 ? NEW_LINE : "," + NEW_LINE);
+            writer.write("  {\"tool\": \"" + result.getTool() + "\", \"check\": \"" + result.getCheck()
+                    + "\", \"phase\": \"" + result.getPhase() + "\", \"invocations\": " + result.getInvocations()
+                    + ", \"files\": " + result.getFiles() + ", \"timeNanos\": " + result.getWallTime()
+                    + ", \"allocatedBytes\": " + result.getAllocatedBytes() + "}");
+        }
+        writer.write(NEW_LINE + "]" + NEW_LINE);
+    }
+
+    private static void writeHtml(Writer writer, List<Measurement> results) throws IOException {
+        writer.write("<html>" + NEW_LINE);
+        writer.write("<head>" + NEW_LINE);
+        writer.write("<meta http-equiv=\"Content-Type\" content=\"text/html; charset=UTF-8\">" + NEW_LINE);
+        writer.write("<title>Check Profile</title>" + NEW_LINE);
+        writer.write("<style type=\"text/css\">" + NEW_LINE + AnalysisReportWriter.STYLE + "</style>" + NEW_LINE);
+        writer.write("</head>" + NEW_LINE);
+        writer.write("<body>" + NEW_LINE);
+        writer.write("<h2>Check Profile</h2>" + NEW_LINE);
+        writer.write("<table width=\"90%\" border=\"0\" class=\"details\">" + NEW_LINE);
+        writer.write("<tr><th align=\"left\">tool</th><th align=\"left\">check</th><th align=\"left\">phase</th>"
+                + "<th align=\"right\">time (ms)</th><th align=\"right\">invocations</th><th align=\"right\">files</th>"
+                + "<th align=\"right\">allocated (KiB)</th></tr>" + NEW_LINE);
+        for (Measurement result : results) {
+            writer.write("<tr class=\"alternate\"><td>" + AnalysisReportWriter.escape(result.getTool()) + "</td><td>"
+                    + AnalysisReportWriter.escape(result.getCheck()) + "</td><td>"
+                    + AnalysisReportWriter.escape(result.getPhase()) + "</td><td align=\"right\">"
+                    + TimeUnit.NANOSECONDS.toMillis(result.getWallTime()) + "</td><td align=\"right\">"
+                    + result.getInvocations() + "</td><td align=\"right\">" + result.getFiles()
+                    + "</td><td align=\"right\">" + result.getAllocatedBytes() / 1024 + "</td></tr>" + NEW_LINE);
+        }
+        writer.write("</table>" + NEW_LINE);
+        writer.write("</body>" + NEW_LINE);
+        writer.write("</html>" + NEW_LINE);
+    }
+
+    private static ThreadMXBean getThreadMXBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof ThreadMXBean threadMXBean
+                && threadMXBean.isThreadAllocatedMemorySupported()) {
+            threadMXBean.setThreadAllocatedMemoryEnabled(true);
+            return threadMXBean;
+        }
+        return null;
+    }
+
+    /**
+     * Enables the measurement of the allocated bytes when they are measured for the first time
+     */
+    private static final class AllocationCounter {
+        private static final ThreadMXBean THREAD_MX_BEAN = getThreadMXBean();
+    }
+
+    /**
+     * @return the measurements of all checks, shared with the profilers of the checks
+     */
+    static ConcurrentMap<String, AtomicLongArray> getMeasurements() {
+        return getOrCreateJvmSingleton(MEASUREMENTS_KEY, ConcurrentHashMap::new);
+    }
+
+    /**
+     * The measurement of a phase of a check
+     */
+    static final class Measurement {
+        private final String tool;
+        private final String check;
+        private final String phase;
+        private final long wallTime;
+        private final long invocations;
+        private final long files;
+        private final long allocatedBytes;
+
+        Measurement(String tool, String check, String phase, long wallTime, long invocations, long files,
+                long allocatedBytes) {
+            this.tool = tool;
+            this.check = check;
+            this.phase = phase;
+            this.wallTime = wallTime;
+            this.invocations = invocations;
+            this.files = files;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        String getTool() {
+            return tool;
+        }
+
+        String getCheck() {
+            return check;
+        }
+
+        String getPhase() {
+            return phase;
+        }
+
+        /**
+         * @return the wall time in nanoseconds
+         */
+        long getWallTime() {
+            return wallTime;
+        }
+
+        long getInvocations() {
+            return invocations;
+        }
+
+        /**
+         * @return the number of processed files or classes
+         */
+        long getFiles() {
+            return files;
+        }
+
+        long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.report;
+
+/**
+ * Enumerates the engines that can be used by the {@link ReportMojo} for creating the individual reports.
+ *
+ * <ul>
+ * <li>{@link #STREAMING} reads all tool results with StAX into one {@link AnalysisReport} and writes the merged XML
+ * and the HTML report in a single pass</li>
+ * <li>{@link #XSLT} uses the legacy chain of XSLT transformations with intermediate files</li>
+ * </ul>
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+enum ReportEngine {
+    STREAMING,
+    XSLT
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.report;
+
+import java.util.Objects;
+
+/**
+ * A single violation found by one of the analysis tools. Corresponds to a <code>/sca/file/message</code> element of
+ * the merged report.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+final class ReportMessage {
+
+    private final String tool;
+    private final String line;
+    private final String message;
+    private final String priority;
+    private final String rule;
+    private final String category;
+    private final String ruleId;
+    private final String ruleUrl;
+
+    ReportMessage(String tool, String line, String message, String priority, String rule, String category,
+            String ruleId, String ruleUrl) {
+        this.tool = tool;
+        this.line = line;
+        this.message = message;
+        this.priority = priority;
+        this.rule = rule;
+        this.category = category;
+        this.ruleId = ruleId;
+        this.ruleUrl = ruleUrl;
+    }
+
+    String getTool() {
+        return tool;
+    }
+
+    String getLine() {
+        return line;
+    }
+
+    String getMessage() {
+        return message;
+    }
+
+    String getPriority() {
+        return priority;
+    }
+
+    String getRule() {
+        return rule;
+    }
+
+    String getCategory() {
+        return category;
+    }
+
+    /**
+     * @return the rule id or <code>null</code> if the tool does not provide one
+     */
+    String getRuleId() {
+        return ruleId;
+    }
+
+    /**
+     * @return the rule documentation URL or <code>null</code> if the tool does not provide one
+     */
+    String getRuleUrl() {
+        return ruleUrl;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof ReportMessage)) {
+            return false;
+        }
+        ReportMessage other = (ReportMessage) obj;
+        return Objects.equals(tool, other.tool) && Objects.equals(line, other.line)
+                && Objects.equals(message, other.message) && Objects.equals(priority, other.priority)
+                && Objects.equals(rule, other.rule) && Objects.equals(category, other.category)
+                && Objects.equals(ruleId, other.ruleId) && Objects.equals(ruleUrl, other.ruleUrl);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tool, line, message, priority, rule, category, ruleId, ruleUrl);
+    }
+}
@@ -37,52 +37,33 @@ package org.openhab.tools.analysis.report;
 
 import static org.openhab.tools.analysis.report.ReportUtil.*;
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.io.StringWriter;
-import java.nio.charset.Charset;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.text.MessageFormat;
 import java.time.Duration;
 import java.time.Instant;
-import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeFormatterBuilder;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.transform.Templates;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.stream.StreamResult;
 import javax.xml.transform.stream.StreamSource;
-import javax.xml.xpath.XPath;
-import javax.xml.xpath.XPathConstants;
-import javax.xml.xpath.XPathExpression;
-import javax.xml.xpath.XPathFactory;
 
-import org.apache.commons.io.FileUtils;
-import org.apache.commons.io.IOUtils;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
-import org.dom4j.dom.DOMNodeHelper.EmptyNodeList;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 
 import net.sf.saxon.TransformerFactoryImpl;
 
@@ -101,6 +82,7 @@ import net.sf.saxon.TransformerFactoryImpl;
  * @author Petar Valchev - Changed the logging to be parameterized
  * @author Martin van Wingerden - added maven console logging of all messages
  * @author Wouter Born - Synchronize summary updates to make Mojo thread-safe
+ * @author openHAB Contributors - Added single-pass streaming report engine and non-blocking summary contributions
  */
 @Mojo(name = "report", threadSafe = true)
 public class ReportMojo extends AbstractMojo {
@@ -145,6 +127,12 @@ public class ReportMojo extends AbstractMojo {
     @Parameter(property = "report.summary.html.generation.period", defaultValue = "60")
     private int summaryHtmlGenerationPeriod;
 
+    /**
+     * The engine used for creating the individual report: STREAMING (default) or the legacy XSLT transformations
+     */
+    @Parameter(property = "report.engine", defaultValue = "STREAMING")
+    private ReportEngine reportEngine;
+
     private TransformerFactory transformerFactory;
 
     // Setters will be used in the test
@@ -172,11 +160,166 @@ public class ReportMojo extends AbstractMojo {
         this.reportInMaven = reportInMaven;
     }
 
+    void setReportEngine(ReportEngine reportEngine) {
+        this.reportEngine = reportEngine;
+    }
+
     @Override
     public void execute() throws MojoFailureException {
         transformerFactory = TransformerFactory.newInstance(TransformerFactoryImpl.class.getName(),
                 Thread.currentThread().getContextClassLoader());
 
+        final File htmlOutputFileName = new File(targetDirectory, RESULT_FILE_NAME);
+        final File mergedReport;
+        final AnalysisReport report;
+        if (reportEngine == ReportEngine.XSLT) {
+            mergedReport = createReportWithXslt(htmlOutputFileName);
+            report = mergedReport == null ? null : readMergedReport(mergedReport);
+        } else {
+            mergedReport = new File(targetDirectory, RESULT_XML_FILE_NAME);
+            report = createReportWithStreaming(htmlOutputFileName, mergedReport);
+        }
+
+        if (report != null) {
+            publishReport(report, htmlOutputFileName, mergedReport);
+        } else {
+            getLog().info("No reports found !");
+        }
+    }
+
+    /**
+     * Appends the report to the summary, reports the messages in Maven and fails the build if configured
+     */
+    void publishReport(AnalysisReport report, File htmlOutputFileName, File mergedReport) throws MojoFailureException {
+        // 7. Append the individual report to the summary, if it is not empty
+        if (summaryReportDirectory != null) {
+            ensureSummaryReportDirectoryExists();
+            contributeToSummary(htmlOutputFileName, mergedReport, report);
+        }
+
+        // 8. Report errors and warnings in Maven
+        if (reportInMaven) {
+            reportWarningsAndErrors(report, htmlOutputFileName);
+        }
+
+        // 9. Fail the build if any level error is enabled and configured error levels are found
+        if (failOnError || failOnWarning || failOnInfo) {
+            failOnErrors(report);
+        }
+
+        // 10. Delete the temporary files
+        if (reportEngine == ReportEngine.XSLT) {
+            deleteFile(mergedReport);
+        }
+    }
+
+    /**
+     * Reads the tool results with StAX into one {@link AnalysisReport} and writes the merged XML report and the HTML
+     * report from it, without any intermediate files.
+     *
+     * @return the report or <code>null</code> if no tool results are found
+     */
+    private AnalysisReport createReportWithStreaming(File htmlOutputFileName, File mergedReport) {
+        final File inputFileFindbugs = new File(targetDirectory, FINDBUGS_INPUT_FILE_NAME);
+        final File inputFileCheckstyle = new File(targetDirectory, CHECKSTYLE_INPUT_FILE_NAME);
+        final File inputFilePMD = new File(targetDirectory, PMD_INPUT_FILE_NAME);
+        if (!inputFileFindbugs.exists() && !inputFileCheckstyle.exists() && !inputFilePMD.exists()) {
+            return null;
+        }
+
+        AnalysisReport report = new AnalysisReport();
+        try {
+            Instant start = Instant.now();
+
+            // 1-3. Read the results of PMD, FindBugs and Checkstyle into one report, in the order of the XSLT merge
+            AnalysisReportReader reader = new AnalysisReportReader();
+            readToolResults(reader, PMD_INPUT_FILE_NAME, report);
+            readToolResults(reader, FINDBUGS_INPUT_FILE_NAME, report);
+            readToolResults(reader, CHECKSTYLE_INPUT_FILE_NAME, report);
+
+            // 4-6. Create the merged xml-file and the html report
+            writeReport(report, htmlOutputFileName, mergedReport);
+
+            if (getLog().isDebugEnabled()) {
+                getLog().debug(MessageFormat.format("Creating report with {0} message(s) took {1}ms",
+                        report.getMessageCount(), Duration.between(start, Instant.now()).toMillis()));
+            }
+        } catch (IOException e) {
+            getLog().error("IOException occurred", e);
+        } catch (XMLStreamException e) {
+            getLog().error("XMLStreamException occurred", e);
+        }
+        return report;
+    }
+
+    /**
+     * Reads the results of a tool into the report, if the tool has created its result file
+     *
+     * @param inputFileName the name of the result file in the {@link #targetDirectory}, e.g.
+     *            {@link ReportUtil#CHECKSTYLE_INPUT_FILE_NAME}
+     * @return <code>true</code> if the result file exists
+     */
+    boolean readToolResults(AnalysisReportReader reader, String inputFileName, AnalysisReport report)
+            throws IOException, XMLStreamException {
+        File inputFile = new File(targetDirectory, inputFileName);
+        if (!inputFile.exists()) {
+            return false;
+        }
+        switch (inputFileName) {
+            case FINDBUGS_INPUT_FILE_NAME:
+                reader.readSpotBugs(inputFile, report);
+                break;
+            case CHECKSTYLE_INPUT_FILE_NAME:
+                reader.readCheckstyle(inputFile, report);
+                break;
+            case PMD_INPUT_FILE_NAME:
+                reader.readPmd(inputFile, report);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown result file " + inputFileName);
+        }
+        return true;
+    }
+
+    /**
+     * Writes the merged XML report and the HTML report of the streaming engine
+     */
+    void writeReport(AnalysisReport report, File htmlOutputFileName, File mergedReport)
+            throws IOException, XMLStreamException {
+        AnalysisReportWriter writer = new AnalysisReportWriter();
+        writer.writeXml(report, mergedReport);
+        writer.writeHtml(report, htmlOutputFileName);
+    }
+
+    File getTargetDirectory() {
+        return targetDirectory;
+    }
+
+    ReportEngine getReportEngine() {
+        return reportEngine;
+    }
+
+    /**
+     * Reads the merged XML report created by the XSLT engine, so all consumers can use the same parsed report.
+     */
+    private AnalysisReport readMergedReport(File mergedReport) {
+        AnalysisReport report = new AnalysisReport();
+        try {
+            new AnalysisReportReader().readMerged(mergedReport, report);
+        } catch (IOException | XMLStreamException e) {
+            String message = MessageFormat.format("Can''t read messages from {0}. Empty report will be used.",
+                    mergedReport.getAbsolutePath());
+            getLog().warn(message, e);
+        }
+        return report;
+    }
+
+    /**
+     * Creates the merged XML report and the HTML report with a chain of XSLT transformations.
+     *
+     * @return the merged XML report or <code>null</code> if no tool results are found
+     */
+    private File createReportWithXslt(File htmlOutputFileName) {
         // Prepare userDirectory and tempDirectoryPrefix
         final String timeStamp = Integer.toHexString((int) System.nanoTime());
         Queue<File> transformedReports = new LinkedList<>();
@@ -205,68 +348,49 @@ public class ReportMojo extends AbstractMojo {
             transformedReports.add(pmdTempFile);
         }
 
-        if (!transformedReports.isEmpty()) {
-            while (transformedReports.size() != 1) {
-                File firstReport = transformedReports.poll();
-                File secondReport = transformedReports.poll();
-
-                // 4. Merge first two files and create merge result file
-                final File mergeResult = new File(targetDirectory,
-                        timeStamp + "_" + transformedReports.size() + "_Merge.xml");
-                run(MERGE_XSLT, firstReport, mergeResult, "with", secondReport);
-
-                // 5. Add the result for further merging
-                transformedReports.add(mergeResult);
+        if (transformedReports.isEmpty()) {
+            return null;
+        }
 
-                deleteFile(firstReport);
-                deleteFile(secondReport);
-            }
-            // 6. Create html report out of the last merged result
-            final File htmlOutputFileName = new File(targetDirectory, RESULT_FILE_NAME);
-            final File mergedReport = transformedReports.poll();
-            run(CREATE_HTML_XSLT, mergedReport, htmlOutputFileName, EMPTY, null);
-
-            // 7. Append the individual report to the summary, if it is not empty
-            if (summaryReportDirectory != null) {
-                ensureSummaryReportDirectoryExists();
-
-                ReportUtil.acquireMergeLock();
-                try {
-                    generateSummaryByBundle(htmlOutputFileName, mergedReport);
-                    generateSummaryByRules(htmlOutputFileName, mergedReport);
-                } finally {
-                    ReportUtil.releaseMergeLock();
-                }
-            }
+        while (transformedReports.size() != 1) {
+            File firstReport = transformedReports.poll();
+            File secondReport = transformedReports.poll();
 
-            // 8. Report errors and warnings in Maven
-            if (reportInMaven) {
-                reportWarningsAndErrors(mergedReport, htmlOutputFileName);
-            }
+            // 4. Merge first two files and create merge result file
+            final File mergeResult = new File(targetDirectory,
+                    timeStamp + "_" + transformedReports.size() + "_Merge.xml");
+            run(MERGE_XSLT, firstReport, mergeResult, "with", secondReport);
 
-            // 9. Fail the build if any level error is enabled and configured error levels are found
-            if (failOnError || failOnWarning || failOnInfo) {
-                failOnErrors(mergedReport);
-            }
+            // 5. Add the result for further merging
+            transformedReports.add(mergeResult);
 
-            // 10. Delete the temporary files
-            deleteFile(mergedReport);
-        } else {
-            getLog().info("No reports found !");
+            deleteFile(firstReport);
+            deleteFile(secondReport);
         }
+
+        // 6. Create html report out of the last merged result
+        final File mergedReport = transformedReports.poll();
+        run(CREATE_HTML_XSLT, mergedReport, htmlOutputFileName, EMPTY, null);
+        return mergedReport;
     }
 
     private void run(final String xslt, final File input, final File output, final String param, final File value) {
-        try (FileOutputStream outputStream = new FileOutputStream(output);
-                InputStream inputStream = Thread.currentThread().getContextClassLoader().getResourceAsStream(xslt);
-                BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
+        try (FileOutputStream outputStream = new FileOutputStream(output)) {
             if (getLog().isDebugEnabled()) {
                 getLog().debug(MessageFormat.format("{0}  > {1} {2} {3} >  {4}", input, xslt, param, value, output));
             }
 
-            // Process the Source into a Transformer Object
-            final StreamSource source = new StreamSource(reader);
-            final Transformer transformer = transformerFactory.newTransformer(source);
+            // Get the compiled stylesheet (compiled only once per JVM) and create a Transformer Object from it
+            Instant compileStart = Instant.now();
+            final Templates templates = StylesheetCache.getTemplates(transformerFactory,
+                    Thread.currentThread().getContextClassLoader(), xslt);
+            Instant compileEnd = Instant.now();
+            final Transformer transformer = templates.newTransformer();
+
+            if (getLog().isDebugEnabled()) {
+                getLog().debug(MessageFormat.format("Compiling stylesheet ''{0}'' took {1}ms", xslt,
+                        Duration.between(compileStart, compileEnd).toMillis()));
+            }
 
             // Add a parameter for the transformation
             if (!param.isEmpty()) {
@@ -302,36 +426,25 @@ public class ReportMojo extends AbstractMojo {
         }
     }
 
-    private void reportWarningsAndErrors(File mergedReport, File reportLocation) {
-        NodeList messages = selectNodes(mergedReport, "/sca/file/message");
-        int messageCount = messages.getLength();
-
-        int errorCount = countPriority(messages, "1");
-        int warnCount = countPriority(messages, "2");
-        int infoCount = countPriority(messages, "3");
-
-        if (messageCount == 0) {
+    private void reportWarningsAndErrors(AnalysisReport report, File reportLocation) {
+        if (report.isEmpty()) {
             return;
         }
 
+        int errorCount = report.getPriorityCount("1");
+        int warnCount = report.getPriorityCount("2");
+        int infoCount = report.getPriorityCount("3");
+
         String format = String.format("Code Analysis Tool has found: %n %d error(s)! %n %d warning(s) %n %d info(s)",
                 errorCount, warnCount, infoCount);
         report(maxLevel(errorCount, warnCount, infoCount), format);
 
-        for (int i = 0; i < messages.getLength(); i++) {
-            Node currentNode = messages.item(i);
-            if (currentNode.getNodeType() == Node.ELEMENT_NODE) {
-                Element messageNode = (Element) currentNode;
-                String priority = messageNode.getAttribute("priority");
-
-                Element fileNode = ((Element) messageNode.getParentNode());
-                String fileName = fileNode.getAttribute("name");
-                String line = messageNode.getAttribute("line");
-                String message = messageNode.getAttribute("message").trim();
-
+        for (Map.Entry<String, List<ReportMessage>> file : report.getFiles().entrySet()) {
+            String fileName = file.getKey();
+            for (ReportMessage message : file.getValue()) {
                 String logTemplate = "%s:[%s]%n%s";
-                String log = String.format(logTemplate, fileName, line, message);
-                report(priority, log);
+                String log = String.format(logTemplate, fileName, message.getLine(), message.getMessage().trim());
+                report(message.getPriority(), log);
             }
         }
         getLog().info("Detailed report can be found at: " + reportLocation.toURI());
@@ -347,41 +460,24 @@ public class ReportMojo extends AbstractMojo {
         }
     }
 
-    private int countPriority(NodeList messages, String priority) {
-        int count = 0;
-        for (int i = 0; i < messages.getLength(); i++) {
-            Node currentNode = messages.item(i);
-            if (currentNode.getNodeType() != Node.ELEMENT_NODE) {
-                continue;
-            }
-            Element messageNode = (Element) currentNode;
-
-            if (priority.equals(messageNode.getAttribute("priority"))) {
-                count++;
-            }
-        }
-        return count;
-    }
-
-    private void failOnErrors(File mergedReport) throws MojoFailureException {
+    private void failOnErrors(AnalysisReport report) throws MojoFailureException {
         List<String> errorMessages = new ArrayList<>();
         if (failOnError) {
-            detectFailures(errorMessages, mergedReport, 1);
+            detectFailures(errorMessages, report, 1);
         }
         if (failOnWarning) {
-            detectFailures(errorMessages, mergedReport, 2);
+            detectFailures(errorMessages, report, 2);
         }
         if (failOnInfo) {
-            detectFailures(errorMessages, mergedReport, 3);
+            detectFailures(errorMessages, report, 3);
         }
         if (!errorMessages.isEmpty()) {
             throw new MojoFailureException(String.join("\n", errorMessages));
         }
     }
 
-    private void detectFailures(List<String> errorMessages, File mergedReport, int priority) {
-        NodeList messages = selectNodes(mergedReport, "/sca/file/message");
-        int count = countPriority(messages, String.valueOf(priority));
+    private void detectFailures(List<String> errorMessages, AnalysisReport report, int priority) {
+        int count = report.getPriorityCount(String.valueOf(priority));
         if (count > 0) {
             errorMessages.add(failureMessage(priority(priority), count));
         }
@@ -424,86 +520,47 @@ public class ReportMojo extends AbstractMojo {
         }
     }
 
-    private void generateSummaryByBundle(File htmlOutputFile, File mergedReport) {
-        NodeList nodes = selectNodes(mergedReport, "/sca/file/message");
-        int messagesNumber = nodes.getLength();
-        if (messagesNumber == 0) {
-            getLog().info("Empty report will not be appended to the summary report.");
-            return;
-        }
+    /**
+     * Hands off the bundle report to the {@link SummaryCollector}, which persists it without blocking other report
+     * executions.
+     */
+    private void contributeToSummary(File htmlOutputFile, File mergedReport, AnalysisReport report) {
+        File latestSummaryReport = new File(summaryReportDirectory, SUMMARY_REPORT_FILE_NAME);
+        String bundleName = getBundleName(htmlOutputFile);
 
         try {
-            File summaryReport = new File(summaryReportDirectory, SUMMARY_BUNDLES_FILE_NAME);
-            if (!summaryReport.exists()) {
-                InputStream inputStream = Thread.currentThread().getContextClassLoader()
-                        .getResourceAsStream(REPORT_SUBDIR + "/" + SUMMARY_TEMPLATE_FILE_NAME);
-
-                StringWriter writer = new StringWriter();
-                IOUtils.copy(inputStream, writer, Charset.defaultCharset());
-                String htmlString = writer.toString();
-
-                DateTimeFormatter formatter = new DateTimeFormatterBuilder().appendPattern("yyyy-MM-dd HH:mm:ss ")
-                        .appendOffset("+HH:MM", "Z").toFormatter();
-                htmlString = htmlString.replace("$time", formatter.format(ZonedDateTime.now()));
-
-                FileUtils.writeStringToFile(summaryReport, htmlString, StandardCharsets.UTF_8);
+            if (!latestSummaryReport.exists()) {
+                copyFile(htmlOutputFile, latestSummaryReport);
             }
-            String reportContent = FileUtils.readFileToString(summaryReport, StandardCharsets.UTF_8);
-
-            final String singleItem = "<tr class=alternate><td><a href=\"%s\">%s</a></td></tr><tr></tr>";
-            Path absoluteIndividualReportPath = htmlOutputFile.toPath();
-            Path summaryReportDirectoryPath = summaryReportDirectory.toPath();
-            Path relativePath = summaryReportDirectoryPath.relativize(absoluteIndividualReportPath);
-
-            String bundleName = absoluteIndividualReportPath.getName(absoluteIndividualReportPath.getNameCount() - 4)
-                    .toString();
-
-            String row = String.format(singleItem, relativePath, bundleName);
 
-            reportContent = reportContent.replace("<tr></tr>", row);
-            FileUtils.writeStringToFile(summaryReport, reportContent, StandardCharsets.UTF_8);
-            getLog().info("Individual report appended to summary report.");
-        } catch (IOException e) {
-            getLog().warn("Can't read or write to summary report. The summary report might be incomplete!", e);
-        }
-    }
-
-    private void generateSummaryByRules(final File htmlOutputFileName, final File mergedReport) {
-        File latestMergeResult = new File(summaryReportDirectory, MERGE_XML_FILE_NAME);
-        File latestSummaryReport = new File(summaryReportDirectory, SUMMARY_REPORT_FILE_NAME);
-
-        try {
-            if (!latestMergeResult.exists() && !latestSummaryReport.exists()) {
-                latestMergeResult.createNewFile();
-                latestSummaryReport.createNewFile();
-                copyFile(mergedReport, latestMergeResult);
-                copyFile(htmlOutputFileName, latestSummaryReport);
+            String reportLink = null;
+            if (report.isEmpty()) {
+                getLog().info("Empty report will not be appended to the summary report.");
             } else {
-                final File tempMergedReport = new File(summaryReportDirectory, MERGE_XML_TMP_FILE_NAME);
-                copyFile(latestMergeResult, tempMergedReport);
-                run(MERGE_XSLT, tempMergedReport, latestMergeResult, "with", mergedReport);
-                deleteFile(tempMergedReport);
+                reportLink = summaryReportDirectory.toPath().relativize(htmlOutputFile.toPath()).toString();
+            }
+
+            Instant start = Instant.now();
+            String segmentName = new SummaryStore(summaryReportDirectory).writeSegment(bundleName, mergedReport);
+            int persisted = SummaryCollector.submit(summaryReportDirectory, segmentName, bundleName, reportLink);
+            if (getLog().isDebugEnabled()) {
+                getLog().debug(MessageFormat.format(
+                        "Handing off summary contribution took {0}ms, {1} queued contribution(s) persisted",
+                        Duration.between(start, Instant.now()).toMillis(), persisted));
+            }
+            if (reportLink != null) {
+                getLog().info("Individual report appended to summary report.");
             }
         } catch (IOException e) {
-            getLog().error("Unable to create or write to file " + e.getMessage(), e);
+            getLog().warn("Can't read or write to summary report. The summary report might be incomplete!", e);
         }
     }
 
-    private NodeList selectNodes(File file, String xPathExpression) {
-        try {
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            DocumentBuilder builder = factory.newDocumentBuilder();
-            Document document = builder.parse(file);
-
-            XPathFactory xPathFactory = XPathFactory.newInstance();
-            XPath xPath = xPathFactory.newXPath();
-            XPathExpression expression = xPath.compile(xPathExpression);
-            return (NodeList) expression.evaluate(document, XPathConstants.NODESET);
-        } catch (Exception e) {
-            String message = MessageFormat.format("Can't select {0} nodes from {1}. Empty NodeList will be returned.",
-                    xPathExpression, file.getAbsolutePath());
-            getLog().warn(message, e);
-            return new EmptyNodeList();
-        }
+    /**
+     * @return the name of the bundle directory of a report in <code>bundle/target/code-analysis</code>
+     */
+    private String getBundleName(File htmlOutputFile) {
+        Path absoluteIndividualReportPath = htmlOutputFile.toPath().toAbsolutePath();
+        return absoluteIndividualReportPath.getName(absoluteIndividualReportPath.getNameCount() - 4).toString();
     }
 }
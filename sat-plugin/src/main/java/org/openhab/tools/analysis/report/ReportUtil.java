@@ -13,6 +13,7 @@
 package org.openhab.tools.analysis.report;
 
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 
 import org.apache.maven.execution.ExecutionEvent;
 import org.apache.maven.plugin.MojoExecution;
@@ -28,11 +29,13 @@ final class ReportUtil {
     static final String SAT_PLUGIN_GROUP_ID = "org.openhab.tools.sat";
     static final String SAT_PLUGIN_ARTIFACT_ID = "sat-plugin";
     static final String SAT_PLUGIN_REPORT_GOAL = "report";
+    static final String SAT_PLUGIN_ANALYZE_GOAL = "analyze";
 
     // SAT plugin configuration parameter names
     static final String DIRECTORY_PARAMETER = "summaryReportDirectory";
     static final String HTML_GENERATION_PARAMETER = "summaryHtmlGeneration";
     static final String HTML_GENERATION_PERIOD_PARAMETER = "summaryHtmlGenerationPeriod";
+    static final String ENGINE_PARAMETER = "reportEngine";
 
     // XSLT files that are used to create the merged report, located in the resources folder
     static final String REPORT_SUBDIR = "report";
@@ -51,18 +54,15 @@ final class ReportUtil {
 
     // Name of the file that contains the merged report
     static final String RESULT_FILE_NAME = "report.html";
+    static final String RESULT_XML_FILE_NAME = "report.xml";
     static final String SUMMARY_REPORT_FILE_NAME = "summary_report.html";
     static final String SUMMARY_BUNDLES_FILE_NAME = "summary_bundles.html";
     static final String SUMMARY_XML_FILE_NAME = "summary.xml";
     static final String EMPTY = "";
 
-    // Files used for merging the individual reports into the summary reports
-    static final String MERGE_XML_FILE_NAME = "merge.xml";
-    static final String MERGE_XML_TMP_FILE_NAME = "merge.xml.tmp";
-
-    // The lock used for updating merge files
-    private static final ReentrantLock MERGE_LOCK;
-    private static final String MERGE_LOCK_KEY_NAME = ReportUtil.class.getCanonicalName() + ".MERGE_LOCK";
+    // Files used for storing the individual reports that make up the summary reports
+    static final String SUMMARY_SEGMENTS_DIR_NAME = "summary-segments";
+    static final String SUMMARY_MANIFEST_FILE_NAME = "manifest.txt";
 
     // The lock used for updating summary files
     private static final ReentrantLock SUMMARY_LOCK;
@@ -73,28 +73,40 @@ final class ReportUtil {
     }
 
     static {
-        synchronized (ClassLoader.getSystemClassLoader()) {
-            MERGE_LOCK = getOrCreateJvmSingletonLock(MERGE_LOCK_KEY_NAME);
-            SUMMARY_LOCK = getOrCreateJvmSingletonLock(SUMMARY_LOCK_KEY_NAME);
-        }
+        SUMMARY_LOCK = getOrCreateJvmSingleton(SUMMARY_LOCK_KEY_NAME, ReentrantLock::new);
     }
 
-    private static ReentrantLock getOrCreateJvmSingletonLock(String keyName) {
-        ReentrantLock lock = (ReentrantLock) System.getProperties().get(keyName);
-        if (lock == null) {
-            lock = new ReentrantLock();
-            System.getProperties().put(keyName, lock);
-        }
-        return lock;
-    }
-
-    static void acquireMergeLock() {
-        MERGE_LOCK.lock();
-    }
-
-    static void releaseMergeLock() {
-        if (MERGE_LOCK.isHeldByCurrentThread()) {
-            MERGE_LOCK.unlock();
+    /**
+     * Returns an object that is shared by all class loaders in the JVM, e.g. the ones of the SAT plugin and the SAT
+     * extension.
+     * <p>
+     * This is the only channel between the class loaders, all users follow the same contract:
+     * <ul>
+     * <li>the object is stored in the system properties under the canonical name of the owning class, followed by a
+     * dot and the name of the object, e.g. <code>org.openhab.tools.analysis.report.SummaryCollector.QUEUE</code>;</li>
+     * <li>the object must be an instance of a thread-safe JDK class, because the classes of the SAT are loaded once
+     * per class loader;</li>
+     * <li>the object is created while holding the lock of the system class loader and is never replaced, so its users
+     * may keep references to it.</li>
+     * </ul>
+     * The shared objects are the summary lock of this class, the queue, writer lock and statistics of the
+     * {@link SummaryCollector} and the {@link ProfileReport#MEASUREMENTS_KEY measurements} of the
+     * {@link ProfileReport}. The measurements are also written by the custom PMD rules and SpotBugs detectors, which
+     * can not depend on the SAT plugin, so their <code>CheckProfiler</code> repeats this method and the key.
+     *
+     * @param keyName the system property key name of the object
+     * @param factory creates the object if it does not yet exist
+     * @return the shared object
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T getOrCreateJvmSingleton(String keyName, Supplier<T> factory) {
+        synchronized (ClassLoader.getSystemClassLoader()) {
+            T singleton = (T) System.getProperties().get(keyName);
+            if (singleton == null) {
+                singleton = factory.get();
+                System.getProperties().put(keyName, singleton);
+            }
+            return singleton;
         }
     }
 
@@ -112,6 +124,7 @@ final class ReportUtil {
         MojoExecution execution = event.getMojoExecution();
         return SAT_PLUGIN_GROUP_ID.equals(execution.getGroupId())
                 && SAT_PLUGIN_ARTIFACT_ID.equals(execution.getArtifactId())
-                && SAT_PLUGIN_REPORT_GOAL.equals(execution.getGoal());
+                && (SAT_PLUGIN_REPORT_GOAL.equals(execution.getGoal())
+                        || SAT_PLUGIN_ANALYZE_GOAL.equals(execution.getGoal()));
     }
 }
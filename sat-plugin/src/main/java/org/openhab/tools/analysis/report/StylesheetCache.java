@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.report;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.xml.transform.Templates;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.stream.StreamSource;
+
+/**
+ * Cache of compiled XSLT stylesheets. Compiled {@link Templates} are thread-safe, so all report executions (also the
+ * ones of parallel builds) can create cheap transformers from the same instance.
+ * <p>
+ * The cache is held in a static field, so each class loader of the plugin and of the SAT extension has its own cache.
+ * Maven reuses the class loader of a plugin for all modules of a build, and the Maven Daemon for all builds, so the
+ * stylesheets are only compiled once. The compiled stylesheets reference classes of the XSLT processor that is loaded
+ * by the same class loader, so they are released together with the class loader and never passed to another one.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+final class StylesheetCache {
+
+    private static final ConcurrentMap<String, Templates> TEMPLATES = new ConcurrentHashMap<>();
+
+    private StylesheetCache() {
+        // Hidden utility class constructor
+    }
+
+    /**
+     * Returns the compiled stylesheet of an XSLT resource. The stylesheet is compiled with the given factory when it
+     * is not yet cached. Concurrent requests for the same stylesheet wait for a single compilation.
+     *
+     * @param transformerFactory the factory used for compiling the stylesheet
+     * @param classLoader the class loader used for loading the stylesheet resource
+     * @param xslt the path of the stylesheet resource
+     * @return the compiled stylesheet
+     * @throws TransformerConfigurationException if the stylesheet cannot be found or compiled
+     */
+    static Templates getTemplates(TransformerFactory transformerFactory, ClassLoader classLoader, String xslt)
+            throws TransformerConfigurationException {
+        URL url = classLoader.getResource(xslt);
+        if (url == null) {
+            throw new TransformerConfigurationException("Unable to find stylesheet " + xslt);
+        }
+
+        try {
+            return TEMPLATES.computeIfAbsent(url.toExternalForm(), key -> compile(transformerFactory, url));
+        } catch (UncheckedTransformerException e) {
+            throw e.getCause();
+        } catch (UncheckedIOException e) {
+            throw new TransformerConfigurationException("Unable to read stylesheet " + xslt, e.getCause());
+        }
+    }
+
+    private static Templates compile(TransformerFactory transformerFactory, URL url) {
+        try (InputStream inputStream = url.openStream();
+                BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
+            return transformerFactory.newTemplates(new StreamSource(reader, url.toExternalForm()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (TransformerConfigurationException e) {
+            throw new UncheckedTransformerException(e);
+        }
+    }
+
+    private static class UncheckedTransformerException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        UncheckedTransformerException(TransformerConfigurationException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized TransformerConfigurationException getCause() {
+            return (TransformerConfigurationException) super.getCause();
+        }
+    }
+}
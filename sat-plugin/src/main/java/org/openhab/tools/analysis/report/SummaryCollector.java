@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.report;
+
+import static org.openhab.tools.analysis.report.ReportUtil.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Collects the contributions of the report goals to the summary reports without blocking them.
+ * <p>
+ * Report goals write their bundle segment to the {@link SummaryStore} (which needs no locking) and hand off a
+ * contribution to a queue. Whichever thread finds the writer idle becomes the single writer and persists all queued
+ * contributions in one batch: it appends the segments to the manifest and adds the bundle links to the bundles summary.
+ * Other threads never wait for the writer, they return as soon as their contribution is queued.
+ * <p>
+ * The queue, the writer lock and the statistics are shared by all class loaders in the JVM (see
+ * {@link ReportUtil#getOrCreateJvmSingleton}), so the SAT extension can flush and report them. Contributions are
+ * therefore stored as maps of strings.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+final class SummaryCollector {
+
+    // Contribution keys
+    private static final String DIRECTORY = "directory";
+    private static final String SEGMENT = "segment";
+    private static final String BUNDLE = "bundle";
+    private static final String REPORT_LINK = "reportLink";
+
+    // Statistic indexes
+    private static final int CONTRIBUTIONS = 0;
+    private static final int BATCHES = 1;
+    private static final int WRITE_NANOS = 2;
+    private static final int LOCK_WAIT_NANOS = 3;
+
+    private static final String KEY_NAME_PREFIX = SummaryCollector.class.getCanonicalName();
+
+    private static final Queue<Map<String, String>> QUEUE = getOrCreateJvmSingleton(KEY_NAME_PREFIX + ".QUEUE",
+            ConcurrentLinkedQueue::new);
+    private static final ReentrantLock WRITER_LOCK = getOrCreateJvmSingleton(KEY_NAME_PREFIX + ".WRITER_LOCK",
+            ReentrantLock::new);
+    private static final AtomicLongArray STATISTICS = getOrCreateJvmSingleton(KEY_NAME_PREFIX + ".STATISTICS",
+            () -> new AtomicLongArray(4));
+
+    private SummaryCollector() {
+        // Hidden utility class constructor
+    }
+
+    /**
+     * Hands off the contribution of a bundle report to the summary reports.
+     *
+     * @param summaryReportDirectory the directory of the summary reports
+     * @param segmentName the name of the bundle segment that was written to the {@link SummaryStore}
+     * @param bundleName the name of the bundle
+     * @param reportLink the link to the individual HTML report relative to the summary directory or <code>null</code>
+     *            if the bundle should not be listed in the bundles summary
+     * @return the number of contributions that were persisted by the current thread
+     * @throws IOException if the current thread became the writer and was unable to persist the contributions
+     */
+    static int submit(File summaryReportDirectory, String segmentName, String bundleName, String reportLink)
+            throws IOException {
+        Map<String, String> contribution = new LinkedHashMap<>();
+        contribution.put(DIRECTORY, summaryReportDirectory.getAbsolutePath());
+        contribution.put(SEGMENT, segmentName);
+        contribution.put(BUNDLE, bundleName);
+        if (reportLink != null) {
+            contribution.put(REPORT_LINK, reportLink);
+        }
+        QUEUE.add(contribution);
+        STATISTICS.incrementAndGet(CONTRIBUTIONS);
+        return flush();
+    }
+
+    /**
+     * Persists all queued contributions if no other thread is currently doing so. A writer that is active re-checks
+     * the queue after releasing the writer lock, so contributions are never left behind. Contributions that could not
+     * be persisted are queued again, so they are persisted by the next flush.
+     *
+     * @return the number of contributions that were persisted by the current thread
+     * @throws IOException if the contributions could not be persisted
+     */
+    static int flush() throws IOException {
+        int persisted = 0;
+        while (!QUEUE.isEmpty() && WRITER_LOCK.tryLock()) {
+            try {
+                long start = System.nanoTime();
+                List<Map<String, String>> batch = new ArrayList<>();
+                Map<String, String> contribution;
+                while ((contribution = QUEUE.poll()) != null) {
+                    batch.add(contribution);
+                }
+                if (!batch.isEmpty()) {
+                    int batchSize = batch.size();
+                    try {
+                        write(batch);
+                    } catch (IOException e) {
+                        QUEUE.addAll(batch);
+                        throw e;
+                    }
+                    persisted += batchSize;
+                    STATISTICS.incrementAndGet(BATCHES);
+                    STATISTICS.addAndGet(WRITE_NANOS, System.nanoTime() - start);
+                }
+            } finally {
+                WRITER_LOCK.unlock();
+            }
+        }
+        return persisted;
+    }
+
+    /**
+     * Records the time a thread had to wait for the summary lock.
+     */
+    static void recordLockWait(long nanos) {
+        STATISTICS.addAndGet(LOCK_WAIT_NANOS, nanos);
+    }
+
+    /**
+     * @return a description of the collected statistics for logging
+     */
+    static String getStatistics() {
+        return String.format(
+                "%d summary contribution(s) persisted in %d batch(es) taking %dms, summary lock wait time %dms",
+                STATISTICS.get(CONTRIBUTIONS), STATISTICS.get(BATCHES),
+                TimeUnit.NANOSECONDS.toMillis(STATISTICS.get(WRITE_NANOS)),
+                TimeUnit.NANOSECONDS.toMillis(STATISTICS.get(LOCK_WAIT_NANOS)));
+    }
+
+    /**
+     * Persists a batch of contributions grouped by summary directory. The contributions of a directory are removed
+     * from the batch when they are persisted, so the batch only keeps the ones that still need to be persisted if
+     * writing fails.
+     */
+    private static void write(List<Map<String, String>> batch) throws IOException {
+        Map<String, List<Map<String, String>>> contributionsByDirectory = new LinkedHashMap<>();
+        for (Map<String, String> contribution : batch) {
+            List<Map<String, String>> contributions = contributionsByDirectory.get(contribution.get(DIRECTORY));
+            if (contributions == null) {
+                contributions = new ArrayList<>();
+                contributionsByDirectory.put(contribution.get(DIRECTORY), contributions);
+            }
+            contributions.add(contribution);
+        }
+
+        for (Map.Entry<String, List<Map<String, String>>> entry : contributionsByDirectory.entrySet()) {
+            File directory = new File(entry.getKey());
+            List<String> segmentNames = new ArrayList<>();
+            List<Map<String, String>> listedBundles = new ArrayList<>();
+            for (Map<String, String> contribution : entry.getValue()) {
+                segmentNames.add(contribution.get(SEGMENT));
+                if (contribution.containsKey(REPORT_LINK)) {
+                    listedBundles.add(contribution);
+                }
+            }
+            new SummaryStore(directory).appendToManifest(segmentNames);
+            appendToBundlesSummary(directory, listedBundles);
+            batch.removeAll(entry.getValue());
+        }
+    }
+
+    private static void appendToBundlesSummary(File directory, List<Map<String, String>> bundles) throws IOException {
+        if (bundles.isEmpty()) {
+            return;
+        }
+
+        File summaryReport = new File(directory, SUMMARY_BUNDLES_FILE_NAME);
+        String reportContent;
+        if (summaryReport.exists()) {
+            reportContent = Files.readString(summaryReport.toPath(), StandardCharsets.UTF_8);
+        } else {
+            String template = "/" + REPORT_SUBDIR + "/" + SUMMARY_TEMPLATE_FILE_NAME;
+            try (InputStream inputStream = SummaryCollector.class.getResourceAsStream(template)) {
+                if (inputStream == null) {
+                    throw new IOException("Can not find the summary report template " + template);
+                }
+                reportContent = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+            }
+            DateTimeFormatter formatter = new DateTimeFormatterBuilder().appendPattern("yyyy-MM-dd HH:mm:ss ")
+                    .appendOffset("+HH:MM", "Z").toFormatter();
+            reportContent = reportContent.replace("$time", formatter.format(ZonedDateTime.now()));
+        }
+
+        final String singleItem = "<tr class=alternate><td><a href=\"%s\">%s</a></td></tr>";
+        StringBuilder rows = new StringBuilder();
+        for (Map<String, String> bundle : bundles) {
+            rows.append(String.format(singleItem, bundle.get(REPORT_LINK), bundle.get(BUNDLE)));
+        }
+        rows.append("<tr></tr>");
+
+        reportContent = reportContent.replace("<tr></tr>", rows);
+        Files.writeString(summaryReport.toPath(), reportContent, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.report;
+
+import static org.openhab.tools.analysis.report.ReportUtil.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.xml.stream.XMLStreamException;
+
+/**
+ * Append-only store for the reports that make up the summary report. Each bundle report is stored as a separate
+ * segment file and its name is appended to a manifest, so adding a bundle costs the same regardless of the number of
+ * bundles that were already added. The segments are only read and merged when the summary is rendered.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+final class SummaryStore {
+
+    private final Path segmentsDirectory;
+    private final Path manifest;
+
+    SummaryStore(File summaryReportDirectory) {
+        segmentsDirectory = summaryReportDirectory.toPath().resolve(SUMMARY_SEGMENTS_DIR_NAME);
+        manifest = segmentsDirectory.resolve(SUMMARY_MANIFEST_FILE_NAME);
+    }
+
+    /**
+     * @return <code>true</code> if at least one segment was appended to the store
+     */
+    boolean exists() {
+        return Files.exists(manifest);
+    }
+
+    /**
+     * Stores a copy of a merged bundle report as new segment. The segment is written atomically, so it can be written
+     * concurrently with other segments without any locking. It becomes part of the summary when it is added to the
+     * manifest with {@link #appendToManifest(List)}.
+     *
+     * @param bundleName the name of the bundle the report belongs to
+     * @param mergedReport the merged XML report of the bundle
+     * @return the name of the segment
+     */
+    String writeSegment(String bundleName, File mergedReport) throws IOException {
+        Files.createDirectories(segmentsDirectory);
+
+        String segmentName = String.format("%s-%08x.xml", bundleName,
+                Objects.requireNonNull(mergedReport.getAbsoluteFile().getParent()).hashCode());
+        Path segment = segmentsDirectory.resolve(segmentName);
+        Path tempSegment = Files.createTempFile(segmentsDirectory, segmentName, ".tmp");
+        try {
+            Files.copy(mergedReport.toPath(), tempSegment, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(tempSegment, segment, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempSegment);
+        }
+        return segmentName;
+    }
+
+    /**
+     * Registers written segments in the manifest. Must only be called by a single writer at a time, see
+     * {@link SummaryCollector}.
+     *
+     * @param segmentNames the names of the segments to register
+     */
+    void appendToManifest(List<String> segmentNames) throws IOException {
+        Files.createDirectories(segmentsDirectory);
+
+        StringBuilder lines = new StringBuilder();
+        segmentNames.forEach(segmentName -> lines.append(segmentName).append('\n'));
+        Files.writeString(manifest, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND);
+    }
+
+    /**
+     * @return the segments that are registered in the manifest in the order they were appended
+     */
+    List<File> getSegments() throws IOException {
+        if (!exists()) {
+            return List.of();
+        }
+
+        // The manifest may be appended while it is read, so only complete lines are used
+        String content = Files.readString(manifest, StandardCharsets.UTF_8);
+        content = content.substring(0, content.lastIndexOf('\n') + 1);
+
+        // A bundle that is analyzed more than once only has the latest version of its segment
+        Set<String> segmentNames = new LinkedHashSet<>();
+        for (String line : content.split("\n")) {
+            if (!line.isBlank()) {
+                segmentNames.add(line.trim());
+            }
+        }
+
+        List<File> segments = new ArrayList<>(segmentNames.size());
+        for (String segmentName : segmentNames) {
+            segments.add(segmentsDirectory.resolve(segmentName).toFile());
+        }
+        return segments;
+    }
+
+    /**
+     * Reads all segments into one report.
+     */
+    AnalysisReport read() throws IOException, XMLStreamException {
+        AnalysisReportReader reader = new AnalysisReportReader();
+        AnalysisReport report = new AnalysisReport();
+        for (File segment : getSegments()) {
+            reader.readMerged(segment, report);
+        }
+        return report;
+    }
+}
@@ -14,6 +14,11 @@ package org.openhab.tools.analysis.tools;
 
 import static org.twdata.maven.mojoexecutor.MojoExecutor.*;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
@@ -24,14 +29,26 @@ import org.apache.maven.plugin.logging.Log;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.codehaus.plexus.util.FileUtils;
 import org.codehaus.plexus.util.xml.Xpp3Dom;
+import org.openhab.tools.analysis.tools.internal.ParallelCheckstyleExecutor;
+
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
 
 /**
  * Executes the
  * <a href="https://maven.apache.org/components/plugins/maven-checkstyle-plugin/">maven-checkstyle-
- * plugin</a> with a predefined ruleset file and configuration properties
+ * plugin</a> with a predefined ruleset file and configuration properties.
+ * <p>
+ * With {@link #nativeExecution} Checkstyle is run directly in the Maven JVM by the
+ * {@link ParallelCheckstyleExecutor}, which checks the files on several threads and writes the same result file.
+ * With {@link #incremental} only the files that have changed since the previous execution are checked.
  *
  * @author Svilen Valkanov - Initial contribution
+ * @author openHAB Contributors - Native parallel execution
+ * @author openHAB Contributors - Incremental native execution
  */
 @Mojo(name = "checkstyle", requiresDependencyResolution = ResolutionScope.COMPILE, threadSafe = true)
 public class CheckstyleChecker extends AbstractChecker {
@@ -68,6 +85,27 @@ public class CheckstyleChecker extends AbstractChecker {
     @Parameter(property = "checkstyle.ruleset.properties")
     private String checkstyleProperties;
 
+    /**
+     * Runs Checkstyle directly instead of the maven-checkstyle-plugin, checking the files on multiple threads. Only
+     * the checks of Checkstyle and of the openHAB custom checks are available, so the maven-checkstyle-plugin is still
+     * used if {@link #checkstylePlugins} are configured.
+     */
+    @Parameter(property = "checkstyle.native", defaultValue = "false")
+    private boolean nativeExecution;
+
+    /**
+     * The number of threads used by the native execution, 0 uses one thread per available processor
+     */
+    @Parameter(property = "checkstyle.threads", defaultValue = "0")
+    private int checkstyleThreads;
+
+    /**
+     * Stores the results of the native execution in a manifest next to the result file, so the next execution only
+     * checks the files that have changed
+     */
+    @Parameter(property = "checkstyle.incremental", defaultValue = "true")
+    private boolean incremental;
+
     /**
      * Location of the properties file that contains configuration options for the
      * maven-checkstyle-plugin
@@ -97,6 +135,15 @@ public class CheckstyleChecker extends AbstractChecker {
 
     private static final String CHECKSTYLE_RULE_SET_PROPERTIES_PROPERTY = "checkstyle.properties.location";
 
+    private static final String MANIFEST_FILE_NAME = "checkstyle-manifest.xml";
+
+    // Properties of the maven-checkstyle-plugin that are evaluated by the native execution
+    private static final String CHECKSTYLE_OUTPUT_FILE_PROPERTY = "checkstyle.output.file";
+    private static final String CHECKSTYLE_INCLUDES_PROPERTY = "checkstyle.includes";
+    private static final String CHECKSTYLE_EXCLUDES_PROPERTY = "checkstyle.excludes";
+    private static final String CHECKSTYLE_CONSOLE_PROPERTY = "checkstyle.console";
+    private static final String BUILD_DIRECTORY_EXPRESSION = "${project.build.directory}";
+
     @Override
     public void execute() throws MojoExecutionException {
         Log log = getLog();
@@ -116,15 +163,25 @@ public class CheckstyleChecker extends AbstractChecker {
             userProps.setProperty(CHECKSTYLE_RULE_SET_PROPERTIES_PROPERTY, rulesetProperties);
         }
 
+        String baseDir = mavenProject.getBasedir().toString();
+        if (baseDir.contains("AddJarsMojo")) {
+            baseDir += "/../..";
+        }
+
+        if (nativeExecution) {
+            if (checkstylePlugins.isEmpty()) {
+                executeNative(userProps, ruleset, suppression, baseDir);
+                return;
+            }
+            log.warn("Native Checkstyle execution does not support additional checkstylePlugins, "
+                    + "running the maven-checkstyle-plugin instead");
+        }
+
         checkstylePlugins.add(dependency("org.openhab.tools.sat.custom-checks", "checkstyle", plugin.getVersion()));
         // Maven may load an older version, if no version is specified
         checkstylePlugins.add(dependency("com.puppycrawl.tools", "checkstyle", "12.3.0"));
         checkstylePlugins.forEach(logDependency());
 
-        String baseDir = mavenProject.getBasedir().toString();
-        if (baseDir.contains("AddJarsMojo")) {
-            baseDir += "/../..";
-        }
         Xpp3Dom config = configuration(element("sourceDirectories", element("sourceDirectory", baseDir)));
 
         executeCheck(MAVEN_CHECKSTYLE_PLUGIN_GROUP_ID, MAVEN_CHECKSTYLE_PLUGIN_ARTIFACT_ID, checkstyleMavenVersion,
@@ -132,4 +189,65 @@ public class CheckstyleChecker extends AbstractChecker {
 
         log.debug("Checkstyle execution has been finished.");
     }
+
+    private void executeNative(Properties userProps, String ruleset, String suppression, String baseDir)
+            throws MojoExecutionException {
+        Log log = getLog();
+        Properties expansionProperties = new Properties();
+        expansionProperties.putAll(userProps);
+        if (checkstyleProperties != null) {
+            try (InputStream in = Files.newInputStream(Path.of(getLocation(checkstyleProperties, "")))) {
+                expansionProperties.load(in);
+            } catch (IOException e) {
+                throw new MojoExecutionException("Can't load the Checkstyle ruleset properties " + checkstyleProperties,
+                        e);
+            }
+        }
+
+        String outputFileName = userProps.getProperty(CHECKSTYLE_OUTPUT_FILE_PROPERTY);
+        if (outputFileName == null) {
+            throw new MojoExecutionException("The property " + CHECKSTYLE_OUTPUT_FILE_PROPERTY
+                    + " is required for the native Checkstyle execution");
+        }
+        String buildDirectory = mavenProject.getBuild().getDirectory();
+        File outputFile = new File(outputFileName.replace(BUILD_DIRECTORY_EXPRESSION, buildDirectory));
+        String encoding = mavenProject.getProperties().getProperty("project.build.sourceEncoding", "UTF-8");
+        int threads = checkstyleThreads > 0 ? checkstyleThreads : Runtime.getRuntime().availableProcessors();
+
+        try {
+            List<File> files = FileUtils.getFiles(new File(baseDir),
+                    userProps.getProperty(CHECKSTYLE_INCLUDES_PROPERTY),
+                    userProps.getProperty(CHECKSTYLE_EXCLUDES_PROPERTY));
+            // Sorted files keep the files of a directory in the same partition
+            files.sort(null);
+            log.debug("Checking " + files.size() + " files with " + threads + " threads");
+
+            ParallelCheckstyleExecutor executor = new ParallelCheckstyleExecutor(threads,
+                    getClass().getClassLoader());
+            if (incremental) {
+                executor.setManifestFile(new File(outputFile.getParentFile(), MANIFEST_FILE_NAME));
+            }
+            List<AuditEvent> events = executor.execute(ruleset, suppression, expansionProperties, files, encoding,
+                    outputFile);
+
+            if (Boolean.parseBoolean(userProps.getProperty(CHECKSTYLE_CONSOLE_PROPERTY))) {
+                events.forEach(this::logEvent);
+            }
+            log.info("Checkstyle found " + events.size() + " violations in " + files.size() + " files ("
+                    + executor.getCheckedFileCount() + " checked)");
+        } catch (IOException | CheckstyleException e) {
+            throw new MojoExecutionException("Native Checkstyle execution failed", e);
+        }
+        log.debug("Checkstyle execution has been finished.");
+    }
+
+    private void logEvent(AuditEvent event) {
+        String message = event.getFileName() + ":" + event.getLine() + ": " + event.getMessage() + " ["
+                + event.getSourceName().substring(event.getSourceName().lastIndexOf('.') + 1) + "]";
+        if (event.getSeverityLevel() == SeverityLevel.ERROR) {
+            getLog().error(message);
+        } else {
+            getLog().warn(message);
+        }
+    }
 }
@@ -100,6 +100,7 @@ public class PmdChecker extends AbstractChecker {
         Xpp3Dom configuration = configuration(
                 element("targetDirectory", userProps.getProperty("pmd.custom.targetDirectory")),
                 element("compileSourceRoots", userProps.getProperty("pmd.custom.compileSourceRoots")),
+                element("analysisCacheLocation", userProps.getProperty("pmd.custom.analysisCacheLocation")),
                 element("rulesets", element("ruleset", defaultRulesetLocation),
                         element("ruleset", customRulesetLocation)));
         pmdPlugins.add(dependency("org.openhab.tools.sat.custom-checks", "pmd", plugin.getVersion()));
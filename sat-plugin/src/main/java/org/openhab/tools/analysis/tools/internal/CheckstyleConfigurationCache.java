@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.tools.internal;
+
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.puppycrawl.tools.checkstyle.ConfigurationLoader;
+import com.puppycrawl.tools.checkstyle.DefaultConfiguration;
+import com.puppycrawl.tools.checkstyle.PropertiesExpander;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.Configuration;
+import com.puppycrawl.tools.checkstyle.api.FilterSet;
+import com.puppycrawl.tools.checkstyle.filters.SuppressionsLoader;
+
+/**
+ * Cache of parsed Checkstyle configurations and suppressions, so the ruleset of a build is only parsed once and not
+ * again for every module.
+ * <p>
+ * The cache is a static field, so it lives as long as the class loader of the plugin. Maven keeps this class loader
+ * for all modules of a build, and the Maven Daemon keeps it between builds, so a daemon works with warm
+ * configurations. The entries are keyed by the locations and a hash of the content of the configuration files and
+ * of the properties, so a changed ruleset is parsed again. The cached configurations are only read by the checkers,
+ * so they can be shared by concurrent executions.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+final class CheckstyleConfigurationCache {
+
+    /**
+     * The number of configurations kept in the cache. A build uses a single configuration, more are only created when
+     * a daemon runs builds with different rulesets.
+     */
+    private static final int MAX_SIZE = 8;
+
+    private static final String FILTER_MODULE_SUFFIX = "Filter";
+
+    private static final ConcurrentMap<String, LoadedConfiguration> CONFIGURATIONS = new ConcurrentHashMap<>();
+
+    private CheckstyleConfigurationCache() {
+        // Hidden utility class constructor
+    }
+
+    /**
+     * Returns the parsed configuration. The configuration is loaded when it is not yet cached. Concurrent requests
+     * for the same configuration wait for a single load.
+     *
+     * @param key the locations and a hash of the content of the configuration files and of the properties
+     * @param configLocation the location of the Checkstyle configuration (path or URL)
+     * @param suppressionsLocation the location of the suppressions file (path or URL) or <code>null</code>
+     * @param properties the properties used to expand the configuration
+     * @return the parsed configuration
+     * @throws CheckstyleException if the configuration or the suppressions can not be loaded
+     */
+    static LoadedConfiguration get(String key, String configLocation, String suppressionsLocation,
+            Properties properties) throws CheckstyleException {
+        if (CONFIGURATIONS.size() >= MAX_SIZE && !CONFIGURATIONS.containsKey(key)) {
+            CONFIGURATIONS.clear();
+        }
+        try {
+            return CONFIGURATIONS.computeIfAbsent(key,
+                    k -> load(configLocation, suppressionsLocation, new PropertiesExpander(properties)));
+        } catch (UncheckedCheckstyleException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static LoadedConfiguration load(String configLocation, String suppressionsLocation,
+            PropertiesExpander expander) {
+        try {
+            DefaultConfiguration mapConfiguration = loadConfiguration(configLocation, expander);
+            for (Configuration child : mapConfiguration.getChildren()) {
+                if (isCheck(child, ParallelCheckstyleExecutor.CROSS_FILE_CHECKS)
+                        || isCheck(child, ParallelCheckstyleExecutor.EXTERNAL_FILE_CHECKS)) {
+                    mapConfiguration.removeChild(child);
+                }
+            }
+            FilterSet suppressions = suppressionsLocation != null
+                    ? SuppressionsLoader.loadSuppressions(suppressionsLocation)
+                    : null;
+            return new LoadedConfiguration(mapConfiguration,
+                    loadChecks(configLocation, expander, ParallelCheckstyleExecutor.CROSS_FILE_CHECKS),
+                    loadChecks(configLocation, expander, ParallelCheckstyleExecutor.EXTERNAL_FILE_CHECKS),
+                    suppressions);
+        } catch (CheckstyleException e) {
+            throw new UncheckedCheckstyleException(e);
+        }
+    }
+
+    private static DefaultConfiguration loadConfiguration(String configLocation, PropertiesExpander expander)
+            throws CheckstyleException {
+        return (DefaultConfiguration) ConfigurationLoader.loadConfiguration(configLocation, expander,
+                ConfigurationLoader.IgnoredModulesOptions.OMIT);
+    }
+
+    /**
+     * @return the configuration with only the given checks and the filters or <code>null</code> if it contains none of
+     *         the checks
+     */
+    private static Configuration loadChecks(String configLocation, PropertiesExpander expander, Set<String> checks)
+            throws CheckstyleException {
+        DefaultConfiguration configuration = loadConfiguration(configLocation, expander);
+        boolean hasChecks = false;
+        for (Configuration child : configuration.getChildren()) {
+            if (isCheck(child, checks)) {
+                hasChecks = true;
+            } else if (!child.getName().endsWith(FILTER_MODULE_SUFFIX)) {
+                configuration.removeChild(child);
+            }
+        }
+        return hasChecks ? configuration : null;
+    }
+
+    private static boolean isCheck(Configuration configuration, Set<String> checks) {
+        String name = configuration.getName();
+        return checks.contains(name.substring(name.lastIndexOf('.') + 1));
+    }
+
+    /**
+     * A configuration split in the configuration of the workers, the configuration of the reduce phase and the
+     * configuration of the checks that read external files
+     */
+    static final class LoadedConfiguration {
+        private final Configuration mapConfiguration;
+        private final Configuration reduceConfiguration;
+        private final Configuration externalConfiguration;
+        private final FilterSet suppressions;
+
+        LoadedConfiguration(Configuration mapConfiguration, Configuration reduceConfiguration,
+                Configuration externalConfiguration, FilterSet suppressions) {
+            this.mapConfiguration = mapConfiguration;
+            this.reduceConfiguration = reduceConfiguration;
+            this.externalConfiguration = externalConfiguration;
+            this.suppressions = suppressions;
+        }
+
+        /**
+         * @return the configuration without the cross-file checks and the checks that read external files
+         */
+        Configuration getMapConfiguration() {
+            return mapConfiguration;
+        }
+
+        /**
+         * @return the configuration with only the cross-file checks and the filters or <code>null</code> if there are
+         *         no cross-file checks
+         */
+        Configuration getReduceConfiguration() {
+            return reduceConfiguration;
+        }
+
+        /**
+         * @return the configuration with only the checks that read external files and the filters or
+         *         <code>null</code> if there are no such checks
+         */
+        Configuration getExternalConfiguration() {
+            return externalConfiguration;
+        }
+
+        /**
+         * @return the suppressions or <code>null</code> if no suppressions file is used
+         */
+        FilterSet getSuppressions() {
+            return suppressions;
+        }
+    }
+
+    private static class UncheckedCheckstyleException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        UncheckedCheckstyleException(CheckstyleException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized CheckstyleException getCause() {
+            return (CheckstyleException) super.getCause();
+        }
+    }
+}
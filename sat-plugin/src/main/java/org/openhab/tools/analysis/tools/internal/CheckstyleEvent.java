@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.tools.internal;
+
+import java.io.File;
+
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
+import com.puppycrawl.tools.checkstyle.api.Violation;
+
+/**
+ * A violation or an exception reported by Checkstyle for a file, either reported by a check of the current execution
+ * or read from the {@link CheckstyleManifest} of a previous execution
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+final class CheckstyleEvent {
+
+    /**
+     * The message of a cached violation is used as argument of this pattern, so it is not formatted again
+     */
+    private static final String CACHED_MESSAGE_PATTERN = "{0}";
+
+    private final String fileName;
+    private final AuditEvent auditEvent;
+    private final Throwable exception;
+
+    CheckstyleEvent(AuditEvent auditEvent, Throwable exception) {
+        this.fileName = new File(auditEvent.getFileName()).getAbsolutePath();
+        this.auditEvent = auditEvent;
+        this.exception = exception;
+    }
+
+    /**
+     * Creates the event of a cached violation
+     */
+    CheckstyleEvent(String fileName, int line, int column, SeverityLevel severity, String message, String moduleId,
+            Class<?> sourceClass) {
+        this(new AuditEvent(CheckstyleEvent.class, fileName, new Violation(line, column, null, null,
+                new Object[] { message }, severity, moduleId, sourceClass, CACHED_MESSAGE_PATTERN)), null);
+    }
+
+    String getFileName() {
+        return fileName;
+    }
+
+    AuditEvent getAuditEvent() {
+        return auditEvent;
+    }
+
+    /**
+     * @return the exception thrown while the file was checked or <code>null</code> for a violation
+     */
+    Throwable getException() {
+        return exception;
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.tools.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
+
+/**
+ * The results of a Checkstyle execution, so the next execution only has to check the files that have changed.
+ * <p>
+ * The manifest contains the hash of the configuration, the content hash and the violations of each file, and the
+ * violations of the cross-file checks together with a hash of all files. The results of a file are only valid for
+ * the same configuration and content hash, the results of the cross-file checks are only valid if no file has been
+ * added, removed or changed.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+final class CheckstyleManifest {
+
+    private static final String VERSION = "2";
+
+    private static final String ROOT_ELEMENT = "checkstyle-manifest";
+    private static final String FILE_ELEMENT = "file";
+    private static final String CROSS_FILE_ELEMENT = "cross-file";
+    private static final String ERROR_ELEMENT = "error";
+
+    private final String configurationHash;
+    private final Map<String, String> fileHashes = new LinkedHashMap<>();
+    private final Map<String, List<CheckstyleEvent>> fileEvents = new HashMap<>();
+    private String crossFileHash;
+    private final List<CheckstyleEvent> crossFileEvents = new ArrayList<>();
+
+    CheckstyleManifest(String configurationHash) {
+        this.configurationHash = configurationHash;
+    }
+
+    /**
+     * Adds the results of a file
+     *
+     * @param fileName the absolute path of the file
+     * @param hash the content hash of the file
+     * @param events the violations of the file
+     */
+    void addFile(String fileName, String hash, List<CheckstyleEvent> events) {
+        fileHashes.put(fileName, hash);
+        fileEvents.put(fileName, events);
+    }
+
+    /**
+     * @return the content hash of a file or <code>null</code> if the manifest has no results for the file
+     */
+    String getFileHash(String fileName) {
+        return fileHashes.get(fileName);
+    }
+
+    /**
+     * @return the violations of a file
+     */
+    List<CheckstyleEvent> getFileEvents(String fileName) {
+        return fileEvents.getOrDefault(fileName, List.of());
+    }
+
+    void setCrossFileResults(String hash, List<CheckstyleEvent> events) {
+        crossFileHash = hash;
+        crossFileEvents.clear();
+        crossFileEvents.addAll(events);
+    }
+
+    /**
+     * @return the hash of all files the cross-file checks were executed on or <code>null</code> if they were not
+     *         executed
+     */
+    String getCrossFileHash() {
+        return crossFileHash;
+    }
+
+    List<CheckstyleEvent> getCrossFileEvents() {
+        return crossFileEvents;
+    }
+
+    /**
+     * Reads a manifest
+     *
+     * @param file the manifest file
+     * @param configurationHash the hash of the current configuration
+     * @param classLoader the class loader of the checks, which are the sources of the violations
+     * @return the manifest or <code>null</code> if it does not exist, can not be read or belongs to another
+     *         configuration
+     */
+    static CheckstyleManifest read(Path file, String configurationHash, ClassLoader classLoader) {
+        if (!Files.exists(file)) {
+            return null;
+        }
+        XMLInputFactory inputFactory = XMLInputFactory.newInstance();
+        inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            XMLStreamReader reader = inputFactory.createXMLStreamReader(inputStream);
+            try {
+                reader.nextTag();
+                if (!ROOT_ELEMENT.equals(reader.getLocalName())
+                        || !VERSION.equals(reader.getAttributeValue(null, "version"))
+                        || !configurationHash.equals(reader.getAttributeValue(null, "configuration"))) {
+                    return null;
+                }
+                CheckstyleManifest manifest = new CheckstyleManifest(configurationHash);
+                String fileName = null;
+                List<CheckstyleEvent> events = null;
+                while (reader.hasNext()) {
+                    int event = reader.next();
+                    if (event == XMLStreamConstants.START_ELEMENT) {
+                        switch (reader.getLocalName()) {
+                            case FILE_ELEMENT:
+                                fileName = reader.getAttributeValue(null, "name");
+                                events = new ArrayList<>();
+                                manifest.addFile(fileName, reader.getAttributeValue(null, "hash"), events);
+                                break;
+                            case CROSS_FILE_ELEMENT:
+                                fileName = null;
+                                manifest.crossFileHash = reader.getAttributeValue(null, "hash");
+                                events = manifest.crossFileEvents;
+                                break;
+                            case ERROR_ELEMENT:
+                                if (events != null) {
+                                    events.add(readEvent(reader, fileName, classLoader));
+                                }
+                                break;
+                            default:
+                                break;
+                        }
+                    }
+                }
+                return manifest;
+            } finally {
+                reader.close();
+            }
+        } catch (IOException | XMLStreamException | ClassNotFoundException | RuntimeException e) {
+            // An unreadable manifest is the same as no manifest, all files will be checked again
+            return null;
+        }
+    }
+
+    private static CheckstyleEvent readEvent(XMLStreamReader reader, String fileName, ClassLoader classLoader)
+            throws ClassNotFoundException, XMLStreamException {
+        String eventFileName = fileName != null ? fileName : reader.getAttributeValue(null, "file");
+        int line = Integer.parseInt(reader.getAttributeValue(null, "line"));
+        int column = Integer.parseInt(reader.getAttributeValue(null, "column"));
+        SeverityLevel severity = SeverityLevel.getInstance(reader.getAttributeValue(null, "severity"));
+        String moduleId = reader.getAttributeValue(null, "module");
+        Class<?> sourceClass = Class.forName(reader.getAttributeValue(null, "source"), false, classLoader);
+        // The message is the text of the element, because line breaks are not kept in attribute values
+        String message = reader.getElementText();
+        return new CheckstyleEvent(eventFileName, line, column, severity, message, moduleId, sourceClass);
+    }
+
+    /**
+     * Writes the manifest. The manifest is written to a temporary file first, so an interrupted build does not leave
+     * an incomplete manifest.
+     */
+    void write(Path file) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream outputStream = Files.newOutputStream(tempFile)) {
+                XMLStreamWriter writer = XMLOutputFactory.newInstance().createXMLStreamWriter(outputStream,
+                        StandardCharsets.UTF_8.name());
+                writer.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+                writer.writeStartElement(ROOT_ELEMENT);
+                writer.writeAttribute("version", VERSION);
+                writer.writeAttribute("configuration", configurationHash);
+                for (Map.Entry<String, String> entry : fileHashes.entrySet()) {
+                    writer.writeStartElement(FILE_ELEMENT);
+                    writer.writeAttribute("name", entry.getKey());
+                    writer.writeAttribute("hash", entry.getValue());
+                    for (CheckstyleEvent event : getFileEvents(entry.getKey())) {
+                        writeEvent(writer, event, false);
+                    }
+                    writer.writeEndElement();
+                }
+                if (crossFileHash != null) {
+                    writer.writeStartElement(CROSS_FILE_ELEMENT);
+                    writer.writeAttribute("hash", crossFileHash);
+                    for (CheckstyleEvent event : crossFileEvents) {
+                        writeEvent(writer, event, true);
+                    }
+                    writer.writeEndElement();
+                }
+                writer.writeEndElement();
+                writer.writeEndDocument();
+                writer.close();
+            } catch (XMLStreamException e) {
+                throw new IOException("Can't write the Checkstyle manifest " + file, e);
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private static void writeEvent(XMLStreamWriter writer, CheckstyleEvent event, boolean withFileName)
+            throws XMLStreamException {
+        AuditEvent auditEvent = event.getAuditEvent();
+        writer.writeStartElement(ERROR_ELEMENT);
+        if (withFileName) {
+            writer.writeAttribute("file", event.getFileName());
+        }
+        writer.writeAttribute("line", String.valueOf(auditEvent.getLine()));
+        writer.writeAttribute("column", String.valueOf(auditEvent.getColumn()));
+        writer.writeAttribute("severity", auditEvent.getSeverityLevel().getName());
+        if (auditEvent.getModuleId() != null) {
+            writer.writeAttribute("module", auditEvent.getModuleId());
+        }
+        writer.writeAttribute("source", auditEvent.getSourceName());
+        writer.writeCharacters(auditEvent.getMessage());
+        writer.writeEndElement();
+    }
+}
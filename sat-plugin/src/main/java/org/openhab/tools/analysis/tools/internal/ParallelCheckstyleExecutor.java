@@ -0,0 +1,541 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.tools.internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.CodeSource;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.openhab.tools.analysis.checkstyle.api.AbstractStaticCheck;
+import org.openhab.tools.analysis.report.ProfileReport;
+import org.openhab.tools.analysis.tools.internal.CheckstyleConfigurationCache.LoadedConfiguration;
+
+import com.puppycrawl.tools.checkstyle.AbstractAutomaticBean.OutputStreamOptions;
+import com.puppycrawl.tools.checkstyle.Checker;
+import com.puppycrawl.tools.checkstyle.XMLLogger;
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.AuditListener;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.Configuration;
+import com.puppycrawl.tools.checkstyle.api.FilterSet;
+import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
+
+/**
+ * Runs Checkstyle in the current JVM on several threads and writes a single XML result file.
+ * <p>
+ * The files are split in contiguous partitions of similar size, so that files of the same directory are usually
+ * processed by the same worker. Each partition is processed by its own {@link Checker} with its own check instances,
+ * so the state of a check is confined to one thread. The checks that compare multiple files and report their results
+ * in {@code finishProcessing()} - the {@link #CROSS_FILE_CHECKS} - are removed from the workers and run in a reduce
+ * phase: a separate {@link Checker} that processes all files with only these checks and the filters of the
+ * configuration. The checks whose results depend on files that are not checked - the {@link #EXTERNAL_FILE_CHECKS} -
+ * are removed from the workers as well and run in their own {@link Checker} on the {@link #EXTERNAL_FILE_NAMES}. The
+ * audit events of all checkers are merged and written in the order of the files, like a single Checkstyle run would
+ * write them.
+ * <p>
+ * If a manifest file is set, the results are stored in a {@link CheckstyleManifest} and the next execution only
+ * checks the files whose content has changed. The results of the other files are taken from the manifest. The
+ * cross-file checks are executed again if any file has been added, removed or changed. All files are checked again
+ * if the configuration, the Checkstyle version or the checks have changed, or if one of the {@link #SHARED_FILES} has
+ * changed, because the checks of other files read them. The external file checks are executed on every execution,
+ * because the manifest does not know the files they read.
+ * <p>
+ * The parsed configuration is kept in the {@link CheckstyleConfigurationCache}, so the executions of the modules of a
+ * build, and of the builds of a Maven Daemon, do not parse the ruleset again.
+ * <p>
+ * When the {@link ProfileReport} is enabled, each check is measured by a {@link ProfilingFileSetCheck}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ * @author openHAB Contributors - Skip unchanged files with a manifest
+ * @author openHAB Contributors - Reuse parsed configurations
+ * @author openHAB Contributors - Profile the file set checks
+ * @author openHAB Contributors - Run the checks that read files outside the checked files on every execution
+ */
+public class ParallelCheckstyleExecutor {
+
+    /**
+     * The simple names of the checks that collect information from all files and must see all of them
+     */
+    public static final Set<String> CROSS_FILE_CHECKS = Set.of("OhInfXmlUsageCheck", "RequiredFilesCheck",
+            "PomXmlCheck");
+
+    /**
+     * The simple names of the checks that read files which are usually not checked, e.g. the aggregate
+     * <code>feature.xml</code> in a parent directory, or that report whether a file exists, so their results can not
+     * be reused from the manifest
+     */
+    public static final Set<String> EXTERNAL_FILE_CHECKS = Set.of("KarafFeatureCheck", "KarafAddonFeatureCheck");
+
+    /**
+     * The names of the only files processed by the {@link #EXTERNAL_FILE_CHECKS}
+     */
+    static final Set<String> EXTERNAL_FILE_NAMES = Set.of("pom.xml", "feature.xml");
+
+    /**
+     * The names of the files that are read by the checks of other files, e.g. the <code>pom.xml</code> by the
+     * {@link org.openhab.tools.analysis.checkstyle.KarafAddonFeatureCheck}
+     */
+    static final Set<String> SHARED_FILES = Set.of("pom.xml");
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    private final int threads;
+    private final ClassLoader moduleClassLoader;
+    private File manifestFile;
+
+    private int checkedFileCount;
+
+    /**
+     * @param threads the number of worker threads, at least 1
+     * @param moduleClassLoader the class loader used to load the checks
+     */
+    public ParallelCheckstyleExecutor(int threads, ClassLoader moduleClassLoader) {
+        this.threads = Math.max(1, threads);
+        this.moduleClassLoader = moduleClassLoader;
+    }
+
+    /**
+     * Enables the incremental execution
+     *
+     * @param manifestFile the file where the results are stored for the next execution or <code>null</code> to check
+     *            all files
+     */
+    public void setManifestFile(File manifestFile) {
+        this.manifestFile = manifestFile;
+    }
+
+    /**
+     * @return the number of files checked by the last execution, without the files whose results were taken from the
+     *         manifest
+     */
+    public int getCheckedFileCount() {
+        return checkedFileCount;
+    }
+
+    /**
+     * Checks the files and writes the result file
+     *
+     * @param configLocation the location of the Checkstyle configuration (path or URL)
+     * @param suppressionsLocation the location of the suppressions file (path or URL) or <code>null</code>
+     * @param properties the properties used to expand the configuration
+     * @param files the files to check
+     * @param charset the name of the charset of the files
+     * @param outputFile the XML result file
+     * @return the audit events with severity error or warning in the order of the result file
+     * @throws CheckstyleException if the configuration can not be loaded or a check fails
+     * @throws IOException if the result file can not be written
+     */
+    public List<AuditEvent> execute(String configLocation, String suppressionsLocation, Properties properties,
+            List<File> files, String charset, File outputFile) throws CheckstyleException, IOException {
+        String configurationHash = hashConfiguration(configLocation, suppressionsLocation, properties, charset);
+        LoadedConfiguration configuration = CheckstyleConfigurationCache.get(
+                configLocation + "|" + suppressionsLocation + "|" + configurationHash, configLocation,
+                suppressionsLocation, properties);
+        Configuration mapConfiguration = configuration.getMapConfiguration();
+        Configuration reduceConfiguration = configuration.getReduceConfiguration();
+        Configuration externalConfiguration = configuration.getExternalConfiguration();
+        FilterSet suppressions = configuration.getSuppressions();
+        boolean hasCrossFileChecks = reduceConfiguration != null;
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            // Find the files that have to be checked and the results that can be reused
+            CheckstyleManifest previous = null;
+            CheckstyleManifest next = null;
+            Map<String, String> fileHashes = Map.of();
+            String crossFileHash = null;
+            if (manifestFile != null) {
+                fileHashes = invoke(pool, () -> hashFiles(files));
+                crossFileHash = hashAll(fileHashes);
+                previous = CheckstyleManifest.read(manifestFile.toPath(), configurationHash, moduleClassLoader);
+                next = new CheckstyleManifest(configurationHash);
+            }
+            List<File> changedFiles = getChangedFiles(files, fileHashes, previous);
+            boolean checkCrossFiles = hasCrossFileChecks
+                    && (previous == null || !Objects.equals(crossFileHash, previous.getCrossFileHash()));
+
+            List<Callable<EventCollector>> tasks = new ArrayList<>();
+            for (List<File> partition : partition(changedFiles)) {
+                tasks.add(() -> check(mapConfiguration, suppressions, charset, partition));
+            }
+            int mapTaskCount = tasks.size();
+            if (checkCrossFiles) {
+                tasks.add(() -> check(reduceConfiguration, suppressions, charset, files));
+            }
+            if (externalConfiguration != null) {
+                List<File> externalFiles = files.stream().filter(file -> EXTERNAL_FILE_NAMES.contains(file.getName()))
+                        .toList();
+                tasks.add(() -> check(externalConfiguration, suppressions, charset, externalFiles));
+            }
+            List<EventCollector> collectors = invokeAll(pool, tasks);
+            checkedFileCount = changedFiles.size();
+
+            // Merge the new results with the reused results
+            Map<String, List<CheckstyleEvent>> fileEvents = new HashMap<>();
+            for (EventCollector collector : collectors.subList(0, mapTaskCount)) {
+                for (CheckstyleEvent event : collector.events) {
+                    addEvent(fileEvents, event);
+                }
+            }
+            List<CheckstyleEvent> crossFileEvents = new ArrayList<>();
+            if (checkCrossFiles) {
+                crossFileEvents.addAll(collectors.get(mapTaskCount).events);
+            }
+            List<CheckstyleEvent> externalFileEvents = externalConfiguration != null
+                    ? collectors.get(collectors.size() - 1).events
+                    : List.of();
+            if (previous != null) {
+                Set<File> checkedFiles = new HashSet<>(changedFiles);
+                for (File file : files) {
+                    if (!checkedFiles.contains(file)) {
+                        fileEvents.put(file.getAbsolutePath(), previous.getFileEvents(file.getAbsolutePath()));
+                    }
+                }
+                if (hasCrossFileChecks && !checkCrossFiles) {
+                    crossFileEvents.addAll(previous.getCrossFileEvents());
+                }
+            }
+
+            if (next != null) {
+                updateManifest(next, files, fileHashes, fileEvents, hasCrossFileChecks, crossFileHash,
+                        crossFileEvents);
+            }
+            List<CheckstyleEvent> reportedEvents = new ArrayList<>(crossFileEvents);
+            reportedEvents.addAll(externalFileEvents);
+            return writeResults(files, fileEvents, reportedEvents, outputFile);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * @return the files that have to be checked, because they are not in the manifest or have changed
+     */
+    private List<File> getChangedFiles(List<File> files, Map<String, String> fileHashes,
+            CheckstyleManifest previous) {
+        if (previous == null) {
+            return files;
+        }
+        List<File> changedFiles = new ArrayList<>();
+        for (File file : files) {
+            String path = file.getAbsolutePath();
+            if (!Objects.requireNonNull(fileHashes.get(path)).equals(previous.getFileHash(path))) {
+                if (SHARED_FILES.contains(file.getName())) {
+                    return files;
+                }
+                changedFiles.add(file);
+            }
+        }
+        return changedFiles;
+    }
+
+    private void updateManifest(CheckstyleManifest manifest, List<File> files, Map<String, String> fileHashes,
+            Map<String, List<CheckstyleEvent>> fileEvents, boolean hasCrossFileChecks, String crossFileHash,
+            List<CheckstyleEvent> crossFileEvents) throws IOException {
+        boolean exceptionThrown = false;
+        for (File file : files) {
+            String path = file.getAbsolutePath();
+            List<CheckstyleEvent> events = fileEvents.getOrDefault(path, List.of());
+            // Files with exceptions are not stored, so they are checked again
+            if (events.stream().noneMatch(event -> event.getException() != null)) {
+                manifest.addFile(path, fileHashes.get(path), events);
+            } else {
+                exceptionThrown = true;
+            }
+        }
+        if (hasCrossFileChecks && !exceptionThrown
+                && crossFileEvents.stream().noneMatch(event -> event.getException() != null)) {
+            manifest.setCrossFileResults(crossFileHash, crossFileEvents);
+        }
+        manifest.write(manifestFile.toPath());
+    }
+
+    /**
+     * Computes a hash of everything except the files that influences the results: the configuration, the
+     * suppressions, the properties, the charset and the versions of Checkstyle and of the checks
+     */
+    private String hashConfiguration(String configLocation, String suppressionsLocation, Properties properties,
+            String charset) throws IOException {
+        MessageDigest digest = newDigest();
+        update(digest, readLocation(configLocation));
+        if (suppressionsLocation != null) {
+            update(digest, readLocation(suppressionsLocation));
+        }
+        new TreeMap<>(properties).forEach((key, value) -> update(digest,
+                (key + "=" + value + "\n").getBytes(StandardCharsets.UTF_8)));
+        update(digest, charset.getBytes(StandardCharsets.UTF_8));
+        for (Class<?> codeSourceClass : List.of(Checker.class, AbstractStaticCheck.class)) {
+            update(digest, describeCodeSource(codeSourceClass).getBytes(StandardCharsets.UTF_8));
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private byte[] readLocation(String location) throws IOException {
+        File file = new File(location);
+        if (file.isFile()) {
+            return Files.readAllBytes(file.toPath());
+        }
+        URL url;
+        try {
+            url = URI.create(location).toURL();
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Invalid location " + location, e);
+        }
+        try (InputStream inputStream = url.openStream()) {
+            return inputStream.readAllBytes();
+        }
+    }
+
+    /**
+     * @return the location of the JAR or directory of a class with its size and modification time, so a rebuilt
+     *         snapshot is detected as well
+     */
+    private String describeCodeSource(Class<?> codeSourceClass) {
+        CodeSource codeSource = codeSourceClass.getProtectionDomain().getCodeSource();
+        if (codeSource == null || codeSource.getLocation() == null) {
+            return codeSourceClass.getName();
+        }
+        try {
+            File location = new File(codeSource.getLocation().toURI());
+            return location + ":" + location.length() + ":" + location.lastModified();
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return codeSource.getLocation().toString();
+        }
+    }
+
+    private Map<String, String> hashFiles(List<File> files) {
+        return files.parallelStream().collect(Collectors.toConcurrentMap(File::getAbsolutePath, this::hashFile));
+    }
+
+    private String hashFile(File file) {
+        MessageDigest digest = newDigest();
+        try (InputStream inputStream = new DigestInputStream(Files.newInputStream(file.toPath()), digest)) {
+            inputStream.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            // A file that can not be read is always checked, Checkstyle reports the problem
+            return "unreadable:" + System.nanoTime();
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private String hashAll(Map<String, String> fileHashes) {
+        MessageDigest digest = newDigest();
+        new TreeMap<>(fileHashes).forEach((path, hash) -> update(digest,
+                (path + "=" + hash + "\n").getBytes(StandardCharsets.UTF_8)));
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(HASH_ALGORITHM + " is supported by every JVM", e);
+        }
+    }
+
+    private static void update(MessageDigest digest, byte[] bytes) {
+        digest.update(bytes);
+        // Separates the inputs, so moving bytes from one input to the next changes the hash
+        digest.update((byte) 0);
+    }
+
+    private <T> T invoke(ForkJoinPool pool, Callable<T> task) throws CheckstyleException {
+        return invokeAll(pool, List.of(task)).get(0);
+    }
+
+    private <T> List<T> invokeAll(ForkJoinPool pool, List<Callable<T>> tasks) throws CheckstyleException {
+        List<T> results = new ArrayList<>();
+        try {
+            for (Future<T> future : pool.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CheckstyleException("Checkstyle execution has been interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CheckstyleException) {
+                throw (CheckstyleException) cause;
+            }
+            throw new CheckstyleException("Checkstyle execution failed", cause);
+        }
+        return results;
+    }
+
+    /**
+     * Splits the files in at most {@link #threads} contiguous partitions with a similar number of bytes
+     */
+    List<List<File>> partition(List<File> files) {
+        long totalSize = 0;
+        for (File file : files) {
+            totalSize += file.length();
+        }
+        int count = Math.min(threads, files.size());
+        List<List<File>> partitions = new ArrayList<>(count);
+        long partitionSize = count > 0 ? totalSize / count + 1 : 0;
+        List<File> current = new ArrayList<>();
+        long currentSize = 0;
+        for (File file : files) {
+            current.add(file);
+            currentSize += file.length();
+            if (currentSize >= partitionSize && partitions.size() < count - 1) {
+                partitions.add(current);
+                current = new ArrayList<>();
+                currentSize = 0;
+            }
+        }
+        if (!current.isEmpty()) {
+            partitions.add(current);
+        }
+        return partitions;
+    }
+
+    private EventCollector check(Configuration configuration, FilterSet suppressions, String charset, List<File> files)
+            throws CheckstyleException, IOException {
+        Checker checker = ProfileReport.isEnabled() ? new ProfilingFileSetCheck.ProfilingChecker() : new Checker();
+        EventCollector collector = new EventCollector();
+        try {
+            checker.setModuleClassLoader(moduleClassLoader);
+            checker.setCharset(charset);
+            checker.configure(configuration);
+            if (suppressions != null) {
+                checker.addFilter(suppressions);
+            }
+            checker.addListener(collector);
+            checker.process(files);
+        } finally {
+            checker.destroy();
+        }
+        return collector;
+    }
+
+    private static void addEvent(Map<String, List<CheckstyleEvent>> eventsByFile, CheckstyleEvent event) {
+        List<CheckstyleEvent> events = eventsByFile.get(event.getFileName());
+        if (events == null) {
+            events = new ArrayList<>();
+            eventsByFile.put(event.getFileName(), events);
+        }
+        events.add(event);
+    }
+
+    /**
+     * @param fileEvents the events of the checked files by their path
+     * @param otherEvents the events of the cross-file and external file checks, which may be reported on other files
+     */
+    private List<AuditEvent> writeResults(List<File> files, Map<String, List<CheckstyleEvent>> fileEvents,
+            List<CheckstyleEvent> otherEvents, File outputFile) throws IOException {
+        // The files are reported in the order of the file list, followed by the files reported only by checks,
+        // e.g. missing files
+        Map<String, List<CheckstyleEvent>> eventsByFile = new LinkedHashMap<>();
+        for (File file : files) {
+            String path = file.getAbsolutePath();
+            eventsByFile.put(path, new ArrayList<>(fileEvents.getOrDefault(path, List.of())));
+        }
+        for (CheckstyleEvent event : otherEvents) {
+            addEvent(eventsByFile, event);
+        }
+
+        File outputDirectory = outputFile.getAbsoluteFile().getParentFile();
+        if (outputDirectory != null) {
+            Files.createDirectories(outputDirectory.toPath());
+        }
+        List<AuditEvent> errors = new ArrayList<>();
+        try (OutputStream out = Files.newOutputStream(outputFile.toPath())) {
+            XMLLogger logger = new XMLLogger(out, OutputStreamOptions.NONE);
+            logger.auditStarted(new AuditEvent(this));
+            for (Map.Entry<String, List<CheckstyleEvent>> entry : eventsByFile.entrySet()) {
+                logger.fileStarted(new AuditEvent(this, entry.getKey()));
+                for (CheckstyleEvent event : entry.getValue()) {
+                    if (event.getException() != null) {
+                        logger.addException(event.getAuditEvent(), event.getException());
+                    } else {
+                        logger.addError(event.getAuditEvent());
+                        if (isReported(event.getAuditEvent())) {
+                            errors.add(event.getAuditEvent());
+                        }
+                    }
+                }
+                logger.fileFinished(new AuditEvent(this, entry.getKey()));
+            }
+            logger.auditFinished(new AuditEvent(this));
+        }
+        return errors;
+    }
+
+    private boolean isReported(AuditEvent event) {
+        return event.getSeverityLevel() == SeverityLevel.ERROR || event.getSeverityLevel() == SeverityLevel.WARNING;
+    }
+
+    /**
+     * Collects the audit events of a single {@link Checker}, so it is only used by one thread
+     */
+    private static class EventCollector implements AuditListener {
+        private final List<CheckstyleEvent> events = new ArrayList<>();
+
+        @Override
+        public void auditStarted(AuditEvent event) {
+        }
+
+        @Override
+        public void auditFinished(AuditEvent event) {
+        }
+
+        @Override
+        public void fileStarted(AuditEvent event) {
+        }
+
+        @Override
+        public void fileFinished(AuditEvent event) {
+        }
+
+        @Override
+        public void addError(AuditEvent event) {
+            if (event.getFileName() != null) {
+                events.add(new CheckstyleEvent(event, null));
+            }
+        }
+
+        @Override
+        public void addException(AuditEvent event, Throwable throwable) {
+            if (event.getFileName() != null) {
+                events.add(new CheckstyleEvent(event, throwable));
+            }
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.tools.internal;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedSet;
+
+import org.openhab.tools.analysis.report.ProfileReport;
+
+import com.puppycrawl.tools.checkstyle.Checker;
+import com.puppycrawl.tools.checkstyle.DefaultConfiguration;
+import com.puppycrawl.tools.checkstyle.api.AbstractFileSetCheck;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.Configuration;
+import com.puppycrawl.tools.checkstyle.api.Context;
+import com.puppycrawl.tools.checkstyle.api.FileSetCheck;
+import com.puppycrawl.tools.checkstyle.api.FileText;
+import com.puppycrawl.tools.checkstyle.api.MessageDispatcher;
+import com.puppycrawl.tools.checkstyle.api.Violation;
+import com.puppycrawl.tools.checkstyle.utils.CommonUtil;
+
+/**
+ * Records the measurements of a {@link FileSetCheck} in the {@link ProfileReport}, so the checks themselves are not
+ * aware of the profiling. Only the files with the extensions of the check are counted.
+ * <p>
+ * The checks of the Java files are children of the <code>TreeWalker</code>, which can not measure them. The
+ * {@link ProfilingChecker} creates a <code>TreeWalker</code> for each of these checks instead, which is measured with
+ * the name of the check. The measurement of each of these checks therefore includes parsing the Java files.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+final class ProfilingFileSetCheck implements FileSetCheck {
+
+    static final String TOOL = "checkstyle";
+    static final String PROCESS = "process";
+    static final String FINISH_PROCESSING = "finishProcessing";
+
+    private final FileSetCheck check;
+    private final String name;
+    private final String[] fileExtensions;
+
+    ProfilingFileSetCheck(FileSetCheck check, String name) {
+        this.check = check;
+        this.name = name;
+        this.fileExtensions = check instanceof AbstractFileSetCheck fileSetCheck ? fileSetCheck.getFileExtensions()
+                : new String[0];
+    }
+
+    @Override
+    public SortedSet<Violation> process(File file, FileText fileText) throws CheckstyleException {
+        long startAllocatedBytes = ProfileReport.getAllocatedBytes();
+        long startTime = System.nanoTime();
+        try {
+            return check.process(file, fileText);
+        } finally {
+            ProfileReport.record(TOOL, name, PROCESS, System.nanoTime() - startTime,
+                    CommonUtil.matchesFileExtension(file, fileExtensions) ? 1 : 0,
+                    ProfileReport.getAllocatedBytes() - startAllocatedBytes);
+        }
+    }
+
+    @Override
+    public void finishProcessing() {
+        long startAllocatedBytes = ProfileReport.getAllocatedBytes();
+        long startTime = System.nanoTime();
+        try {
+            check.finishProcessing();
+        } finally {
+            ProfileReport.record(TOOL, name, FINISH_PROCESSING, System.nanoTime() - startTime, 0,
+                    ProfileReport.getAllocatedBytes() - startAllocatedBytes);
+        }
+    }
+
+    @Override
+    public void beginProcessing(String charset) {
+        check.beginProcessing(charset);
+    }
+
+    @Override
+    public void setMessageDispatcher(MessageDispatcher dispatcher) {
+        check.setMessageDispatcher(dispatcher);
+    }
+
+    @Override
+    public void init() {
+        check.init();
+    }
+
+    @Override
+    public void destroy() {
+        check.destroy();
+    }
+
+    @Override
+    public void configure(Configuration configuration) throws CheckstyleException {
+        check.configure(configuration);
+    }
+
+    @Override
+    public void contextualize(Context context) throws CheckstyleException {
+        check.contextualize(context);
+    }
+
+    /**
+     * A {@link Checker} that measures each of its file set checks and each check of its <code>TreeWalker</code>
+     */
+    static class ProfilingChecker extends Checker {
+
+        private static final String TREE_WALKER = "TreeWalker";
+        private static final String CHECK_SUFFIX = "Check";
+        private static final String FILTER_SUFFIX = "Filter";
+
+        private String treeWalkerCheckName;
+
+        @Override
+        protected void setupChild(Configuration childConf) throws CheckstyleException {
+            if (!TREE_WALKER.equals(getSimpleName(childConf))) {
+                super.setupChild(childConf);
+                return;
+            }
+            List<Configuration> filters = new ArrayList<>();
+            List<Configuration> checks = new ArrayList<>();
+            for (Configuration child : childConf.getChildren()) {
+                (child.getName().endsWith(FILTER_SUFFIX) ? filters : checks).add(child);
+            }
+            for (Configuration check : checks) {
+                DefaultConfiguration treeWalker = copy(childConf);
+                filters.forEach(treeWalker::addChild);
+                treeWalker.addChild(check);
+                String name = getSimpleName(check);
+                treeWalkerCheckName = name.endsWith(CHECK_SUFFIX) ? name : name + CHECK_SUFFIX;
+                try {
+                    super.setupChild(treeWalker);
+                } finally {
+                    treeWalkerCheckName = null;
+                }
+            }
+        }
+
+        @Override
+        public void addFileSetCheck(FileSetCheck fileSetCheck) {
+            String name = treeWalkerCheckName != null ? treeWalkerCheckName : fileSetCheck.getClass().getSimpleName();
+            super.addFileSetCheck(new ProfilingFileSetCheck(fileSetCheck, name));
+        }
+
+        /**
+         * @return a configuration with the properties and messages of a configuration, but without its children
+         */
+        private static DefaultConfiguration copy(Configuration configuration) throws CheckstyleException {
+            DefaultConfiguration copy = new DefaultConfiguration(configuration.getName());
+            for (String property : configuration.getPropertyNames()) {
+                copy.addProperty(property, configuration.getProperty(property));
+            }
+            configuration.getMessages().forEach(copy::addMessage);
+            return copy;
+        }
+
+        private static String getSimpleName(Configuration configuration) {
+            String name = configuration.getName();
+            return name.substring(name.lastIndexOf('.') + 1);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.report;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.openhab.tools.analysis.report.ReportUtil.*;
+
+import java.io.File;
+import java.net.URISyntaxException;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link AnalysisReportReader}
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+public class AnalysisReportReaderTest {
+
+    private static final String HANDLER = "org.openhab.binding.example.internal.ExampleHandler.java";
+    private static final String THING_TYPES = "org.openhab.binding.example/src/main/resources/OH-INF/thing/"
+            + "thing-types.xml";
+
+    private final AnalysisReportReader reader = new AnalysisReportReader();
+
+    @Test
+    public void assertCheckstyleErrorsAreRead() throws Exception {
+        AnalysisReport report = new AnalysisReport();
+        reader.readCheckstyle(getFixture(CHECKSTYLE_INPUT_FILE_NAME), report);
+
+        // The file without errors is not part of the report
+        assertArrayEquals(new String[] { HANDLER, THING_TYPES }, report.getFiles().keySet().toArray());
+        assertEquals(List.of(
+                new ReportMessage("checkstyle", "12", "Expected <b> & </b> in \"label\" of 'Grüße €'", "2",
+                        "AuthorTagCheck", "style", null, null),
+                new ReportMessage("checkstyle", "40", "Line contains a tab character.", "1", "FileTabCharacterCheck",
+                        "style", null, null)),
+                report.getFiles().get(HANDLER));
+        assertEquals("3", report.getFiles().get(THING_TYPES).get(0).getPriority());
+    }
+
+    @Test
+    public void assertNamespacedPmdViolationsAreRead() throws Exception {
+        AnalysisReport report = new AnalysisReport();
+        reader.readPmd(getFixture(PMD_INPUT_FILE_NAME), report);
+
+        assertArrayEquals(new String[] { HANDLER }, report.getFiles().keySet().toArray());
+        assertEquals(List.of(
+                new ReportMessage("pmd", "25",
+                        "\nThe org.slf4j.Logger logger should be used instead of <java.util.logging.Logger> & "
+                                + "\"System.out\"\n",
+                        "2", "UseSLF4JLoggerRule", "openhab rules", null,
+                        "https://example.org/rules?name=UseSLF4JLogger&lang=java"),
+                new ReportMessage("pmd", "31", "\nString.toLowerCase() uses the default locale – Größe\n", "3",
+                        "ImplicitDefaultLocale", "best practices", null,
+                        "https://example.org/rules#ImplicitDefaultLocale")),
+                report.getFiles().get(HANDLER));
+    }
+
+    @Test
+    public void assertSpotBugsInstancesAreReadWithTheirPattern() throws Exception {
+        AnalysisReport report = new AnalysisReport();
+        reader.readSpotBugs(getFixture(FINDBUGS_INPUT_FILE_NAME), report);
+
+        assertEquals(List.of(new ReportMessage("findbugs", "52",
+                "Comparison of String objects using == or != in ExampleHandler.handle(<String>) & \"more\"", "2",
+                "Comparison of String objects using == or != (ES)", "bad practice", "ES_COMPARING_STRINGS_WITH_EQ",
+                null)), report.getFiles().get(HANDLER));
+    }
+
+    @Test
+    public void assertCheckstyleSeveritiesAreMappedToPriorities() {
+        assertEquals("1", AnalysisReportReader.checkstylePriority("error"));
+        assertEquals("2", AnalysisReportReader.checkstylePriority("warning"));
+        assertEquals("3", AnalysisReportReader.checkstylePriority("info"));
+        assertEquals("NaN", AnalysisReportReader.checkstylePriority("ignore"));
+    }
+
+    @Test
+    public void assertCheckstyleFileNamesAreNormalized() {
+        assertEquals("binding/src/main/resources/OH-INF/thing/thing-types.xml", AnalysisReportReader
+                .normalizeCheckstyleFileName("C:\\git\\binding\\src\\main\\resources\\OH-INF\\thing\\thing-types.xml"));
+        assertEquals("src/pom.xml", AnalysisReportReader.normalizeCheckstyleFileName("/src/pom.xml"));
+        assertEquals("org.openhab.Foo.java",
+                AnalysisReportReader.normalizeCheckstyleFileName("/git/binding/src/main/java/org/openhab/Foo.java"));
+        assertEquals(".binding.example.build.properties",
+                AnalysisReportReader.normalizeCheckstyleFileName("/git/org.openhab.binding.example.build.properties"));
+    }
+
+    @Test
+    public void assertCategoriesAreNormalized() {
+        assertEquals("bad practice", AnalysisReportReader.normalizeCategory("BAD_PRACTICE"));
+        assertEquals("openhab rules", AnalysisReportReader.normalizeCategory("openHAB Rules"));
+    }
+
+    private File getFixture(String fileName) throws URISyntaxException {
+        return new File(getClass().getResource("/report-special-characters/" + fileName).toURI());
+    }
+}
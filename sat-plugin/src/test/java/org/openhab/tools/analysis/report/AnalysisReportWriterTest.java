@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.report;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.StringWriter;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for the {@link AnalysisReportWriter}
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+public class AnalysisReportWriterTest {
+
+    private static final String HANDLER = "org.openhab.Handler.java";
+    private static final String CONSTANTS = "org.openhab.Constants.java";
+
+    private final AnalysisReportWriter writer = new AnalysisReportWriter();
+    private final AnalysisReport report = new AnalysisReport();
+
+    private @TempDir Path tempDir;
+
+    @BeforeEach
+    public void createReport() {
+        report.addMessage(HANDLER, new ReportMessage("checkstyle", "12", "Expected <b> & \"label\" of 'Grüße €'",
+                "2", "AuthorTagCheck", "style", null, null));
+        report.addMessage(HANDLER, new ReportMessage("pmd", "25", "\n\tUse a logger\r\n", "1", "UseSLF4JLoggerRule",
+                "openhab rules", null, "https://example.org/rules?name=UseSLF4JLogger&lang=java"));
+        report.addMessage(CONSTANTS, new ReportMessage("findbugs", "3", "Field is not final", "3", "Mutable (MS)",
+                "malicious code", "MS_SHOULD_BE_FINAL", null));
+        report.addFile("org.openhab.Empty.java");
+    }
+
+    @Test
+    public void assertMergedReportIsReadBackUnchanged() throws Exception {
+        File mergedReport = tempDir.resolve(ReportUtil.RESULT_XML_FILE_NAME).toFile();
+        writer.writeXml(report, mergedReport);
+
+        AnalysisReport readReport = new AnalysisReport();
+        new AnalysisReportReader().readMerged(mergedReport, readReport);
+
+        assertEquals(report.getFiles(), readReport.getFiles());
+    }
+
+    @Test
+    public void assertMergedReportEscapesAttributes() throws Exception {
+        StringWriter xml = new StringWriter();
+        writer.writeXml(report, xml);
+
+        assertTrue(xml.toString().contains("message=\"Expected &lt;b&gt; &amp; &quot;label&quot; of 'Grüße €'\""));
+        assertTrue(xml.toString().contains("message=\"&#10;&#9;Use a logger&#13;&#10;\""));
+        assertTrue(xml.toString().contains("rule_url=\"https://example.org/rules?name=UseSLF4JLogger&amp;lang=java\""));
+        assertTrue(xml.toString().contains("<file name=\"org.openhab.Empty.java\">"));
+    }
+
+    @Test
+    public void assertHtmlReportContainsSummariesAndDetails() throws Exception {
+        StringWriter html = new StringWriter();
+        writer.writeHtml(report, html);
+        String content = html.toString();
+
+        // Summary of the rules, with a link to the rule documentation
+        assertTrue(content.contains("<td>pmd</td><td align=\"left\">1</td><td> <a href=\""));
+        // Summary of the files and the total counts per priority
+        assertTrue(content.contains("<a href=\"#" + HANDLER + "\" title=\"" + HANDLER + "\">" + HANDLER + "</a></td>"
+                + "<td align=\"center\"><div class=\"p1\">1</div></td><td align=\"center\"><div class=\"p2\">1</div>"
+                + "</td><td align=\"center\"><div class=\"p3\">0</div></td><td align=\"center\"><div class=\"p3\">2"
+                + "</div></td>"));
+        assertTrue(content.contains("<tr class=\"dark\"><td></td><td align=\"center\"><div class=\"p1\">1</div></td>"
+                + "<td align=\"center\"><div class=\"p2\">1</div></td><td align=\"center\"><div class=\"p3\">1</div>"
+                + "</td><td align=\"center\"><div class=\"p3\">3</div></td></tr>"));
+        // Details with the escaped messages, the messages of a file sorted by priority
+        assertTrue(content.contains("<td>Expected &lt;b&gt; &amp; &quot;label&quot; of 'Grüße €'</td>"));
+        assertTrue(content.lastIndexOf("UseSLF4JLoggerRule</td>") < content.lastIndexOf("AuthorTagCheck</td>"));
+        // Files are listed in alphabetical order
+        assertTrue(content.indexOf("<a name=\"" + CONSTANTS + "\">") < content.indexOf("<a name=\"" + HANDLER + "\">"));
+    }
+
+    @Test
+    public void assertSpecialCharactersAreEscaped() {
+        assertEquals("&lt;a href=&quot;x&quot;&gt; &amp; 'y'", AnalysisReportWriter.escape("<a href=\"x\"> & 'y'"));
+        assertEquals("unchanged", AnalysisReportWriter.escape("unchanged"));
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.report;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.openhab.tools.analysis.report.ReportUtil.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for the {@link AnalyzeMojo}
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+public class AnalyzeMojoTest {
+
+    private static final Path RESULTS_DIRECTORY = Path.of("target", "test-classes", "report");
+
+    private @TempDir Path targetDirectory;
+    private @TempDir Path expectedDirectory;
+
+    private final List<AnalyzeMojo.Tool> executedTools = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void assertToolsRunOneAfterAnotherByDefault() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AnalyzeMojo subject = new AnalyzeMojo() {
+            @Override
+            void executeTool(Tool tool) throws MojoExecutionException {
+                assertEquals(1, running.incrementAndGet(), "The tools are executed concurrently");
+                try {
+                    executedTools.add(tool);
+                    copyResults(tool, targetDirectory);
+                } catch (IOException e) {
+                    throw new MojoExecutionException(e.getMessage(), e);
+                } finally {
+                    running.decrementAndGet();
+                }
+            }
+        };
+        configure(subject, targetDirectory);
+        subject.execute();
+
+        assertEquals(List.of(AnalyzeMojo.Tool.values()), executedTools);
+        assertEquals(createExpectedReport(), Files.readString(targetDirectory.resolve(RESULT_XML_FILE_NAME)));
+    }
+
+    @Test
+    public void assertToolsRunConcurrentlyAndReportDoesNotDependOnCompletionOrder() throws Exception {
+        // Every tool waits until all tools have been started and the tools finish in reverse order
+        CountDownLatch started = new CountDownLatch(AnalyzeMojo.Tool.values().length);
+        Map<AnalyzeMojo.Tool, CountDownLatch> finished = new ConcurrentHashMap<>();
+        for (AnalyzeMojo.Tool tool : AnalyzeMojo.Tool.values()) {
+            finished.put(tool, new CountDownLatch(1));
+        }
+        AnalyzeMojo subject = new AnalyzeMojo() {
+            @Override
+            void executeTool(Tool tool) throws MojoExecutionException {
+                try {
+                    started.countDown();
+                    assertTrue(started.await(10, TimeUnit.SECONDS), "The tools are not executed concurrently");
+                    if (tool.ordinal() < Tool.values().length - 1) {
+                        assertTrue(finished.get(Tool.values()[tool.ordinal() + 1]).await(10, TimeUnit.SECONDS));
+                    }
+                    copyResults(tool, targetDirectory);
+                    finished.get(tool).countDown();
+                } catch (InterruptedException | IOException e) {
+                    throw new MojoExecutionException(e.getMessage(), e);
+                }
+            }
+        };
+        configure(subject, targetDirectory);
+        subject.setParallel(true);
+        subject.execute();
+
+        assertEquals(createExpectedReport(), Files.readString(targetDirectory.resolve(RESULT_XML_FILE_NAME)));
+        assertTrue(Files.exists(targetDirectory.resolve(RESULT_FILE_NAME)));
+    }
+
+    @Test
+    public void assertFailingToolStopsTheAnalysis() {
+        AnalyzeMojo subject = new FailingAnalyzeMojo(AnalyzeMojo.Tool.SPOTBUGS);
+        configure(subject, targetDirectory);
+
+        MojoFailureException exception = assertThrows(MojoFailureException.class, subject::execute);
+        assertTrue(exception.getMessage().contains("spotbugs failed"));
+        assertEquals(List.of(AnalyzeMojo.Tool.PMD, AnalyzeMojo.Tool.SPOTBUGS), executedTools);
+        assertFalse(Files.exists(targetDirectory.resolve(RESULT_FILE_NAME)));
+    }
+
+    @Test
+    public void assertFailingToolFailsTheParallelAnalysisWhenAllToolsAreDone() {
+        AnalyzeMojo subject = new FailingAnalyzeMojo(AnalyzeMojo.Tool.PMD);
+        configure(subject, targetDirectory);
+        subject.setParallel(true);
+
+        MojoFailureException exception = assertThrows(MojoFailureException.class, subject::execute);
+        assertTrue(exception.getMessage().contains("pmd failed"));
+        assertEquals(AnalyzeMojo.Tool.values().length, executedTools.size());
+        assertFalse(Files.exists(targetDirectory.resolve(RESULT_FILE_NAME)));
+    }
+
+    @Test
+    public void assertOnlySelectedToolsAreExecuted() throws Exception {
+        AnalyzeMojo subject = new FailingAnalyzeMojo(null);
+        configure(subject, targetDirectory);
+        subject.setTools(" checkstyle,,PMD ");
+        subject.execute();
+
+        assertEquals(List.of(AnalyzeMojo.Tool.PMD, AnalyzeMojo.Tool.CHECKSTYLE), executedTools);
+    }
+
+    @Test
+    public void assertNoReportIsCreatedWithoutResults() throws Exception {
+        AnalyzeMojo subject = new FailingAnalyzeMojo(null);
+        configure(subject, targetDirectory);
+        subject.execute();
+
+        assertEquals(AnalyzeMojo.Tool.values().length, executedTools.size());
+        assertFalse(Files.exists(targetDirectory.resolve(RESULT_FILE_NAME)));
+        assertFalse(Files.exists(targetDirectory.resolve(RESULT_XML_FILE_NAME)));
+    }
+
+    @Test
+    public void assertUnknownToolIsRejected() {
+        AnalyzeMojo subject = new FailingAnalyzeMojo(null);
+        configure(subject, targetDirectory);
+        subject.setTools("checkstyle,lint");
+
+        assertThrows(MojoFailureException.class, subject::execute);
+        assertTrue(executedTools.isEmpty());
+    }
+
+    private String createExpectedReport() throws Exception {
+        ReportMojo reportMojo = new ReportMojo();
+        configure(reportMojo, expectedDirectory);
+        for (AnalyzeMojo.Tool tool : AnalyzeMojo.Tool.values()) {
+            copyResults(tool, expectedDirectory);
+        }
+        reportMojo.execute();
+        return Files.readString(expectedDirectory.resolve(RESULT_XML_FILE_NAME));
+    }
+
+    private void configure(ReportMojo mojo, Path directory) {
+        mojo.setLog(new SystemStreamLog());
+        mojo.setTargetDirectory(directory.toFile());
+        mojo.setSummaryReport(null);
+        mojo.setFailOnError(false);
+        mojo.setReportInMaven(false);
+        mojo.setReportEngine(ReportEngine.STREAMING);
+        if (mojo instanceof AnalyzeMojo analyzeMojo) {
+            analyzeMojo.setTools("checkstyle,pmd,spotbugs");
+        }
+    }
+
+    private void copyResults(AnalyzeMojo.Tool tool, Path directory) throws IOException {
+        Files.copy(RESULTS_DIRECTORY.resolve(tool.getResultFileName()), directory.resolve(tool.getResultFileName()));
+    }
+
+    /**
+     * Records the executed tools without creating results and fails the execution of a tool
+     */
+    private class FailingAnalyzeMojo extends AnalyzeMojo {
+        private final Tool failingTool;
+
+        FailingAnalyzeMojo(Tool failingTool) {
+            this.failingTool = failingTool;
+        }
+
+        @Override
+        void executeTool(Tool tool) throws MojoExecutionException {
+            executedTools.add(tool);
+            if (tool == failingTool) {
+                throw new MojoExecutionException(tool.getGoal() + " failed");
+            }
+        }
+    }
+}
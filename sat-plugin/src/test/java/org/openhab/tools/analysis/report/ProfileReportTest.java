@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.report;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for the {@link ProfileReport}
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+public class ProfileReportTest {
+
+    private static final String FAST_CHECK = "checkstyle/FastCheck/finishProcessing";
+    private static final String SLOW_CHECK = "checkstyle/SlowCheck/process";
+    private static final String SLOW_RULE = "pmd/SlowRule/apply";
+
+    private @TempDir Path tempDir;
+
+    @AfterEach
+    public void removeMeasurements() {
+        ProfileReport.getMeasurements().keySet().removeAll(List.of(FAST_CHECK, SLOW_CHECK, SLOW_RULE));
+    }
+
+    @Test
+    public void assertMeasurementsAreWrittenSlowestFirst() throws Exception {
+        record(FAST_CHECK, 1_000_000, 200, 2, 4096);
+        record(SLOW_CHECK, 9_000_000, 2, 2, 2048);
+        record(SLOW_RULE, 5_000_000, 40, 2, 1024);
+
+        File htmlFile = ProfileReport.write(tempDir.toFile());
+        assertNotNull(htmlFile);
+
+        String json = Files.readString(tempDir.resolve(ProfileReport.JSON_FILE_NAME), StandardCharsets.UTF_8);
+        assertTrue(json.contains("{\"tool\": \"checkstyle\", \"check\": \"SlowCheck\", \"phase\": \"process\", "
+                + "\"invocations\": 2, \"files\": 2, \"timeNanos\": 9000000, \"allocatedBytes\": 2048}"));
+        assertTrue(json.indexOf("SlowCheck") < json.indexOf("SlowRule"));
+        assertTrue(json.indexOf("SlowRule") < json.indexOf("FastCheck"));
+
+        String html = Files.readString(htmlFile.toPath(), StandardCharsets.UTF_8);
+        assertTrue(html.contains("<td>pmd</td><td>SlowRule</td><td>apply</td><td align=\"right\">5</td>"));
+    }
+
+    @Test
+    public void assertResetMeasurementsAreNotWritten() throws Exception {
+        record(FAST_CHECK, 1_000_000, 200, 2, 4096);
+        AtomicLongArray measurement = ProfileReport.getMeasurements().get(FAST_CHECK);
+
+        ProfileReport.reset();
+
+        assertSame(measurement, ProfileReport.getMeasurements().get(FAST_CHECK));
+        assertTrue(ProfileReport.getResults().stream().noneMatch(result -> "FastCheck".equals(result.getCheck())));
+    }
+
+    @Test
+    public void assertRecordedInvocationsAreAdded() {
+        ProfileReport.record("checkstyle", "SlowCheck", "process", 4_000_000, 1, 512);
+        ProfileReport.record("checkstyle", "SlowCheck", "process", 5_000_000, 1, 1024);
+
+        assertEquals("[9000000, 2, 2, 1536]", String.valueOf(ProfileReport.getMeasurements().get(SLOW_CHECK)));
+    }
+
+    @Test
+    public void assertMeasurementsKeyIsTheKeyOfTheCheckProfilers() {
+        // The profilers of the custom PMD rules and SpotBugs detectors can not reference the key
+        assertEquals("org.openhab.tools.analysis.report.ProfileReport.MEASUREMENTS", ProfileReport.MEASUREMENTS_KEY);
+    }
+
+    private void record(String key, long wallTime, long invocations, long files, long allocatedBytes) {
+        AtomicLongArray measurement = Objects.requireNonNull(ProfileReport.getMeasurements().computeIfAbsent(key,
+                k -> new AtomicLongArray(4)));
+        measurement.addAndGet(0, wallTime);
+        measurement.addAndGet(1, invocations);
+        measurement.addAndGet(2, files);
+        measurement.addAndGet(3, allocatedBytes);
+    }
+}
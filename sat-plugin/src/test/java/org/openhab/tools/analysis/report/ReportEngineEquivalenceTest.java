@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.report;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.openhab.tools.analysis.report.ReportUtil.RESULT_FILE_NAME;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugin.logging.Log;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Tests that the {@link ReportEngine#XSLT} and the {@link ReportEngine#STREAMING} engine create the same merged XML
+ * report and the same HTML report for the same tool results
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+public class ReportEngineEquivalenceTest {
+
+    private static final Pattern CHARSET = Pattern.compile("charset=([\\w-]+)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern TIMESTAMP = Pattern.compile("<h2>Report \\([^)]*\\)</h2>");
+    private static final Pattern FILE_HEADER = Pattern.compile("<tr>(<th align=\"left\" colspan=\"6\">.*?</th>)</tr>");
+    private static final Pattern NUMERIC_REFERENCE = Pattern.compile("&#(x?)([0-9a-fA-F]+);");
+
+    private @Mock Log logger;
+    private @TempDir Path tempDir;
+
+    @ParameterizedTest
+    @ValueSource(strings = { "report", "report-special-characters" })
+    public void assertMergedReportsAreEqual(String fixture) throws Exception {
+        EngineResult xslt = createReport(ReportEngine.XSLT, fixture);
+        EngineResult streaming = createReport(ReportEngine.STREAMING, fixture);
+
+        assertEquals(describe(parse(xslt.mergedReport)), describe(parse(streaming.mergedReport)));
+        assertEquals(xslt.report.getFiles(), streaming.report.getFiles());
+    }
+
+    @Test
+    public void assertSpecialCharactersAreKept() throws Exception {
+        for (ReportEngine engine : ReportEngine.values()) {
+            EngineResult result = createReport(engine, "report-special-characters");
+
+            String merged = describe(parse(result.mergedReport)).toString();
+            assertTrue(merged.contains("Expected <b> & </b> in \"label\" of 'Grüße €'"), engine.name());
+            assertTrue(merged.contains("message=\nThe org.slf4j.Logger logger should be used"), engine.name());
+            assertTrue(normalizeHtml(result.htmlReport).contains("Expected &lt;b&gt; &amp; &lt;/b&gt; in \"label\" of "
+                    + "'Grüße €'"), engine.name());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "report", "report-special-characters" })
+    public void assertHtmlReportsAreEqual(String fixture) throws Exception {
+        EngineResult xslt = createReport(ReportEngine.XSLT, fixture);
+        EngineResult streaming = createReport(ReportEngine.STREAMING, fixture);
+
+        assertEquals(normalizeHtml(xslt.htmlReport), normalizeHtml(streaming.htmlReport));
+    }
+
+    private EngineResult createReport(ReportEngine engine, String fixture) throws Exception {
+        Path targetDirectory = tempDir.resolve(engine.name()).resolve(fixture);
+        Files.createDirectories(targetDirectory);
+        Path fixtureDirectory = Path.of(getClass().getResource("/" + fixture).toURI());
+        try (Stream<Path> files = Files.list(fixtureDirectory)) {
+            for (Path file : files.toList()) {
+                Files.copy(file, targetDirectory.resolve(file.getFileName()));
+            }
+        }
+
+        CapturingReportMojo mojo = new CapturingReportMojo();
+        mojo.setLog(logger);
+        mojo.setReportEngine(engine);
+        mojo.setFailOnError(false);
+        mojo.setFailOnWarning(false);
+        mojo.setFailOnInfo(false);
+        mojo.setSummaryReport(null);
+        mojo.setReportInMaven(false);
+        mojo.setTargetDirectory(targetDirectory.toFile());
+        mojo.execute();
+
+        assertNotNull(mojo.result, "No report created by the " + engine + " engine");
+        mojo.result.htmlReport = Files.readAllBytes(targetDirectory.resolve(RESULT_FILE_NAME));
+        return mojo.result;
+    }
+
+    private static Document parse(byte[] xml) throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        return factory.newDocumentBuilder().parse(new ByteArrayInputStream(xml));
+    }
+
+    /**
+     * Describes the messages of each file with their sorted attributes. The XSLT engine creates a <code>file</code>
+     * element per tool and declares the namespaces of its stylesheets, so the elements of a file are combined and
+     * the namespace declarations are ignored.
+     */
+    private static Map<String, List<String>> describe(Document document) {
+        Map<String, List<String>> messagesByFile = new TreeMap<>();
+        NodeList files = document.getDocumentElement().getElementsByTagName("file");
+        for (int i = 0; i < files.getLength(); i++) {
+            Element file = (Element) files.item(i);
+            List<String> messages = messagesByFile.computeIfAbsent(file.getAttribute("name"),
+                    name -> new ArrayList<>());
+            NodeList fileMessages = file.getElementsByTagName("message");
+            for (int j = 0; j < fileMessages.getLength(); j++) {
+                messages.add(describe((Element) fileMessages.item(j)));
+            }
+        }
+        return messagesByFile;
+    }
+
+    private static String describe(Element message) {
+        Map<String, String> attributes = new TreeMap<>();
+        NamedNodeMap attributeNodes = message.getAttributes();
+        for (int i = 0; i < attributeNodes.getLength(); i++) {
+            Node attribute = attributeNodes.item(i);
+            if (!XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(attribute.getNamespaceURI())) {
+                attributes.put(attribute.getNodeName(), attribute.getNodeValue());
+            }
+        }
+        return attributes.toString();
+    }
+
+    /**
+     * Decodes an HTML report with the charset of its content type and removes the formatting, the timestamp and
+     * the differences of the HTML serializers
+     */
+    private static String normalizeHtml(byte[] html) {
+        String ascii = new String(html, StandardCharsets.ISO_8859_1);
+        Matcher charsetMatcher = CHARSET.matcher(ascii);
+        Charset charset = charsetMatcher.find() ? Charset.forName(charsetMatcher.group(1)) : StandardCharsets.UTF_8;
+        String content = new String(html, charset);
+
+        content = content.substring(content.indexOf("<h2>"), content.lastIndexOf("</body>"));
+        content = TIMESTAMP.matcher(content.replaceAll("\\s+", " ").replace("> <", "><").trim()).replaceAll("");
+        content = content.replace("&apos;", "'").replace("&#39;", "'").replace("&quot;", "\"");
+        // The XSLT engine omits the row of the file headers, which the browsers add implicitly
+        content = FILE_HEADER.matcher(content).replaceAll("$1");
+        Matcher referenceMatcher = NUMERIC_REFERENCE.matcher(content);
+        StringBuilder builder = new StringBuilder();
+        while (referenceMatcher.find()) {
+            int codePoint = Integer.parseInt(referenceMatcher.group(2), referenceMatcher.group(1).isEmpty() ? 10 : 16);
+            referenceMatcher.appendReplacement(builder, Matcher.quoteReplacement(Character.toString(codePoint)));
+        }
+        referenceMatcher.appendTail(builder);
+        return builder.toString().replace("><", ">\n<");
+    }
+
+    private static class EngineResult {
+        private final AnalysisReport report;
+        private final byte[] mergedReport;
+        private byte[] htmlReport;
+
+        EngineResult(AnalysisReport report, byte[] mergedReport) {
+            this.report = report;
+            this.mergedReport = mergedReport;
+        }
+    }
+
+    /**
+     * Keeps the merged report, which the XSLT engine deletes after publishing the report
+     */
+    private static class CapturingReportMojo extends ReportMojo {
+        private EngineResult result;
+
+        @Override
+        void publishReport(AnalysisReport report, File htmlOutputFileName, File mergedReport)
+                throws MojoFailureException {
+            try {
+                result = new EngineResult(report, Files.readAllBytes(mergedReport.toPath()));
+            } catch (IOException e) {
+                throw new MojoFailureException("Can not read " + mergedReport, e);
+            }
+            super.publishReport(report, htmlOutputFileName, mergedReport);
+        }
+    }
+}
@@ -23,10 +23,10 @@ import java.util.stream.Stream;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugin.logging.Log;
 import org.junit.jupiter.api.BeforeEach;
-import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -90,10 +90,12 @@ public class ReportMojoTest {
                 arguments(true, true, false, true), arguments(true, true, true, true));
     }
 
-    @Test
-    public void assertWarningAreLoggedWhileExecuting() throws MojoFailureException {
+    @ParameterizedTest
+    @EnumSource(ReportEngine.class)
+    public void assertWarningAreLoggedWhileExecuting(ReportEngine reportEngine) throws MojoFailureException {
         assertFalse(resultFile.exists());
 
+        subject.setReportEngine(reportEngine);
         subject.setFailOnError(false);
         subject.setSummaryReport(null);
         subject.setTargetDirectory(new File(TARGET_ABSOLUTE_DIR));
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.report;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.openhab.tools.analysis.report.ReportUtil.CREATE_HTML_XSLT;
+
+import javax.xml.transform.Templates;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerFactory;
+
+import org.junit.jupiter.api.Test;
+
+import net.sf.saxon.TransformerFactoryImpl;
+
+/**
+ * Tests for the {@link StylesheetCache}
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+public class StylesheetCacheTest {
+
+    private final ClassLoader classLoader = getClass().getClassLoader();
+
+    @Test
+    public void assertStylesheetIsCompiledOnce() throws Exception {
+        Templates templates1 = StylesheetCache.getTemplates(newTransformerFactory(), classLoader, CREATE_HTML_XSLT);
+        Templates templates2 = StylesheetCache.getTemplates(newTransformerFactory(), classLoader, CREATE_HTML_XSLT);
+
+        assertSame(templates1, templates2);
+        assertNotNull(templates1.newTransformer());
+    }
+
+    @Test
+    public void assertMissingStylesheetIsReported() {
+        assertThrows(TransformerConfigurationException.class,
+                () -> StylesheetCache.getTemplates(newTransformerFactory(), classLoader, "report/missing.xslt"));
+    }
+
+    private TransformerFactory newTransformerFactory() {
+        return TransformerFactory.newInstance(TransformerFactoryImpl.class.getName(), classLoader);
+    }
+}
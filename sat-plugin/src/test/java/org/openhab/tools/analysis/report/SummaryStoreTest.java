@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.report;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.openhab.tools.analysis.report.ReportUtil.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for the {@link SummaryStore} and the {@link SummaryCollector}
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+public class SummaryStoreTest {
+
+    private @TempDir Path tempDir;
+
+    @Test
+    public void assertSegmentsAreAppendedAndReadInOrder() throws Exception {
+        SummaryStore summaryStore = new SummaryStore(tempDir.resolve("summary").toFile());
+        assertFalse(summaryStore.exists());
+
+        append(summaryStore, "bundle1", createMergedReport("bundle1", "Foo.java", 2));
+        append(summaryStore, "bundle2", createMergedReport("bundle2", "Bar.java", 3));
+        assertTrue(summaryStore.exists());
+        assertEquals(2, summaryStore.getSegments().size());
+
+        AnalysisReport report = summaryStore.read();
+        assertEquals(5, report.getMessageCount());
+        assertArrayEquals(new String[] { "Foo.java", "Bar.java" }, report.getFiles().keySet().toArray());
+    }
+
+    @Test
+    public void assertReanalyzedBundleReplacesItsSegment() throws Exception {
+        SummaryStore summaryStore = new SummaryStore(tempDir.resolve("summary").toFile());
+
+        append(summaryStore, "bundle1", createMergedReport("bundle1", "Foo.java", 2));
+        append(summaryStore, "bundle1", createMergedReport("bundle1", "Foo.java", 1));
+
+        assertEquals(1, summaryStore.getSegments().size());
+        assertEquals(1, summaryStore.read().getMessageCount());
+    }
+
+    @Test
+    public void assertSubmittedContributionsArePersisted() throws Exception {
+        File summaryDirectory = tempDir.resolve("summary").toFile();
+        SummaryStore summaryStore = new SummaryStore(summaryDirectory);
+
+        String segment1 = summaryStore.writeSegment("bundle1", createMergedReport("bundle1", "Foo.java", 2));
+        String segment2 = summaryStore.writeSegment("bundle2", createMergedReport("bundle2", "Bar.java", 0));
+        SummaryCollector.submit(summaryDirectory, segment1, "bundle1", "bundle1/target/report.html");
+        SummaryCollector.submit(summaryDirectory, segment2, "bundle2", null);
+
+        assertEquals(2, summaryStore.getSegments().size());
+        String bundlesSummary = Files.readString(summaryDirectory.toPath().resolve(SUMMARY_BUNDLES_FILE_NAME));
+        assertTrue(bundlesSummary.contains("<a href=\"bundle1/target/report.html\">bundle1</a>"));
+        assertFalse(bundlesSummary.contains("bundle2"));
+    }
+
+    @Test
+    public void assertContributionsAreKeptWhenTheyCannotBePersisted() throws Exception {
+        File summaryDirectory = tempDir.resolve("summary").toFile();
+        // A file in place of the summary directory lets the writer fail
+        Files.writeString(summaryDirectory.toPath(), "");
+
+        assertThrows(IOException.class, () -> SummaryCollector.submit(summaryDirectory, "bundle1.xml", "bundle1",
+                "bundle1/target/report.html"));
+
+        Files.delete(summaryDirectory.toPath());
+        assertEquals(1, SummaryCollector.flush());
+        assertEquals(List.of(new File(summaryDirectory, SUMMARY_SEGMENTS_DIR_NAME + "/bundle1.xml")),
+                new SummaryStore(summaryDirectory).getSegments());
+        String bundlesSummary = Files.readString(summaryDirectory.toPath().resolve(SUMMARY_BUNDLES_FILE_NAME));
+        assertTrue(bundlesSummary.contains("<a href=\"bundle1/target/report.html\">bundle1</a>"));
+    }
+
+    private void append(SummaryStore summaryStore, String bundleName, File mergedReport) throws IOException {
+        summaryStore.appendToManifest(List.of(summaryStore.writeSegment(bundleName, mergedReport)));
+    }
+
+    private File createMergedReport(String bundleName, String fileName, int messageCount) throws IOException {
+        StringBuilder xml = new StringBuilder("<sca><file name=\"" + fileName + "\">");
+        for (int i = 0; i < messageCount; i++) {
+            xml.append("<message tool=\"checkstyle\" line=\"").append(i)
+                    .append("\" message=\"message\" priority=\"2\" rule=\"Rule\" category=\"style\"/>");
+        }
+        xml.append("</file></sca>");
+
+        Path reportDirectory = Files.createDirectories(tempDir.resolve(bundleName).resolve("target"));
+        Path mergedReport = reportDirectory.resolve(RESULT_XML_FILE_NAME);
+        Files.writeString(mergedReport, xml, StandardCharsets.UTF_8);
+        return mergedReport.toFile();
+    }
+}
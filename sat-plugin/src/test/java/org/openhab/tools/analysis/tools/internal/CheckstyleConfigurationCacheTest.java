@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.tools.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openhab.tools.analysis.tools.internal.CheckstyleConfigurationCache.LoadedConfiguration;
+
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+
+/**
+ * Tests for the {@link CheckstyleConfigurationCache}
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+public class CheckstyleConfigurationCacheTest {
+
+    private static final String CONFIGURATION = """
+            <?xml version="1.0"?>
+            <!DOCTYPE module PUBLIC "-//Puppy Crawl//DTD Check Configuration 1.3//EN"
+                "https://checkstyle.org/dtds/configuration_1_3.dtd">
+            <module name="Checker">
+              <module name="NewlineAtEndOfFile"/>
+              <module name="org.openhab.tools.analysis.checkstyle.RequiredFilesCheck">
+                <property name="requiredFiles" value="README.md"/>
+              </module>
+            </module>
+            """;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void assertConfigurationIsParsedOnce() throws Exception {
+        String location = writeConfiguration().toString();
+
+        LoadedConfiguration configuration1 = CheckstyleConfigurationCache.get("parsed-once", location, null,
+                new Properties());
+        LoadedConfiguration configuration2 = CheckstyleConfigurationCache.get("parsed-once", location, null,
+                new Properties());
+        LoadedConfiguration otherConfiguration = CheckstyleConfigurationCache.get("changed", location, null,
+                new Properties());
+
+        assertSame(configuration1, configuration2);
+        assertNotSame(configuration1, otherConfiguration);
+        assertEquals(1, configuration1.getMapConfiguration().getChildren().length);
+        assertEquals(1, configuration1.getReduceConfiguration().getChildren().length);
+        assertNull(configuration1.getSuppressions());
+    }
+
+    @Test
+    public void assertInvalidConfigurationIsReported() throws Exception {
+        Path configuration = directory.resolve("invalid.xml");
+        Files.writeString(configuration, "<module");
+
+        assertThrows(CheckstyleException.class, () -> CheckstyleConfigurationCache.get("invalid",
+                configuration.toString(), null, new Properties()));
+    }
+
+    private Path writeConfiguration() throws Exception {
+        Path configuration = directory.resolve("checkstyle.xml");
+        Files.writeString(configuration, CONFIGURATION);
+        return configuration;
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.tools.analysis.tools.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+
+/**
+ * Tests for the {@link ParallelCheckstyleExecutor}
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+public class ParallelCheckstyleExecutorTest {
+
+    private static final String CONFIGURATION = """
+            <?xml version="1.0"?>
+            <!DOCTYPE module PUBLIC "-//Puppy Crawl//DTD Check Configuration 1.3//EN"
+                "https://checkstyle.org/dtds/configuration_1_3.dtd">
+            <module name="Checker">
+              <module name="NewlineAtEndOfFile">
+                <property name="fileExtensions" value="${test.extensions}"/>
+              </module>
+              <module name="org.openhab.tools.analysis.checkstyle.RequiredFilesCheck">
+                <property name="extensions" value="md,txt"/>
+                <property name="requiredFiles" value="README.md,pom.xml"/>
+              </module>
+              <module name="TreeWalker">
+                <module name="EmptyStatement"/>
+                <module name="UpperEll"/>
+              </module>
+            </module>
+            """;
+
+    private static final String FEATURE_CONFIGURATION = """
+            <?xml version="1.0"?>
+            <!DOCTYPE module PUBLIC "-//Puppy Crawl//DTD Check Configuration 1.3//EN"
+                "https://checkstyle.org/dtds/configuration_1_3.dtd">
+            <module name="Checker">
+              <module name="org.openhab.tools.analysis.checkstyle.KarafFeatureCheck">
+                <property name="featureXmlPath" value="features/feature.xml"/>
+              </module>
+            </module>
+            """;
+
+    private static final String POM = """
+            <project>
+              <groupId>org.openhab.addons.bundles</groupId>
+              <artifactId>org.openhab.binding.test</artifactId>
+            </project>
+            """;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void assertResultsDoNotDependOnThreads() throws Exception {
+        List<File> files = createFiles();
+
+        File singleThreadResult = directory.resolve("single.xml").toFile();
+        List<AuditEvent> singleThreadEvents = execute(1, files, singleThreadResult);
+        File multiThreadResult = directory.resolve("multi.xml").toFile();
+        List<AuditEvent> multiThreadEvents = execute(4, files, multiThreadResult);
+
+        assertEquals(4, singleThreadEvents.size());
+        assertEquals(messages(singleThreadEvents), messages(multiThreadEvents));
+        assertEquals(Files.readString(singleThreadResult.toPath()), Files.readString(multiThreadResult.toPath()));
+    }
+
+    @Test
+    public void assertCrossFileChecksAreReportedOnce() throws Exception {
+        List<AuditEvent> events = execute(4, createFiles(), directory.resolve("result.xml").toFile());
+
+        List<String> messages = messages(events);
+        assertEquals(1, messages.stream().filter(message -> message.contains("Missing pom.xml")).count());
+        assertFalse(messages.stream().anyMatch(message -> message.contains("Missing README.md")));
+    }
+
+    @Test
+    public void assertIncrementalExecutionOnlyChecksChangedFiles() throws Exception {
+        List<File> files = createFiles();
+        File manifest = directory.resolve("manifest.xml").toFile();
+        File fullResult = directory.resolve("full.xml").toFile();
+        File incrementalResult = directory.resolve("incremental.xml").toFile();
+
+        ParallelCheckstyleExecutor executor = createExecutor(2, manifest);
+        List<AuditEvent> firstEvents = execute(executor, files, incrementalResult);
+        assertEquals(files.size(), executor.getCheckedFileCount());
+
+        write("file1.txt", "fixed\n");
+        List<AuditEvent> incrementalEvents = execute(executor, files, incrementalResult);
+        assertEquals(1, executor.getCheckedFileCount());
+        assertEquals(firstEvents.size() - 1, incrementalEvents.size());
+
+        List<AuditEvent> fullEvents = execute(2, files, fullResult);
+        assertEquals(messages(fullEvents), messages(incrementalEvents));
+        assertEquals(Files.readString(fullResult.toPath()), Files.readString(incrementalResult.toPath()));
+
+        execute(executor, files, incrementalResult);
+        assertEquals(0, executor.getCheckedFileCount());
+        assertEquals(Files.readString(fullResult.toPath()), Files.readString(incrementalResult.toPath()));
+    }
+
+    @Test
+    public void assertSharedFilesAndConfigurationInvalidateTheManifest() throws Exception {
+        List<File> files = createFiles();
+        files.add(write("pom.xml", "<project/>\n"));
+        File manifest = directory.resolve("manifest.xml").toFile();
+        File result = directory.resolve("result.xml").toFile();
+
+        ParallelCheckstyleExecutor executor = createExecutor(2, manifest);
+        execute(executor, files, result);
+        write("pom.xml", "<project></project>\n");
+        execute(executor, files, result);
+        assertEquals(files.size(), executor.getCheckedFileCount());
+
+        Properties properties = createProperties();
+        properties.setProperty("test.extensions", "txt,md");
+        executor.execute(writeConfiguration().toString(), null, properties, files, "UTF-8", result);
+        assertEquals(files.size(), executor.getCheckedFileCount());
+    }
+
+    @Test
+    public void assertChecksOfExternalFilesAreExecutedAgain() throws Exception {
+        Files.createDirectories(directory.resolve("features"));
+        write("features/feature.xml", "<features><feature/></features>\n");
+        Files.createDirectories(directory.resolve("bundle"));
+        List<File> files = List.of(write("bundle/pom.xml", POM));
+        String configuration = writeConfiguration("feature-checkstyle.xml", FEATURE_CONFIGURATION).toString();
+        File result = directory.resolve("result.xml").toFile();
+
+        // The feature file is not checked, so it is not in the manifest
+        ParallelCheckstyleExecutor executor = createExecutor(2, directory.resolve("manifest.xml").toFile());
+        List<AuditEvent> events = executor.execute(configuration, null, createProperties(), files, "UTF-8", result);
+        assertEquals(1, events.size());
+        assertTrue(messages(events).get(0).contains("must be added"));
+
+        write("features/feature.xml", """
+                <features>
+                  <feature>
+                    <bundle>mvn:org.openhab.addons.bundles/org.openhab.binding.test/${project.version}</bundle>
+                  </feature>
+                </features>
+                """);
+        events = executor.execute(configuration, null, createProperties(), files, "UTF-8", result);
+        assertEquals(0, executor.getCheckedFileCount());
+        assertEquals(List.of(), messages(events));
+    }
+
+    @Test
+    public void assertProfiledFileSetChecksReportTheSameResults() throws Exception {
+        List<File> files = createFiles();
+        files.add(write("Test.java", "class Test {\n    long value = 1l;\n}\n"));
+        List<AuditEvent> events = execute(2, files, directory.resolve("result.xml").toFile());
+
+        List<AuditEvent> profiledEvents;
+        System.setProperty("sat.profile", "true");
+        try {
+            profiledEvents = execute(2, files, directory.resolve("profiled.xml").toFile());
+        } finally {
+            System.clearProperty("sat.profile");
+        }
+
+        assertEquals(messages(events), messages(profiledEvents));
+        assertTrue(messages(profiledEvents).stream().anyMatch(message -> message.startsWith("Test.java")));
+        AtomicLongArray newlineAtEndOfFile = getMeasurement("checkstyle/NewlineAtEndOfFileCheck/process");
+        assertEquals(files.size(), newlineAtEndOfFile.get(1));
+        // Only the text files have the extension of the check
+        assertEquals(3, newlineAtEndOfFile.get(2));
+        assertTrue(newlineAtEndOfFile.get(3) > 0);
+        assertTrue(getMeasurement("checkstyle/RequiredFilesCheck/finishProcessing").get(1) > 0);
+        // The checks of the TreeWalker are measured separately
+        assertEquals(1, getMeasurement("checkstyle/UpperEllCheck/process").get(2));
+        assertEquals(1, getMeasurement("checkstyle/EmptyStatementCheck/process").get(2));
+    }
+
+    @Test
+    public void assertPartitionsAreContiguous() throws Exception {
+        List<File> files = createFiles();
+        List<List<File>> partitions = new ParallelCheckstyleExecutor(2, getClass().getClassLoader())
+                .partition(files);
+
+        assertEquals(2, partitions.size());
+        List<File> joined = new ArrayList<>();
+        partitions.forEach(joined::addAll);
+        assertEquals(files, joined);
+    }
+
+    private List<File> createFiles() throws IOException {
+        List<File> files = new ArrayList<>();
+        files.add(write("README.md", "# Readme\n"));
+        for (int i = 0; i < 3; i++) {
+            files.add(write("file" + i + ".txt", "no newline " + i));
+        }
+        return files;
+    }
+
+    private File write(String name, String content) throws IOException {
+        Path file = directory.resolve(name);
+        Files.writeString(file, content);
+        return file.toFile();
+    }
+
+    private List<AuditEvent> execute(int threads, List<File> files, File outputFile) throws Exception {
+        return execute(createExecutor(threads, null), files, outputFile);
+    }
+
+    private List<AuditEvent> execute(ParallelCheckstyleExecutor executor, List<File> files, File outputFile)
+            throws Exception {
+        return executor.execute(writeConfiguration().toString(), null, createProperties(), files, "UTF-8",
+                outputFile);
+    }
+
+    private ParallelCheckstyleExecutor createExecutor(int threads, File manifestFile) {
+        ParallelCheckstyleExecutor executor = new ParallelCheckstyleExecutor(threads, getClass().getClassLoader());
+        executor.setManifestFile(manifestFile);
+        return executor;
+    }
+
+    private Path writeConfiguration() throws IOException {
+        return writeConfiguration("checkstyle.xml", CONFIGURATION);
+    }
+
+    private Path writeConfiguration(String name, String content) throws IOException {
+        Path configuration = directory.resolve(name);
+        Files.writeString(configuration, content);
+        return configuration;
+    }
+
+    private Properties createProperties() {
+        Properties properties = new Properties();
+        properties.setProperty("test.extensions", "txt");
+        return properties;
+    }
+
+    private AtomicLongArray getMeasurement(String key) {
+        @SuppressWarnings("unchecked")
+        Map<String, AtomicLongArray> measurements = Objects.requireNonNull((Map<String, AtomicLongArray>) System
+                .getProperties().get("org.openhab.tools.analysis.report.ProfileReport.MEASUREMENTS"));
+        return Objects.requireNonNull(measurements.get(key), key);
+    }
+
+    private List<String> messages(List<AuditEvent> events) {
+        return events.stream().map(event -> new File(event.getFileName()).getName() + ": " + event.getMessage())
+                .toList();
+    }
+}